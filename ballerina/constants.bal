@@ -101,9 +101,40 @@ public const int MQGMO_FAIL_IF_QUIESCING = 8192;
 # Requests the application data to be converted.
 public const int MQGMO_CONVERT = 16384;
 
+# Return the messages of a group and the segments of a message in their logical order, instead of the physical order
+# on the queue.
+public const int MQGMO_LOGICAL_ORDER = 32768;
+
+# Return only a complete logical message. The segments of a segmented message are reassembled into one message.
+public const int MQGMO_COMPLETE_MSG = 65536;
+
+# Return a message of a group only when all the messages of the group are available on the queue.
+public const int MQGMO_ALL_MSGS_AVAILABLE = 131072;
+
+# Return a segment only when all the segments of the logical message are available on the queue.
+public const int MQGMO_ALL_SEGMENTS_AVAILABLE = 262144;
+
 # Subscribe Option create
 public const int MQSO_CREATE = 2;
 
+# The message can not be broken into segments by the queue manager.
+public const int MQMF_SEGMENTATION_INHIBITED = 0;
+
+# The message can be broken into segments by the queue manager when it is too large for a queue or a channel.
+public const int MQMF_SEGMENTATION_ALLOWED = 1;
+
+# The message is a segment of a logical message.
+public const int MQMF_SEGMENT = 2;
+
+# The message is the last segment of a logical message.
+public const int MQMF_LAST_SEGMENT = 4;
+
+# The message is a member of a group.
+public const int MQMF_MSG_IN_GROUP = 8;
+
+# The message is the last logical message of a group.
+public const int MQMF_LAST_MSG_IN_GROUP = 16;
+
 # Encoding for normal integer representation (most significant byte first) or the big-endian format.
 public const int MQENC_INTEGER_NORMAL = 1;
 
@@ -208,6 +239,15 @@ public const int MQPMO_RESOLVE_LOCAL_Q = 262144;
 # application waiting for the queue manager to complete the call.
 public const int MQPMO_ASYNC_RESPONSE = 65536;
 
+# The operation completed successfully.
+public const int MQCC_OK = 0;
+
+# The operation completed with a warning.
+public const int MQCC_WARNING = 1;
+
+# The operation failed.
+public const int MQCC_FAILED = 2;
+
 // SSL cipher suite related constants
 
 # SSL cipher suite using ECDHE-ECDSA for key exchange with 3DES encryption and SHA integrity.
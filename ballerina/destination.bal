@@ -56,6 +56,63 @@ public isolated client class Queue {
         'class: "io.ballerina.lib.ibm.ibmmq.Queue"
     } external;
 
+    # Creates a writer which puts the data written to it to this queue as the segments of a single logical message.
+    # ```ballerina
+    # ibmmq:SegmentWriter writer = check queue.createSegmentWriter({payload: []}, segmentSize = 65536);
+    # ```
+    #
+    # + message - The message whose descriptor fields are set in the segments, and whose properties and headers are
+    # set in the first segment. Its payload is the beginning of the data of the logical message
+    # + options - The options of the writer
+    # + return - The `ibmmq:SegmentWriter` or an `ibmmq:Error` if the payload of the message could not be put
+    public isolated function createSegmentWriter(Message message, *SegmentWriterOptions options)
+            returns SegmentWriter|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.SegmentWriter"
+    } external;
+
+    # Retrieves the messages of the next complete message group from an IBM MQ queue. The messages are got with the
+    # `ibmmq:MQGMO_ALL_MSGS_AVAILABLE` and `ibmmq:MQGMO_LOGICAL_ORDER` options, hence a group is only returned once
+    # all of its messages are on the queue. A message which is not in a group is returned as a group of its own.
+    # The `ibmmq:MQGMO_SYNCPOINT` option is required, so that the messages already got are returned to the queue by
+    # backing out the unit of work when the rest of the group can not be got.
+    # ```ballerina
+    # ibmmq:Message[]? messages = check queue->getGroup(options = ibmmq:MQGMO_SYNCPOINT);
+    # check queueManager.'commit();
+    # ```
+    #
+    # + getMessageOptions - Options to control the retrieval of the first message of the group
+    # + return - The messages of the group in their logical order, `()` if there is no complete group in the queue or
+    #           else `ibmmq:Error` if the operation fails
+    isolated remote function getGroup(*GetMessageOptions getMessageOptions) returns Message[]|Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Queue"
+    } external;
+
+    # Creates a writer which puts the messages written to it to this queue as the messages of a single group.
+    # ```ballerina
+    # ibmmq:GroupWriter writer = queue.createGroupWriter();
+    # ```
+    #
+    # + options - The options of the writer
+    # + return - The `ibmmq:GroupWriter`
+    public isolated function createGroupWriter(*GroupWriterOptions options) returns GroupWriter =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.GroupWriter"
+    } external;
+
+    # Retrieves the name of the IBM MQ queue. For a dynamic queue created from a model queue, this is the name of the
+    # created queue.
+    # ```ballerina
+    # string queueName = queue.getName();
+    # ```
+    #
+    # + return - The name of the queue
+    public isolated function getName() returns string =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Queue"
+    } external;
+
     # Closes the IBM MQ queue object. No further operations on this object are permitted after it is closed.
     # ```ballerina
     # check queue->close();
@@ -100,6 +157,7 @@ public isolated client class Topic {
     } external;
 
     # Closes the IBM MQ topic object. No further operations on this object are permitted after it is closed.
+    # The JMS connection, session and producer created by `send` are closed as well.
     # ```ballerina
     # check topic->close();
     # ```
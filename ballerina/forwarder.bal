@@ -0,0 +1,102 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/jballerina.java;
+
+# The transformation applied by an `ibmmq:Forwarder` to each forwarded message. The returned message is put to all
+# the output destinations, returning `()` drops the message and returning an error backs out the batch.
+public type TransformFunction isolated function (Message message) returns Message|error?;
+
+# Configurations of an `ibmmq:Forwarder`.
+#
+# + batchSize - The maximum number of messages processed within a single unit of work
+# + batchTimeout - The maximum time (in seconds) to wait for the messages of a batch once its first message is received
+# + waitInterval - The time (in seconds) to wait for a message when the input queue is empty
+# + maxBackoutCount - The number of times a batch containing a message which can not be transformed is backed out
+# before that message is moved to the `backoutQueue`
+# + backoutQueue - The queue to which the messages which can not be transformed are moved. If not set, a batch
+# containing such a message is retried until the transformation succeeds
+public type ForwarderConfiguration record {|
+    int batchSize = 100;
+    decimal batchTimeout = 1;
+    decimal waitInterval = 5;
+    int maxBackoutCount = 3;
+    Queue backoutQueue?;
+|};
+
+# Forwards the messages of an IBM MQ queue to one or more destinations after transforming them. The messages of a
+# batch are got, transformed and put under a single syncpoint, which is committed once the batch is complete, so that
+# each message is forwarded exactly once within the queue manager. The messages of a batch are transformed
+# concurrently.
+#
+# The input and the output destinations must be accessed from the same `ibmmq:QueueManager`. Since a unit of work
+# spans the whole queue manager connection and the waiting gets of the forwarder block the other operations of that
+# connection, a dedicated `ibmmq:QueueManager` should be used for a forwarder.
+public isolated class Forwarder {
+    private final TransformFunction transformFunction;
+
+    # Initializes an IBM MQ forwarder.
+    # ```ballerina
+    # ibmmq:Forwarder forwarder = check new (input, [output], enrich, batchSize = 500);
+    # ```
+    #
+    # + input - The queue from which the messages are got
+    # + outputs - The destinations to which the transformed messages are put
+    # + transform - The transformation applied to each message
+    # + configurations - The configurations of the forwarder
+    # + return - An `ibmmq:Error` if the initialization failed
+    public isolated function init(Queue input, (Queue|Topic)[] outputs, TransformFunction transform,
+            *ForwarderConfiguration configurations) returns Error? {
+        self.transformFunction = transform;
+        check self.externInit(input, outputs, configurations);
+    }
+
+    isolated function externInit(Queue input, (Queue|Topic)[] outputs, ForwarderConfiguration configurations)
+        returns Error? = @java:Method {
+        name: "init",
+        'class: "io.ballerina.lib.ibm.ibmmq.Forwarder"
+    } external;
+
+    // This method is invoked by the native forwarder to transform a message.
+    isolated function transform(Message message) returns Message|error? {
+        TransformFunction transformFunction = self.transformFunction;
+        return transformFunction(message);
+    }
+
+    # Starts forwarding the messages in the background.
+    # ```ballerina
+    # check forwarder.'start();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the forwarder has already been started
+    public isolated function 'start() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Forwarder"
+    } external;
+
+    # Stops forwarding the messages. The batch which is in progress is completed before the function returns. If the
+    # batch is not completed within 30 seconds in addition to the `batchTimeout` and the `waitInterval`, an error is
+    # returned and the batch is completed in the background.
+    # ```ballerina
+    # check forwarder.stop();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the forwarder could not be stopped in time
+    public isolated function stop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Forwarder"
+    } external;
+}
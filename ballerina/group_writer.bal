@@ -0,0 +1,60 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Options of an `ibmmq:GroupWriter`.
+#
+# + options - Options controlling the put of the messages of the group. Can be a combination of one or more
+# `ibmmq:MQPMO_*` options and values can combined using either '+' or '|'
+public type GroupWriterOptions record {|
+    int options = MQPMO_NO_SYNCPOINT;
+|};
+
+# Puts the messages written to it to an IBM MQ queue as the messages of a single logical message group. Each
+# message is put with the group identifier of the writer and the next message sequence number, and the last message
+# is flagged as such when the writer is closed. The messages of the group are got together with the `getGroup`
+# function of the queue.
+#
+# Unless the messages are put with the `ibmmq:MQPMO_SYNCPOINT` option and committed once the writer is closed, a
+# failure leaves an incomplete group on the queue, which is never returned by the `getGroup` function.
+public isolated client class GroupWriter {
+
+    # Adds a message to the group. The previously written message is put to the queue, as a message is held back
+    # until it is known whether it is the last message of the group.
+    # ```ballerina
+    # check writer->write({payload: "Hello World".toBytes()});
+    # ```
+    #
+    # + message - IBM MQ message
+    # + return - An `ibmmq:Error` if the previous message could not be put or the writer is closed, or else `()`
+    isolated remote function write(Message message) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.GroupWriter"
+    } external;
+
+    # Puts the last written message as the last message of the group. Nothing is put if no message was written. No
+    # further messages can be written once the writer is closed.
+    # ```ballerina
+    # check writer->close();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the last message could not be put or the writer is already closed, or else `()`
+    isolated remote function close() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.GroupWriter"
+    } external;
+}
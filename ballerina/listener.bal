@@ -22,7 +22,7 @@ public isolated class Listener {
     # Initializes the IBMMQ listener.
     # + configurations - The configurations to be used when initializing the IBMMQ listener
     # + return - An error if the initialization failed, nil otherwise
-    public isolated function init(*QueueManagerConfiguration configurations) returns Error? {
+    public isolated function init(*ListenerConfiguration configurations) returns Error? {
         return self.initListener(configurations);
     }
 
@@ -47,7 +47,8 @@ public isolated class Listener {
         'class: "io.ballerina.lib.ibm.ibmmq.listener.Listener"
     } external;
 
-    # Gracefully stops the IBMMQ listener.
+    # Gracefully stops the IBMMQ listener. The listener stops receiving new messages and waits for the in-flight
+    # messages to be processed until the configured `gracefulStopTimeout` elapses, before closing the sessions.
     # + return - An error if the stopping failed, nil otherwise
     public isolated function gracefulStop() returns Error? = @java:Method {
         'class: "io.ballerina.lib.ibm.ibmmq.listener.Listener"
@@ -59,7 +60,13 @@ public isolated class Listener {
         'class: "io.ballerina.lib.ibm.ibmmq.listener.Listener"
     } external;
 
-    isolated function initListener(QueueManagerConfiguration configurations) returns Error? = @java:Method {
+    # Retrieves the client-side metrics of the queues and topics consumed by the services attached to the listener.
+    # + return - The metrics of the consumed destinations
+    public isolated function getMetrics() returns DestinationMetrics[] = @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.listener.Listener"
+    } external;
+
+    isolated function initListener(ListenerConfiguration configurations) returns Error? = @java:Method {
         name: "init",
         'class: "io.ballerina.lib.ibm.ibmmq.listener.Listener"
     } external;
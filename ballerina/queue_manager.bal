@@ -40,10 +40,33 @@ public isolated class QueueManager {
     # ibmmq:Queue queue = check queueManager.accessQueue("queue1", ibmmq:MQOO_OUTPUT);
     # ```
     # 
+    # + queueName - Name of the queue. When a model queue is opened, a dynamic queue is created from it
+    # + options - The options which control the opening of the queue
+    # + dynamicQueueName - The name of the dynamic queue created when a model queue is opened. A name ending with an
+    # asterisk is used as a prefix of a name generated by the queue manager. The name of the created queue can be
+    # retrieved with the `getName` function of the queue
+    # + return - The `ibmmq:Queue` object or an `ibmmq:Error` if the operation failed
+    public isolated function accessQueue(string queueName, int options, string? dynamicQueueName = ())
+            returns Queue|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Establishes access to an IBM MQ queue through several dedicated connections to this queue manager. The
+    # concurrent `put` and `get` operations on the returned queue are routed to a connection which is not in use,
+    # instead of being serialized on a single connection. The connections are closed when the queue is closed.
+    # ```ballerina
+    # ibmmq:Queue queue = check queueManager.accessStripedQueue("queue1", ibmmq:MQOO_OUTPUT, 8);
+    # ```
+    #
     # + queueName - Name of the queue
     # + options - The options which control the opening of the queue
+    # + stripes - The number of connections through which the queue is accessed. The syncpoint put and get options
+    # are not supported on the returned queue, as its connections are not part of the unit of work of this queue
+    # manager. The logical order put and get options, and hence getting message groups, are not supported either
     # + return - The `ibmmq:Queue` object or an `ibmmq:Error` if the operation failed
-    public isolated function accessQueue(string queueName, int options) returns Queue|Error =
+    public isolated function accessStripedQueue(string queueName, int options, int stripes = 4)
+            returns Queue|Error =
     @java:Method {
         'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
     } external;
@@ -66,7 +89,162 @@ public isolated class QueueManager {
         'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
     } external;
 
-    # Ends the connection to the IBM MQ queue manager.
+    # Creates a request/reply client which puts the requests to the given request queue and receives the replies
+    # from the given reply queue.
+    # ```ballerina
+    # ibmmq:Requestor requestor = check queueManager.createRequestor("DEV.QUEUE.1", "DEV.QUEUE.2");
+    # ```
+    #
+    # + requestQueue - Name of the queue to which the requests are put
+    # + replyQueue - Name of the queue from which the replies are received
+    # + options - The options of the requestor
+    # + return - The `ibmmq:Requestor` object or an `ibmmq:Error` if the operation failed
+    public isolated function createRequestor(string requestQueue, string replyQueue, *RequestorOptions options)
+            returns Requestor|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Requestor"
+    } external;
+
+    # Creates a pool of temporary dynamic queues from the given model queue. The queues are leased per conversation
+    # and returned to the pool once the conversation is completed.
+    # ```ballerina
+    # ibmmq:TemporaryQueuePool pool = check queueManager.createTemporaryQueuePool("SYSTEM.DEFAULT.MODEL.QUEUE");
+    # ```
+    #
+    # + modelQueue - Name of the model queue from which the temporary dynamic queues are created
+    # + options - The options of the pool
+    # + return - The `ibmmq:TemporaryQueuePool` object or an `ibmmq:Error` if the operation failed
+    public isolated function createTemporaryQueuePool(string modelQueue, *TemporaryQueuePoolOptions options)
+            returns TemporaryQueuePool|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.TemporaryQueuePool"
+    } external;
+
+    # Puts a message to several queues with a single put of an IBM MQ distribution list. The message is converted
+    # and sent to the queue manager once, regardless of the number of queues.
+    # ```ballerina
+    # ibmmq:PutResult[] results = check queueManager.putToMany(["DEV.QUEUE.1", "DEV.QUEUE.2"], {
+    #     payload: "Hello World".toBytes()
+    # });
+    # ```
+    #
+    # + queueNames - Names of the queues to which the message is put
+    # + message - IBM MQ message
+    # + options - Options controlling the action of the put operation. Can be a combination of
+    #             one or more `ibmmq:MQPMO_*` options and values can combined using either '+' or '|'
+    # + return - The outcome of the put for each queue, in the order of the queue names, or an `ibmmq:Error` if the
+    # queues could not be opened or the message could not be put to any of them for the same reason
+    public isolated function putToMany(string[] queueNames, Message message, int options = MQPMO_NO_SYNCPOINT)
+            returns PutResult[]|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Commits the messages put and got with the `ibmmq:MQPMO_SYNCPOINT` or `ibmmq:MQGMO_SYNCPOINT` options since the
+    # last syncpoint, through any of the queues or topics accessed from this queue manager.
+    # ```ballerina
+    # check queueManager.commit();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the operation fails or else `()`
+    public isolated function 'commit() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Backs out the messages put and got with the `ibmmq:MQPMO_SYNCPOINT` or `ibmmq:MQGMO_SYNCPOINT` options since
+    # the last syncpoint. The messages which were put are deleted and the messages which were got are reinstated
+    # in the queues.
+    # ```ballerina
+    # check queueManager.backout();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the operation fails or else `()`
+    public isolated function backout() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Runs the given function as a single unit of work. The `put` and `get` operations done with the
+    # `ibmmq:MQPMO_SYNCPOINT` or `ibmmq:MQGMO_SYNCPOINT` options within the function are committed together when
+    # the function completes successfully, and are backed out when it returns an error or panics. Grouping several
+    # persistent operations into one unit of work amortizes the log writes of the queue manager.
+    # ```ballerina
+    # check queueManager.runInTransaction(isolated function () returns error? {
+    #     check queue->put({payload: "Hello World".toBytes()}, ibmmq:MQPMO_SYNCPOINT);
+    # });
+    # ```
+    #
+    # + work - The function which performs the operations of the unit of work
+    # + return - An `ibmmq:Error` if the unit of work was backed out or could not be committed, or else `()`
+    public isolated function runInTransaction(isolated function () returns error? work) returns Error? {
+        error? result = trap work();
+        if result is () {
+            return self.'commit();
+        }
+        Error? backoutResult = self.backout();
+        if backoutResult is Error {
+            return error Error(string `Failed to back out the unit of work: ${backoutResult.message()}`, result);
+        }
+        return error Error(string `Unit of work is backed out: ${result.message()}`, result);
+    }
+
+    # Retrieves the client-side metrics of the queues and topics accessed through this queue manager. The metrics
+    # contain the message and byte counts, the errors by MQ reason code, and the latency statistics of the `put`
+    # and `get` operations.
+    # ```ballerina
+    # ibmmq:DestinationMetrics[] metrics = queueManager.getMetrics();
+    # ```
+    #
+    # + return - The metrics of the accessed destinations
+    public isolated function getMetrics() returns DestinationMetrics[] =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Inquires the number of messages in a queue with a PCF command. The result is reused until the configured
+    # `inquiryCacheTtl` elapses.
+    # ```ballerina
+    # int depth = check queueManager.inquireQueueDepth("DEV.QUEUE.1");
+    # ```
+    #
+    # + queueName - Name of the queue
+    # + return - The depth of the queue or an `ibmmq:Error` if the inquiry failed
+    public isolated function inquireQueueDepth(string queueName) returns int|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Inquires the status of a queue with a PCF command. The result is reused until the configured `inquiryCacheTtl`
+    # elapses.
+    # ```ballerina
+    # ibmmq:QueueStatus status = check queueManager.inquireQueueStatus("DEV.QUEUE.1");
+    # ```
+    #
+    # + queueName - Name of the queue
+    # + return - The read-only status of the queue or an `ibmmq:Error` if the inquiry failed
+    public isolated function inquireQueueStatus(string queueName) returns QueueStatus|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Inquires the status of the active instances of a channel with a PCF command. The result is reused until the
+    # configured `inquiryCacheTtl` elapses.
+    # ```ballerina
+    # ibmmq:ChannelStatus[] statuses = check queueManager.inquireChannelStatus("DEV.APP.SVRCONN");
+    # ```
+    #
+    # + channelName - Name of the channel
+    # + return - The read-only statuses of the active channel instances, which is empty if the channel is not active,
+    # or an `ibmmq:Error` if the inquiry failed
+    public isolated function inquireChannelStatus(string channelName) returns ChannelStatus[]|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.QueueManager"
+    } external;
+
+    # Ends the connection to the IBM MQ queue manager. The topics accessed through the queue manager which are not
+    # closed yet, together with the JMS resources created by their `send` function, and the connections of the
+    # striped queues which are not closed yet, are closed first.
     #
     # + return - An `ibmmq:Error` if the operation fails or else `()`
     public isolated function disconnect() returns Error? =
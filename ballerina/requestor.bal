@@ -0,0 +1,62 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/jballerina.java;
+
+# Options of an `ibmmq:Requestor`.
+#
+# + timeout - The default time (in seconds) to wait for the reply of a request
+public type RequestorOptions record {|
+    decimal timeout = 30;
+|};
+
+# IBM MQ request/reply client. The requests are put to the request queue with a generated message identifier and
+# correlation identifier, and the reply queue is set as the reply-to queue. A single background reader gets the
+# replies from the reply queue over a dedicated connection and completes the request with the matching correlation
+# identifier, so that any number of concurrent requests share one reply consumer.
+#
+# The responders are expected to set the message identifier or the correlation identifier of the request as the
+# correlation identifier of the reply, which is the default behaviour of IBM MQ applications.
+public isolated client class Requestor {
+
+    # Puts a request message and waits for its reply.
+    # ```ballerina
+    # ibmmq:Message reply = check requestor->sendReceive({payload: "Hello World".toBytes()});
+    # ```
+    #
+    # + message - The request message
+    # + timeout - The time (in seconds) to wait for the reply. If not set, the timeout of the requestor is used
+    # + return - The reply message or an `ibmmq:Error` if the request could not be put or the reply was not received
+    # within the timeout
+    isolated remote function sendReceive(Message message, decimal? timeout = ()) returns Message|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Requestor"
+    } external;
+
+    # Closes the requestor. No further requests can be sent after it is closed, and the requests which are waiting
+    # for a reply fail with an `ibmmq:Error`.
+    # ```ballerina
+    # check requestor->close();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the operation fails or else `()`
+    isolated remote function close() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.Requestor"
+    } external;
+}
@@ -0,0 +1,64 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Options of an `ibmmq:SegmentWriter`.
+#
+# + segmentSize - The maximum size (in bytes) of a segment, which includes the headers of the message in the first
+# segment. The data written to the writer is buffered until a segment is filled, hence the memory used by the writer
+# is bounded by the segment size
+# + options - Options controlling the put of the segments. Can be a combination of one or more `ibmmq:MQPMO_*`
+# options and values can combined using either '+' or '|'
+public type SegmentWriterOptions record {|
+    int segmentSize = 1048576;
+    int options = MQPMO_NO_SYNCPOINT;
+|};
+
+# Puts the data written to it to an IBM MQ queue as the segments of a single logical message. The segments are
+# reassembled into one message when the message is got with the `ibmmq:MQGMO_COMPLETE_MSG` option. This allows
+# putting a message which is larger than the maximum message length of the queue manager, the queue or the channel,
+# without holding the whole message in memory.
+#
+# Unless the segments are put with the `ibmmq:MQPMO_SYNCPOINT` option and committed once the writer is closed, a
+# failure leaves an incomplete logical message on the queue, which is never returned by a get with the
+# `ibmmq:MQGMO_COMPLETE_MSG` option.
+public isolated client class SegmentWriter {
+
+    # Writes data to the logical message. Each time a segment is filled, it is put to the queue.
+    # ```ballerina
+    # check writer->write(chunk);
+    # ```
+    #
+    # + data - The data to be appended to the logical message
+    # + return - An `ibmmq:Error` if a segment could not be put or the writer is closed, or else `()`
+    isolated remote function write(byte[] data) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.SegmentWriter"
+    } external;
+
+    # Puts the remaining data as the last segment of the logical message. No further data can be written once the
+    # writer is closed.
+    # ```ballerina
+    # check writer->close();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the last segment could not be put or the writer is already closed, or else `()`
+    isolated remote function close() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.SegmentWriter"
+    } external;
+}
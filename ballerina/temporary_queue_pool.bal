@@ -0,0 +1,77 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/jballerina.java;
+
+# Options of an `ibmmq:TemporaryQueuePool`.
+#
+# + minSize - The number of temporary queues created when the pool is created
+# + maxSize - The maximum number of temporary queues in the pool, including the leased ones
+# + dynamicQueueName - The name of the created temporary queues. A name ending with an asterisk is used as a prefix
+# of a name generated by the queue manager
+# + leaseTimeout - The maximum time (in seconds) to wait for a temporary queue when all the queues are leased
+public type TemporaryQueuePoolOptions record {|
+    int minSize = 1;
+    int maxSize = 10;
+    string dynamicQueueName = "AMQ.*";
+    decimal leaseTimeout = 10;
+|};
+
+# A pool of temporary dynamic queues created from a model queue. Creating a dynamic queue is an expensive queue
+# manager operation, hence the queues are created up front or on demand and reused across conversations. The queues
+# are opened for exclusive input, so that a leased queue can be used as a private reply queue by setting its name as
+# the reply-to queue of the requests.
+public isolated class TemporaryQueuePool {
+
+    # Leases a temporary queue from the pool. If all the queues are leased and the pool has reached its maximum size,
+    # waits until a queue is released.
+    # ```ballerina
+    # ibmmq:Queue replyQueue = check pool.lease();
+    # ```
+    #
+    # + return - The leased `ibmmq:Queue` or an `ibmmq:Error` if no queue became available within the lease timeout
+    public isolated function lease() returns Queue|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.TemporaryQueuePool"
+    } external;
+
+    # Returns a leased temporary queue to the pool. The messages left in the queue are removed before the queue is
+    # leased again.
+    # ```ballerina
+    # check pool.release(replyQueue);
+    # ```
+    #
+    # + queue - The queue leased from this pool
+    # + return - An `ibmmq:Error` if the queue was not leased from this pool or could not be purged
+    public isolated function release(Queue queue) returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.TemporaryQueuePool"
+    } external;
+
+    # Closes all the temporary queues of the pool, including the leased ones, which deletes them. A queue which was
+    # leased before the pool was closed can not be used afterwards and releasing it has no effect.
+    # ```ballerina
+    # check pool.close();
+    # ```
+    #
+    # + return - An `ibmmq:Error` if the operation fails or else `()`
+    public isolated function close() returns Error? =
+    @java:Method {
+        'class: "io.ballerina.lib.ibm.ibmmq.TemporaryQueuePool"
+    } external;
+}
@@ -0,0 +1,60 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["forwarder"]
+}
+function forwardTransformedMessagesTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue input = check queueManager.accessQueue("DEV.QUEUE.6", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    Queue output = check queueManager.accessQueue("DEV.QUEUE.7", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    foreach int i in 1 ... 3 {
+        check input->put({payload: string `Message ${i}`.toBytes()});
+    }
+    check input->put({payload: "Drop".toBytes()});
+
+    Forwarder forwarder = check new (input, [output], isolated function(Message message) returns Message|error? {
+        string payload = check string:fromBytes(message.payload);
+        if payload == "Drop" {
+            return;
+        }
+        return {payload: payload.toUpperAscii().toBytes()};
+    }, batchSize = 2, batchTimeout = 0.5, waitInterval = 1);
+    check forwarder.'start();
+    runtime:sleep(3);
+    check forwarder.stop();
+
+    string[] forwarded = [];
+    Message? message = check output->get();
+    while message is Message {
+        forwarded.push(check string:fromBytes(message.payload));
+        message = check output->get();
+    }
+    test:assertEquals(forwarded, ["MESSAGE 1", "MESSAGE 2", "MESSAGE 3"]);
+    Message? remaining = check input->get();
+    test:assertTrue(remaining is (), "Forwarded messages are left in the input queue");
+
+    check input->close();
+    check output->close();
+    check queueManager.disconnect();
+}
@@ -0,0 +1,331 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+// The in-memory queue manager of the test fixtures serves the connections to the queue manager of this name, hence
+// these tests do not require the IBM MQ server.
+const IN_MEMORY_QUEUE_MANAGER = "QM.IN.MEMORY";
+// The connections of this queue manager are broken by the recovery test, hence it is not shared with the other tests.
+const IN_MEMORY_RECOVERY_QUEUE_MANAGER = "QM.IN.MEMORY.RECOVERY";
+// The dispatch allocation test checks the bytes allocated per dispatched message against the dispatch budget of the
+// native benchmarks, and fails with the measured figure when no budget is defined.
+const ALLOCATION_BUDGETS_FILE = "../native-benchmarks/allocation-budgets.properties";
+const DISPATCH_BUDGET = "dispatch";
+const ALLOCATION_WARMUP_MESSAGES = 1000;
+const ALLOCATION_MEASURED_MESSAGES = 2000;
+
+isolated int inMemoryDispatchCount = 0;
+isolated int inMemoryTransactedAttemptCount = 0;
+isolated int inMemoryRecoveryDispatchCount = 0;
+isolated int allocationDispatchCount = 0;
+isolated int[] allocatedBytesSamples = [];
+
+@test:Config {
+    groups: ["inMemory"]
+}
+function inMemoryQueuePutGetTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    Queue queue = check queueManager.accessQueue("IN.MEMORY.QUEUE.1", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({payload: "Hello in-memory queue".toBytes()});
+    Message? message = check queue->get();
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Hello in-memory queue");
+    } else {
+        test:assertFail("Expected a value for message");
+    }
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+function inMemoryQueueUnitOfWorkTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    Queue queue = check queueManager.accessQueue("IN.MEMORY.QUEUE.2", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({payload: "Unit of work message".toBytes()}, MQPMO_SYNCPOINT);
+    Message? message = check queue->get();
+    test:assertTrue(message is (), "A message put under a syncpoint was delivered before the commit");
+
+    check queueManager.'commit();
+    message = check queue->get(options = MQGMO_SYNCPOINT);
+    test:assertTrue(message !is (), "A committed message was not delivered");
+    check queueManager.backout();
+    message = check queue->get();
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Unit of work message");
+    } else {
+        test:assertFail("A backed out message was not returned to the queue");
+    }
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+function inMemoryTopicPubSubTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    Topic subscriber = check queueManager.accessTopic("dev", "IN.MEMORY.TOPIC", OPEN_AS_SUBSCRIPTION, MQSO_CREATE);
+    Topic publisher = check queueManager.accessTopic("dev", "IN.MEMORY.TOPIC", OPEN_AS_PUBLICATION, MQOO_OUTPUT);
+    check publisher->put({payload: "Hello in-memory topic".toBytes()});
+    Message? message = check subscriber->get(options = MQGMO_WAIT, waitInterval = 5);
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Hello in-memory topic");
+    } else {
+        test:assertFail("Expected a value for message");
+    }
+    check subscriber->close();
+    check publisher->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+function inMemoryInquiryTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    int|Error depth = queueManager.inquireQueueDepth("IN.MEMORY.QUEUE.1");
+    if depth is Error {
+        test:assertEquals(depth.detail().reasonCode, 2298);
+    } else {
+        test:assertFail("Expected an error as the PCF inquiries are not supported by the in-memory queue manager");
+    }
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+isolated function inMemoryListenerTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    Listener inMemoryListener = check new (name = IN_MEMORY_QUEUE_MANAGER, host = "localhost",
+        channel = "DEV.APP.SVRCONN");
+    Service consumerSvc = @ServiceConfig {
+        queueName: "IN.MEMORY.QUEUE.3",
+        pollingInterval: 0.1,
+        receiveTimeout: 0.1
+    } service object {
+        remote function onMessage(Message message) returns error? {
+            lock {
+                inMemoryDispatchCount += 1;
+            }
+        }
+    };
+    check inMemoryListener.attach(consumerSvc, "in-memory-service");
+    check inMemoryListener.'start();
+    Queue queue = check queueManager.accessQueue("IN.MEMORY.QUEUE.3", MQOO_OUTPUT);
+    foreach int i in 0 ..< 3 {
+        check queue->put({payload: string `Message ${i}`.toBytes()});
+    }
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(inMemoryDispatchCount, 3, "Not all the messages were dispatched to the service");
+    }
+    check inMemoryListener.gracefulStop();
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+isolated function inMemoryListenerTransactedSessionTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    Listener inMemoryListener = check new (name = IN_MEMORY_QUEUE_MANAGER, host = "localhost",
+        channel = "DEV.APP.SVRCONN");
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: SESSION_TRANSACTED,
+        queueName: "IN.MEMORY.QUEUE.4",
+        pollingInterval: 0.1,
+        receiveTimeout: 0.1
+    } service object {
+        remote function onMessage(Message message, Caller caller) returns error? {
+            int attempt;
+            lock {
+                inMemoryTransactedAttemptCount += 1;
+                attempt = inMemoryTransactedAttemptCount;
+            }
+            if attempt == 1 {
+                check caller->'rollback();
+            } else {
+                check caller->'commit();
+            }
+        }
+    };
+    check inMemoryListener.attach(consumerSvc, "in-memory-transacted-service");
+    check inMemoryListener.'start();
+    Queue queue = check queueManager.accessQueue("IN.MEMORY.QUEUE.4", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({payload: "Rolled back once".toBytes()});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(inMemoryTransactedAttemptCount, 2, "A rolled back message was not redelivered");
+    }
+    check inMemoryListener.gracefulStop();
+    Message? message = check queue->get();
+    test:assertTrue(message is (), "A committed message was left on the queue");
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+isolated function inMemoryListenerRecoveryTest() returns error? {
+    handle inMemoryQueueManager = startInMemoryQueueManager(java:fromString(IN_MEMORY_RECOVERY_QUEUE_MANAGER));
+    QueueManager queueManager = check new (name = IN_MEMORY_RECOVERY_QUEUE_MANAGER, host = "localhost",
+        channel = "DEV.APP.SVRCONN");
+    Listener inMemoryListener = check new (name = IN_MEMORY_RECOVERY_QUEUE_MANAGER, host = "localhost",
+        channel = "DEV.APP.SVRCONN", reconnect = {maxAttempts: 5, initialDelay: 0.1, maxDelay: 0.5});
+    Service consumerSvc = @ServiceConfig {
+        queueName: "IN.MEMORY.QUEUE.5",
+        pollingInterval: 0.1,
+        receiveTimeout: 0.1
+    } service object {
+        remote function onMessage(Message message) returns error? {
+            lock {
+                inMemoryRecoveryDispatchCount += 1;
+            }
+        }
+    };
+    check inMemoryListener.attach(consumerSvc, "in-memory-recovery-service");
+    check inMemoryListener.'start();
+    Queue queue = check queueManager.accessQueue("IN.MEMORY.QUEUE.5", MQOO_OUTPUT);
+    check queue->put({payload: "Before the failure".toBytes()});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(inMemoryRecoveryDispatchCount, 1, "The message was not dispatched before the failure");
+    }
+
+    breakInMemoryConnections(inMemoryQueueManager);
+    runtime:sleep(2);
+    check queue->put({payload: "After the reconnection".toBytes()});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(inMemoryRecoveryDispatchCount, 2, "The listener did not reconnect after the failure");
+    }
+    // The failures of the consumers of the broken connection must not tear down its replacement.
+    check queue->put({payload: "After the stale failures".toBytes()});
+    runtime:sleep(2);
+    lock {
+        test:assertEquals(inMemoryRecoveryDispatchCount, 3, "The replaced connection was torn down");
+    }
+    check inMemoryListener.gracefulStop();
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["inMemory"]
+}
+isolated function inMemoryListenerDispatchAllocationTest() returns error? {
+    QueueManager queueManager = check connectToInMemoryQueueManager();
+    Queue queue = check queueManager.accessQueue("IN.MEMORY.QUEUE.6", MQOO_OUTPUT);
+    byte[] payload = [];
+    payload.setLength(1024);
+    foreach int _ in 0 ..< ALLOCATION_WARMUP_MESSAGES + ALLOCATION_MEASURED_MESSAGES {
+        check queue->put({payload});
+    }
+    Listener inMemoryListener = check new (name = IN_MEMORY_QUEUE_MANAGER, host = "localhost",
+        channel = "DEV.APP.SVRCONN");
+    Service consumerSvc = @ServiceConfig {
+        queueName: "IN.MEMORY.QUEUE.6",
+        pollingInterval: 0.001,
+        receiveTimeout: 0.1
+    } service object {
+        remote function onMessage(Message message) returns error? {
+            int count;
+            lock {
+                allocationDispatchCount += 1;
+                count = allocationDispatchCount;
+            }
+            // The allocations of all the threads are sampled, as the messages are received by the polling thread
+            // and dispatched on virtual threads.
+            if count == ALLOCATION_WARMUP_MESSAGES || count == ALLOCATION_WARMUP_MESSAGES +
+                    ALLOCATION_MEASURED_MESSAGES {
+                int allocatedBytes = getTotalThreadAllocatedBytes(getThreadMXBean());
+                lock {
+                    allocatedBytesSamples.push(allocatedBytes);
+                }
+            }
+        }
+    };
+    check inMemoryListener.attach(consumerSvc, "in-memory-allocation-service");
+    check inMemoryListener.'start();
+    int[] samples = [];
+    foreach int _ in 0 ..< 600 {
+        lock {
+            samples = allocatedBytesSamples.clone();
+        }
+        if samples.length() == 2 {
+            break;
+        }
+        runtime:sleep(0.1);
+    }
+    check inMemoryListener.gracefulStop();
+    check queue->close();
+    check queueManager.disconnect();
+    test:assertEquals(samples.length(), 2, "Not all the messages were dispatched to the service");
+
+    int bytesPerMessage = (samples[1] - samples[0]) / ALLOCATION_MEASURED_MESSAGES;
+    int? budget = check readAllocationBudget(DISPATCH_BUDGET);
+    if budget is () {
+        test:assertFail(string `No ${DISPATCH_BUDGET} allocation budget is defined in ${ALLOCATION_BUDGETS_FILE} ` +
+            string `(${bytesPerMessage} bytes per message are allocated)`);
+    }
+    test:assertTrue(bytesPerMessage <= budget, string `The ${DISPATCH_BUDGET} allocation budget is exceeded ` +
+        string `(${bytesPerMessage} > ${budget} bytes per message)`);
+}
+
+isolated function readAllocationBudget(string path) returns int|error? {
+    string[] lines = check io:fileReadLines(ALLOCATION_BUDGETS_FILE);
+    foreach string line in lines {
+        string entry = line.trim();
+        if entry.startsWith(path + "=") {
+            return int:fromString(entry.substring(path.length() + 1).trim());
+        }
+    }
+    return ();
+}
+
+isolated function connectToInMemoryQueueManager() returns QueueManager|Error {
+    _ = startInMemoryQueueManager(java:fromString(IN_MEMORY_QUEUE_MANAGER));
+    QueueManager queueManager = check new (name = IN_MEMORY_QUEUE_MANAGER, host = "localhost",
+        channel = "DEV.APP.SVRCONN");
+    return queueManager;
+}
+
+isolated function startInMemoryQueueManager(handle name) returns handle = @java:Method {
+    name: "start",
+    'class: "io.ballerina.lib.ibm.ibmmq.testing.InMemoryQueueManager"
+} external;
+
+isolated function breakInMemoryConnections(handle queueManager) = @java:Method {
+    name: "breakConnections",
+    'class: "io.ballerina.lib.ibm.ibmmq.testing.InMemoryQueueManager"
+} external;
+
+isolated function getThreadMXBean() returns handle = @java:Method {
+    'class: "java.lang.management.ManagementFactory"
+} external;
+
+isolated function getTotalThreadAllocatedBytes(handle threads) returns int = @java:Method {
+    'class: "com.sun.management.ThreadMXBean"
+} external;
@@ -0,0 +1,63 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["ibmmqQueue", "inquiry"]
+}
+function inquireQueueStatusTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.ADMIN.SVRCONN",
+        userID = "admin", password = "password", inquiryCacheTtl = 60);
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.10", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    int initialDepth = check queueManager.inquireQueueDepth("DEV.QUEUE.10");
+    check queue->put({payload: "Hello inquiry".toBytes()});
+
+    // The cached depth is returned until the TTL elapses.
+    int cachedDepth = check queueManager.inquireQueueDepth("DEV.QUEUE.10");
+    test:assertEquals(cachedDepth, initialDepth);
+
+    QueueStatus status = check queueManager.inquireQueueStatus("DEV.QUEUE.10");
+    test:assertEquals(status.queueName, "DEV.QUEUE.10");
+    test:assertEquals(status.depth, initialDepth + 1);
+    test:assertTrue(status.openInputCount >= 1, "Expected an input handle on the queue");
+    test:assertTrue(status.openOutputCount >= 1, "Expected an output handle on the queue");
+
+    Message? message = check queue->get();
+    test:assertTrue(message is Message, "Expected a value for message");
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue", "inquiry"]
+}
+function inquireChannelStatusTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.ADMIN.SVRCONN",
+        userID = "admin", password = "password");
+    ChannelStatus[] statuses = check queueManager.inquireChannelStatus("DEV.ADMIN.SVRCONN");
+    test:assertTrue(statuses.length() >= 1, "Expected the channel instance of this connection");
+    test:assertEquals(statuses[0].channelName, "DEV.ADMIN.SVRCONN");
+    test:assertEquals(statuses[0].status, "RUNNING");
+
+    Error|int depth = queueManager.inquireQueueDepth("DEV.NO.SUCH.QUEUE");
+    test:assertTrue(depth is Error, "Expected an error for an unknown queue");
+    check queueManager.disconnect();
+}
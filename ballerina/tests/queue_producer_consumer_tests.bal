@@ -195,6 +195,20 @@ function consumerConnectToNonExistingQueueTest() returns error? {
     check queueManager.disconnect();
 }
 
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function queueManagerWithInvalidTraceSamplingRateTest() {
+    QueueManager|Error result = new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password", traceSamplingRate = 1.5);
+    if result is Error {
+        test:assertEquals(result.message(), "Invalid trace sampling rate, it must be between 0.0 and 1.0, found: 1.5");
+    } else {
+        test:assertFail("Expected an error");
+    }
+}
+
 @test:Config {
     groups: ["ibmmqQueue"]
 }
@@ -789,6 +803,406 @@ function produceConsumeWithMsgIdAndInvalidCorrId() returns error? {
     check queueManager.disconnect();
 }
 
+@test:Config {
+    groups: ["ibmmqQueue", "transaction"]
+}
+function produceConsumeInCommittedUnitOfWork() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    final Queue queue = check queueManager.accessQueue("DEV.QUEUE.5", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queueManager.runInTransaction(isolated function () returns error? {
+        check queue->put({payload: "Unit of work message 1".toBytes()}, MQPMO_SYNCPOINT);
+        check queue->put({payload: "Unit of work message 2".toBytes()}, MQPMO_SYNCPOINT);
+    });
+
+    Message? message = check queue->get();
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Unit of work message 1");
+    } else {
+        test:assertFail("Expected the first message of the committed unit of work");
+    }
+    message = check queue->get();
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Unit of work message 2");
+    } else {
+        test:assertFail("Expected the second message of the committed unit of work");
+    }
+
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue", "transaction"],
+    dependsOn: [produceConsumeInCommittedUnitOfWork]
+}
+function produceInBackedOutUnitOfWork() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    final Queue queue = check queueManager.accessQueue("DEV.QUEUE.5", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    Error? result = queueManager.runInTransaction(isolated function () returns error? {
+        check queue->put({payload: "Backed out message".toBytes()}, MQPMO_SYNCPOINT);
+        return error("Processing failed");
+    });
+    if result is Error {
+        test:assertEquals(result.message(), "Unit of work is backed out: Processing failed");
+    } else {
+        test:assertFail("Expected an error for the backed out unit of work");
+    }
+
+    Message? message = check queue->get();
+    test:assertTrue(message is (), "Retrieved a message which was put in a backed out unit of work");
+
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue", "transaction"],
+    dependsOn: [produceInBackedOutUnitOfWork]
+}
+function consumeWithSyncpointAndBackout() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.5", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({payload: "Reinstated message".toBytes()});
+
+    Message? message = check queue->get(options = MQGMO_SYNCPOINT);
+    test:assertTrue(message is Message, "Expected a message within the unit of work");
+    check queueManager.backout();
+
+    message = check queue->get(options = MQGMO_SYNCPOINT);
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Reinstated message");
+    } else {
+        test:assertFail("Expected the backed out message to be reinstated");
+    }
+    check queueManager.'commit();
+
+    message = check queue->get();
+    test:assertTrue(message is (), "Retrieved a message which was got in a committed unit of work");
+
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue", "metrics"]
+}
+function queueMetricsTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.1", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({payload: "Hello metrics".toBytes()});
+    Message? message = check queue->get();
+    test:assertTrue(message is Message, "Expected a value for message");
+    check queue->close();
+
+    DestinationMetrics[] metrics = queueManager.getMetrics();
+    test:assertEquals(metrics.length(), 1);
+    DestinationMetrics queueMetrics = metrics[0];
+    test:assertEquals(queueMetrics.name, "DEV.QUEUE.1");
+    test:assertEquals(queueMetrics.'type, QUEUE);
+    test:assertEquals(queueMetrics.put.messages, 1);
+    test:assertEquals(queueMetrics.get.messages, 1);
+    test:assertTrue(queueMetrics.put.bytes >= "Hello metrics".length(), "Unexpected put bytes");
+    test:assertTrue(queueMetrics.put.latency.max > 0d, "Expected a put latency");
+    test:assertEquals(queueMetrics.put.errors.length(), 0);
+    test:assertTrue(queueMetrics.oldestMessageAge >= 0d, "Unexpected oldest message age");
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function stripedQueueConcurrentProducerConsumerTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessStripedQueue("DEV.QUEUE.1", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF, 3);
+    test:assertEquals(queue.getName(), "DEV.QUEUE.1");
+    future<error?>[] producers = [];
+    foreach int i in 0 ..< 10 {
+        future<error?> producer = start queue->put({payload: string `Striped message ${i}`.toBytes()});
+        producers.push(producer);
+    }
+    foreach future<error?> producer in producers {
+        check wait producer;
+    }
+    string[] received = [];
+    foreach int i in 0 ..< 10 {
+        Message? message = check queue->get(options = MQGMO_WAIT, waitInterval = 2);
+        if message is () {
+            test:assertFail("Expected a value for message");
+        }
+        received.push(check string:fromBytes(message.payload));
+    }
+    foreach int i in 0 ..< 10 {
+        test:assertTrue(received.indexOf(string `Striped message ${i}`) !is (), string `Missing message ${i}`);
+    }
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function stripedQueueSyncpointPutTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessStripedQueue("DEV.QUEUE.1", MQOO_OUTPUT, 2);
+    Error? result = queue->put({payload: "Hello World".toBytes()}, MQPMO_SYNCPOINT);
+    if result !is Error {
+        test:assertFail("Expected an error when putting a message under syncpoint to a striped queue");
+    }
+    test:assertTrue(result.message().startsWith("Error occurred while putting a message to the queue"));
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function stripedQueueWithInvalidStripesTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue|Error queue = queueManager.accessStripedQueue("DEV.QUEUE.1", MQOO_OUTPUT, 0);
+    if queue !is Error {
+        test:assertFail("Expected an error when accessing a queue with no stripes");
+    }
+    test:assertEquals(queue.message(), "The number of stripes of a queue must be at least 1");
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function putToManyQueuesTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    PutResult[] results = check queueManager.putToMany(["DEV.QUEUE.11", "DEV.QUEUE.12"], {
+        payload: "Hello distribution list".toBytes()
+    });
+    test:assertEquals(results.length(), 2);
+    foreach [int, string] [i, queueName] in ["DEV.QUEUE.11", "DEV.QUEUE.12"].enumerate() {
+        test:assertEquals(results[i].queueName, queueName);
+        test:assertEquals(results[i].completionCode, MQCC_OK);
+        Queue queue = check queueManager.accessQueue(queueName, MQOO_INPUT_AS_Q_DEF);
+        Message? message = check queue->get();
+        if message is () {
+            test:assertFail(string `Expected a value for message in ${queueName}`);
+        }
+        test:assertEquals(string:fromBytes(message.payload), "Hello distribution list");
+        check queue->close();
+    }
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function putToManyQueuesWithUnknownQueueTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    PutResult[] results = check queueManager.putToMany(["DEV.QUEUE.16", "DEV.QUEUE.UNKNOWN"], {
+        payload: "Hello partial distribution list".toBytes()
+    });
+    test:assertEquals(results.length(), 2);
+    test:assertEquals(results[0].queueName, "DEV.QUEUE.16");
+    test:assertEquals(results[0].completionCode, MQCC_OK);
+    test:assertTrue(results[0].messageId !is (), "Expected a message identifier for the put message");
+    test:assertEquals(results[1].queueName, "DEV.QUEUE.UNKNOWN");
+    test:assertEquals(results[1].completionCode, MQCC_FAILED);
+    test:assertEquals(results[1].reasonCode, 2085);
+    test:assertTrue(results[1].messageId is (), "Expected no message identifier for the unknown queue");
+
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.16", MQOO_INPUT_AS_Q_DEF);
+    Message? message = check queue->get();
+    if message is () {
+        test:assertFail("Expected a value for message in DEV.QUEUE.16");
+    }
+    test:assertEquals(string:fromBytes(message.payload), "Hello partial distribution list");
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function putToNoQueuesTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    PutResult[]|Error results = queueManager.putToMany([], {payload: "Hello World".toBytes()});
+    if results !is Error {
+        test:assertFail("Expected an error when putting a message to no queues");
+    }
+    test:assertEquals(results.message(), "At least one queue is required to put a message to many queues");
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function segmentWriterReassemblyTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.11", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    SegmentWriter writer = check queue.createSegmentWriter({payload: "Hello ".toBytes()}, segmentSize = 4);
+    check writer->write("segmented ".toBytes());
+    check writer->write("World".toBytes());
+    check writer->close();
+    Error? result = writer->write("after close".toBytes());
+    if result !is Error {
+        test:assertFail("Expected an error when writing to a closed segment writer");
+    }
+    test:assertEquals(result.message(), "The segment writer has already been closed");
+
+    Message? message = check queue->get(options = MQGMO_COMPLETE_MSG);
+    if message is () {
+        test:assertFail("Expected a value for message");
+    }
+    test:assertEquals(string:fromBytes(message.payload), "Hello segmented World");
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function segmentWriterReassemblyWithHeadersTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.11", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    SegmentWriter writer = check queue.createSegmentWriter({
+        payload: "Hello ".toBytes(),
+        properties: {"language": {value: "English"}},
+        headers: [
+            {
+                flags: 15,
+                nameValuePairs: {"pair1": "value1"}
+            }
+        ]
+    }, segmentSize = 512);
+    foreach int i in 0 ..< 100 {
+        check writer->write(string `segment ${i} `.toBytes());
+    }
+    check writer->write("World".toBytes());
+    check writer->close();
+
+    Message? message = check queue->get(options = MQGMO_COMPLETE_MSG);
+    if message is () {
+        test:assertFail("Expected a value for message");
+    }
+    string expected = "Hello ";
+    foreach int i in 0 ..< 100 {
+        expected += string `segment ${i} `;
+    }
+    test:assertEquals(string:fromBytes(message.payload), expected + "World");
+    Property? language = message.properties["language"];
+    test:assertEquals(language?.value, "English");
+    Header[]? headers = message.headers;
+    if headers is () {
+        test:assertFail("Expected the MQRFH header of the first segment");
+    }
+    test:assertEquals(headers.length(), 1);
+    Header header = headers[0];
+    if header !is MQRFH {
+        test:assertFail("Expected an MQRFH header");
+    }
+    test:assertEquals(header.nameValuePairs, {"pair1": "value1"});
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function groupWriterInOrderGroupTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.12", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    GroupWriter writer = queue.createGroupWriter();
+    check writer->write({payload: "First".toBytes()});
+    check writer->write({payload: "Second".toBytes()});
+    Message[]? incomplete = check queue->getGroup(options = MQGMO_SYNCPOINT);
+    test:assertTrue(incomplete is (), "Expected no group until the group is complete");
+    check writer->write({payload: "Third".toBytes()});
+    check writer->close();
+
+    Message[]? messages = check queue->getGroup(options = MQGMO_SYNCPOINT);
+    if messages is () {
+        test:assertFail("Expected a value for the messages of the group");
+    }
+    test:assertEquals(messages.length(), 3);
+    foreach [int, string] [i, payload] in ["First", "Second", "Third"].enumerate() {
+        test:assertEquals(string:fromBytes(messages[i].payload), payload);
+        test:assertEquals(messages[i].messageSequenceNumber, i + 1);
+        test:assertEquals(messages[i].groupId, messages[0].groupId);
+    }
+    test:assertEquals((messages[2].messageFlags ?: 0) & MQMF_LAST_MSG_IN_GROUP, MQMF_LAST_MSG_IN_GROUP);
+    check queueManager.'commit();
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function getGroupBackoutTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.12", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    GroupWriter writer = queue.createGroupWriter();
+    check writer->write({payload: "First".toBytes()});
+    check writer->write({payload: "Second".toBytes()});
+    check writer->close();
+
+    Message[]? messages = check queue->getGroup(options = MQGMO_SYNCPOINT);
+    test:assertEquals(messages is () ? 0 : messages.length(), 2);
+    // Backing out returns the messages of the group to the queue, as it is done when a group is got in part.
+    check queueManager.backout();
+    messages = check queue->getGroup(options = MQGMO_SYNCPOINT);
+    if messages is () {
+        test:assertFail("Expected the group to be returned to the queue once backed out");
+    }
+    test:assertEquals(string:fromBytes(messages[0].payload), "First");
+    test:assertEquals(string:fromBytes(messages[1].payload), "Second");
+    check queueManager.'commit();
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue"]
+}
+function getGroupWithoutSyncpointTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.12", MQOO_INPUT_AS_Q_DEF);
+    Message[]|Error? messages = queue->getGroup();
+    if messages !is Error {
+        test:assertFail("Expected an error when getting a group without a syncpoint");
+    }
+    test:assertEquals(messages.message(), "A message group must be got with the MQGMO_SYNCPOINT option, so " +
+        "that the messages already got can be backed out when the rest of the group can not be got");
+    check queue->close();
+    check queueManager.disconnect();
+}
+
 function trimTrailingZeros(byte[] bytes) returns byte[] {
     int i = bytes.length() - 1;
     while (i >= 0 && bytes[i] == 0) {
@@ -0,0 +1,104 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["requestor"]
+}
+function requestReplyTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Requestor requestor = check queueManager.createRequestor("DEV.QUEUE.8", "DEV.QUEUE.9", timeout = 10);
+
+    worker responder returns error? {
+        QueueManager responderQueueManager = check new (
+            name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+            userID = "app", password = "password");
+        Queue requests = check responderQueueManager.accessQueue("DEV.QUEUE.8", MQOO_INPUT_AS_Q_DEF);
+        Queue replies = check responderQueueManager.accessQueue("DEV.QUEUE.9", MQOO_OUTPUT);
+        foreach int i in 1 ... 2 {
+            Message? request = check requests->get(options = MQGMO_WAIT, waitInterval = 10000);
+            if request is () {
+                return error("Request was not received");
+            }
+            string payload = check string:fromBytes(request.payload);
+            check replies->put({payload: string `Reply to ${payload}`.toBytes(), correlationId: request.messageId ?: []});
+        }
+        check requests->close();
+        check replies->close();
+        check responderQueueManager.disconnect();
+    }
+
+    Message reply = check requestor->sendReceive({payload: "Request 1".toBytes()});
+    test:assertEquals(string:fromBytes(reply.payload), "Reply to Request 1");
+    reply = check requestor->sendReceive({payload: "Request 2".toBytes()});
+    test:assertEquals(string:fromBytes(reply.payload), "Reply to Request 2");
+    check wait responder;
+
+    check requestor->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["requestor"],
+    dependsOn: [requestReplyTest]
+}
+function requestReplyTimeoutTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Requestor requestor = check queueManager.createRequestor("DEV.QUEUE.8", "DEV.QUEUE.9");
+    Message|Error reply = requestor->sendReceive({payload: "Unanswered request".toBytes()}, 1);
+    if reply is Error {
+        test:assertEquals(reply.message(), "Reply was not received within 1000 milliseconds");
+    } else {
+        test:assertFail("Expected a timeout error for an unanswered request");
+    }
+    check requestor->close();
+
+    Queue requests = check queueManager.accessQueue("DEV.QUEUE.8", MQOO_INPUT_AS_Q_DEF);
+    _ = check requests->get();
+    check requests->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["requestor"],
+    dependsOn: [requestReplyTimeoutTest]
+}
+function requestorCloseWithPendingRequestTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Requestor requestor = check queueManager.createRequestor("DEV.QUEUE.8", "DEV.QUEUE.9", timeout = 60);
+    future<Message|Error> pending = start requestor->sendReceive({payload: "Pending request".toBytes()});
+    runtime:sleep(1);
+    check requestor->close();
+
+    Message|Error reply = wait pending;
+    if reply !is Error {
+        test:assertFail("Expected an error for a request pending when the requestor is closed");
+    }
+    test:assertEquals(reply.message(), "The requestor has already been closed");
+
+    Queue requests = check queueManager.accessQueue("DEV.QUEUE.8", MQOO_INPUT_AS_Q_DEF);
+    _ = check requests->get();
+    check requests->close();
+    check queueManager.disconnect();
+}
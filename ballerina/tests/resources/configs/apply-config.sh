@@ -25,9 +25,25 @@ else
     echo "No MQSC config file found, applying basic topic configuration..."
     echo "DEFINE TOPIC(DEV.TOPIC.1) TOPICSTR('DEV.TOPIC.1') TYPE(LOCAL)" | runmqsc $QMGR_NAME
     echo "DEFINE TOPIC(DEV.TOPIC.2) TOPICSTR('DEV.TOPIC.2') TYPE(LOCAL)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.4.BACKOUT)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.4) BOQNAME(DEV.QUEUE.4.BACKOUT)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.5)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.6)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.7)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.8)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.9)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.10)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.11)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.12)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.13)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.14)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.15)" | runmqsc $QMGR_NAME
+    echo "DEFINE QLOCAL(DEV.QUEUE.16)" | runmqsc $QMGR_NAME
+    echo "DEFINE QMODEL(DEV.MODEL.QUEUE) DEFTYPE(TEMPDYN)" | runmqsc $QMGR_NAME
     echo "Setting authority record for app user..."
     echo "SET AUTHREC OBJTYPE(TOPIC) PROFILE('DEV.TOPIC.1') PRINCIPAL('app') AUTHADD(ALL)" | runmqsc $QMGR_NAME
     echo "SET AUTHREC OBJTYPE(TOPIC) PROFILE('DEV.TOPIC.2') PRINCIPAL('app') AUTHADD(ALL)" | runmqsc $QMGR_NAME
+    echo "SET AUTHREC OBJTYPE(QUEUE) PROFILE('DEV.MODEL.QUEUE') PRINCIPAL('app') AUTHADD(ALL)" | runmqsc $QMGR_NAME
 fi
 
 echo "Configuration applied successfully to $QMGR_NAME at $(date)!"
@@ -159,6 +159,83 @@ isolated function testServiceWithTransactions() returns error? {
     }
 }
 
+isolated int retryServiceAttemptCount = 0;
+
+@test:Config {
+    groups: ["service", "retry"]
+}
+isolated function testQueueServiceWithRetryPolicy() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: CLIENT_ACKNOWLEDGE,
+        queueName: "DEV.QUEUE.4",
+        pollingInterval: 0.5,
+        receiveTimeout: 0.5,
+        retryPolicy: {
+            maxAttempts: 2,
+            backoffDelay: 0.5
+        }
+    } service object {
+        remote function onMessage(Message message) returns error? {
+            lock {
+                retryServiceAttemptCount += 1;
+            }
+            return error("Error occurred while processing the message");
+        }
+    };
+    check ibmmqListener.attach(consumerSvc, "test-retry-policy-service");
+    Queue producer = check queueManager.accessQueue("DEV.QUEUE.4", MQOO_OUTPUT);
+    check producer->put({
+        payload: "This is a poison message".toBytes()
+    });
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(retryServiceAttemptCount, 2, "Invalid number of delivery attempts");
+    }
+    Queue backoutQueue = check queueManager.accessQueue("DEV.QUEUE.4.BACKOUT", MQOO_INPUT_AS_Q_DEF);
+    Message? message = check backoutQueue->get();
+    test:assertTrue(message is Message, "The message was not moved to the backout queue");
+    check producer->close();
+    check backoutQueue->close();
+}
+
+isolated int acknowledgedRetryAttemptCount = 0;
+
+@test:Config {
+    groups: ["service", "retry"]
+}
+isolated function testRetryPolicyWithAcknowledgedMessage() returns error? {
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: CLIENT_ACKNOWLEDGE,
+        queueName: "DEV.QUEUE.14",
+        pollingInterval: 0.5,
+        receiveTimeout: 0.5,
+        retryPolicy: {
+            maxAttempts: 3,
+            backoffDelay: 0.5
+        }
+    } service object {
+        remote function onMessage(Message message, Caller caller) returns error? {
+            lock {
+                acknowledgedRetryAttemptCount += 1;
+            }
+            check caller->acknowledge(message);
+            return error("Error occurred after acknowledging the message");
+        }
+    };
+    check ibmmqListener.attach(consumerSvc, "test-retry-acknowledged-service");
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.14", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({
+        payload: "This message is acknowledged before failing".toBytes()
+    });
+    runtime:sleep(4);
+    lock {
+        test:assertEquals(acknowledgedRetryAttemptCount, 1, "An acknowledged message was redelivered");
+    }
+    Message? message = check queue->get();
+    test:assertTrue(message is (), "A copy of the acknowledged message was put back to the queue");
+    check queue->close();
+}
+
 @test:Config {
     groups: ["service"]
 }
@@ -220,6 +297,102 @@ isolated function testListenerImmediateStop() returns error? {
     check msgListener.immediateStop();
 }
 
+isolated int autoscaledInFlightCount = 0;
+isolated int autoscaledMaxInFlightCount = 0;
+isolated int autoscaledProcessedCount = 0;
+
+@test:Config {
+    groups: ["service", "autoscaling"]
+}
+isolated function testQueueServiceAutoscaling() returns error? {
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.15", MQOO_OUTPUT);
+    foreach int i in 0 ..< 20 {
+        check queue->put({
+            payload: string `Message ${i}`.toBytes()
+        });
+    }
+    check queue->close();
+    Service consumerSvc = @ServiceConfig {
+        queueName: "DEV.QUEUE.15",
+        pollingInterval: 0.1,
+        receiveTimeout: 0.1,
+        autoscaling: {
+            minConsumers: 1,
+            maxConsumers: 3,
+            targetLag: 1,
+            scaleInterval: 1
+        }
+    } isolated service object {
+        isolated remote function onMessage(Message message) returns error? {
+            lock {
+                autoscaledInFlightCount += 1;
+                if autoscaledInFlightCount > autoscaledMaxInFlightCount {
+                    autoscaledMaxInFlightCount = autoscaledInFlightCount;
+                }
+            }
+            runtime:sleep(0.5);
+            lock {
+                autoscaledInFlightCount -= 1;
+                autoscaledProcessedCount += 1;
+            }
+        }
+    };
+    check ibmmqListener.attach(consumerSvc, "autoscaling-svc");
+    runtime:sleep(8);
+    check ibmmqListener.detach(consumerSvc);
+    lock {
+        test:assertTrue(autoscaledMaxInFlightCount > 1, "The consumers were not scaled up for the queue backlog");
+        test:assertTrue(autoscaledMaxInFlightCount <= 3, "The consumers were scaled beyond maxConsumers");
+        test:assertTrue(autoscaledProcessedCount > 0, "No messages were processed");
+    }
+}
+
+isolated int gracefulStopCompletedMsgCount = 0;
+
+@test:Config {
+    groups: ["service"]
+}
+isolated function testListenerGracefulStopDrainsInFlightMessages() returns error? {
+    Listener msgListener = check new Listener({
+        channel: "DEV.APP.SVRCONN",
+        host: "localhost",
+        name: "QM1",
+        userID: "app",
+        password: "password",
+        gracefulStopTimeout: 10
+    });
+    Service consumerSvc = @ServiceConfig {
+        sessionAckMode: CLIENT_ACKNOWLEDGE,
+        queueName: "DEV.QUEUE.13",
+        pollingInterval: 0.5,
+        receiveTimeout: 0.5
+    } service object {
+        remote function onMessage(Message message, Caller caller) returns error? {
+            runtime:sleep(3);
+            check caller->acknowledge(message);
+            lock {
+                gracefulStopCompletedMsgCount += 1;
+            }
+        }
+    };
+    check msgListener.attach(consumerSvc, "graceful-stop-svc");
+    check msgListener.'start();
+    Queue queue = check queueManager.accessQueue("DEV.QUEUE.13", MQOO_OUTPUT | MQOO_INPUT_AS_Q_DEF);
+    check queue->put({
+        payload: "This is an in-flight message".toBytes()
+    });
+    // The message is being processed when the listener is stopped.
+    runtime:sleep(1.5);
+    check msgListener.gracefulStop();
+    lock {
+        test:assertEquals(gracefulStopCompletedMsgCount, 1, "The in-flight message was not processed before stopping");
+    }
+    // The message was acknowledged before the session was closed, hence it is not redelivered.
+    Message? message = check queue->get();
+    test:assertTrue(message is (), "The in-flight message was not acknowledged before stopping");
+    check queue->close();
+}
+
 @test:Config {
     groups: ["service"]
 }
@@ -234,6 +234,94 @@ isolated function testSvcOnErrorWithAdditionalParameters() returns error? {
     }    
 }
 
+@test:Config {
+    groups: ["service", "validations"]
+}
+isolated function testSvcWithInvalidAutoscalingBounds() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        autoscaling: {
+            minConsumers: 3,
+            maxConsumers: 2
+        }
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    Error? result = ibmmqListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: Invalid autoscaling bounds, minConsumers: 3, maxConsumers: 2",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["service", "validations"]
+}
+isolated function testSvcWithInvalidAutoscalingScaleInterval() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        autoscaling: {
+            scaleInterval: 0
+        }
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    Error? result = ibmmqListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: Invalid autoscaling intervals, targetLag and scaleInterval " +
+                "must be positive, found: 10000 ms, 0 ms",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["service", "validations"]
+}
+isolated function testSvcWithInvalidAutoscalingTargetLag() returns error? {
+    Service svc = @ServiceConfig {
+        queueName: "test-svc-attach",
+        autoscaling: {
+            targetLag: -1
+        }
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    Error? result = ibmmqListener.attach(svc);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Failed to attach service to listener: Invalid autoscaling intervals, targetLag and scaleInterval " +
+                "must be positive, found: -1000 ms, 10000 ms",
+                "Invalid error message received");
+    }
+}
+
+@test:Config {
+    groups: ["service", "validations"]
+}
+isolated function testListenerWithInvalidTraceSamplingRate() {
+    Listener|Error result = new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password", traceSamplingRate = -0.5);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(
+                result.message(),
+                "Invalid trace sampling rate, it must be between 0.0 and 1.0, found: -0.5",
+                "Invalid error message received");
+    }
+}
+
 @test:Config {
     groups: ["service", "validations"],
     enable: false
@@ -0,0 +1,89 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["ibmmqQueue", "temporaryQueue"]
+}
+function accessModelQueueTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Queue queue = check queueManager.accessQueue("DEV.MODEL.QUEUE", MQOO_INPUT_EXCLUSIVE | MQOO_OUTPUT,
+            dynamicQueueName = "DEV.TEMP.*");
+    test:assertTrue(queue.getName().startsWith("DEV.TEMP."), "Unexpected dynamic queue name");
+    check queue->put({payload: "Hello temporary queue".toBytes()});
+    Message? message = check queue->get();
+    if message !is () {
+        test:assertEquals(string:fromBytes(message.payload), "Hello temporary queue");
+    } else {
+        test:assertFail("Expected a value for message");
+    }
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue", "temporaryQueue"]
+}
+function temporaryQueuePoolTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    TemporaryQueuePool pool = check queueManager.createTemporaryQueuePool("DEV.MODEL.QUEUE", minSize = 1,
+            maxSize = 1, dynamicQueueName = "DEV.TEMP.*", leaseTimeout = 1);
+    Queue replyQueue = check pool.lease();
+    string replyQueueName = replyQueue.getName();
+    Queue|Error exhausted = pool.lease();
+    test:assertTrue(exhausted is Error, "Leased more queues than the maximum size of the pool");
+
+    Queue producer = check queueManager.accessQueue(replyQueueName, MQOO_OUTPUT);
+    check producer->put({payload: "Late reply".toBytes()});
+    check producer->close();
+    check pool.release(replyQueue);
+
+    Queue leasedAgain = check pool.lease();
+    test:assertEquals(leasedAgain.getName(), replyQueueName);
+    Message? message = check leasedAgain->get();
+    test:assertTrue(message is (), "Messages of the previous lease were not purged");
+    check pool.release(leasedAgain);
+
+    check pool.close();
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqQueue", "temporaryQueue"]
+}
+function temporaryQueuePoolCloseWithLeasedQueueTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    TemporaryQueuePool pool = check queueManager.createTemporaryQueuePool("DEV.MODEL.QUEUE", minSize = 1,
+            maxSize = 2, dynamicQueueName = "DEV.TEMP.*");
+    Queue leasedQueue = check pool.lease();
+    check pool.close();
+
+    Error? result = leasedQueue->put({payload: "After close".toBytes()});
+    test:assertTrue(result is Error, "The leased queue was not closed with the pool");
+    check pool.release(leasedQueue);
+    Queue|Error leasedAfterClose = pool.lease();
+    test:assertTrue(leasedAfterClose is Error, "Leased a queue from a closed pool");
+    check queueManager.disconnect();
+}
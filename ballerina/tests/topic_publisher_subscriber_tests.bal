@@ -603,3 +603,48 @@ function publishSubscribeWithMultipleHeaderTypesTest() returns error? {
     check publisher->close();
     check queueManager.disconnect();
 }
+
+@test:Config {
+    groups: ["ibmmqTopic"]
+}
+function sendAfterTopicCloseTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Topic publisher = check queueManager.accessTopic("dev", "DEV.BASE.TOPIC", OPEN_AS_PUBLICATION, MQOO_OUTPUT);
+    check publisher->send({
+        payload: "Hello World".toBytes()
+    });
+    check publisher->close();
+    Error? result = publisher->send({
+        payload: "Hello World".toBytes()
+    });
+    if result is Error {
+        test:assertEquals(result.message(), "Error occurred while creating the topic: The topic is closed");
+    } else {
+        test:assertFail("Expected an error");
+    }
+    check queueManager.disconnect();
+}
+
+@test:Config {
+    groups: ["ibmmqTopic"]
+}
+function disconnectClosesOpenTopicsTest() returns error? {
+    QueueManager queueManager = check new (
+        name = "QM1", host = "localhost", channel = "DEV.APP.SVRCONN",
+        userID = "app", password = "password");
+    Topic publisher = check queueManager.accessTopic("dev", "DEV.BASE.TOPIC", OPEN_AS_PUBLICATION, MQOO_OUTPUT);
+    check publisher->send({
+        payload: "Hello World".toBytes()
+    });
+    check queueManager.disconnect();
+    Error? result = publisher->send({
+        payload: "Hello World".toBytes()
+    });
+    if result is Error {
+        test:assertEquals(result.message(), "Error occurred while creating the topic: The topic is closed");
+    } else {
+        test:assertFail("Expected an error");
+    }
+}
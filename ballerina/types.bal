@@ -60,19 +60,69 @@ public enum AcknowledgementMode {
 # `"priority = 'high'"`. If this value is not set, all messages in the queue will be delivered.
 # + pollingInterval - The polling interval in seconds
 # + receiveTimeout - The timeout to wait till a `receive` action finishes when there are no messages
+# + retryPolicy - The redelivery configurations applied when the `onMessage` method returns an error. Only
+# supported with the `SESSION_TRANSACTED` and `CLIENT_ACKNOWLEDGE` acknowledgement modes
 type CommonSubscriptionConfig record {|
     AcknowledgementMode sessionAckMode = AUTO_ACKNOWLEDGE;
     string messageSelector?;
     decimal pollingInterval = 10;
     decimal receiveTimeout = 5;
+    RetryPolicy retryPolicy?;
+|};
+
+# Redelivery configurations for messages which could not be processed by the `onMessage` method.
+#
+# For queue subscriptions, a failed message is re-sent to the same queue with a delivery delay, so that the other
+# messages in the queue are processed while it waits for the next attempt. For topic subscriptions, the message is
+# returned to the subscription and the listener backs off before receiving again. A queue message which can not be
+# re-sent, i.e. a stream message or a message which the queue manager rejects with a delivery delay, is returned to
+# the queue in the same way. A message which the `onMessage` method has already committed, rolled back or
+# acknowledged through the `ibmmq:Caller` is not redelivered by the listener.
+#
+# + maxAttempts - The maximum number of delivery attempts of a message, including the first delivery. The attempts
+# are counted using the `JMSXDeliveryCount` (the MQ backout count) of the message
+# + backoffDelay - The delay (in seconds) before the first redelivery
+# + backoffFactor - The multiplier applied to the delay on each subsequent redelivery
+# + maxBackoffDelay - The maximum delay (in seconds) between two redeliveries
+# + deadLetterQueue - The queue to which the message is moved once the attempts are exhausted. If not set, the
+# backout requeue queue (`BOQNAME`) of the consumed queue, which is inquired when the first message exhausts its
+# attempts, is used. If neither is available, or the queue can not be inquired, the message keeps being redelivered
+# with the `maxBackoffDelay`
+public type RetryPolicy record {|
+    int maxAttempts = 3;
+    decimal backoffDelay = 1;
+    float backoffFactor = 2.0;
+    decimal maxBackoffDelay = 60;
+    string deadLetterQueue?;
 |};
 
 # Configuration for an IBM MQ queue.
 #
 # + queueName - The name of the queue to consume messages from
+# + autoscaling - The queue-depth based autoscaling configurations. If not set, a single consumer is used
 public type QueueConfig record {|
     *CommonSubscriptionConfig;
     string queueName;
+    AutoscalingConfig autoscaling?;
+|};
+
+# Queue-depth based autoscaling configurations of an IBM MQ queue service.
+#
+# The current depth of the queue is inquired periodically and the number of consumers, each with its own session,
+# is adjusted within the configured bounds so that the queue can be drained within the `targetLag` at the observed
+# drain rate. The consumers are scaled down one at a time once the queue is empty. Concurrent consumers only process
+# messages in parallel when the service and its `onMessage` method are `isolated`.
+#
+# + minConsumers - The minimum number of active consumers
+# + maxConsumers - The maximum number of active consumers
+# + targetLag - The time (in seconds) within which the messages in the queue are expected to be drained. Must be
+# positive
+# + scaleInterval - The interval (in seconds) between two queue depth inquiries. Must be positive
+public type AutoscalingConfig record {|
+    int minConsumers = 1;
+    int maxConsumers = 5;
+    decimal targetLag = 10;
+    decimal scaleInterval = 10;
 |};
 
 # Configuration for an IBM MQ topic subscription.
@@ -128,6 +178,11 @@ public type SslCipherSuite SSL_ECDHE_ECDSA_WITH_3DES_EDE_CBC_SHA|SSL_ECDHE_ECDSA
 # + secureSocket - Configurations related to SSL/TLS encryption
 # + sslCipherSuite - Defines the combination of key exchange, encryption,
 # and integrity algorithms used for establishing a secure SSL/TLS connection
+# + traceSamplingRate - The fraction (between 0.0 and 1.0) of the messages to which the W3C trace context
+# (`traceparent` and `tracestate` message properties) is propagated when Ballerina tracing is enabled. Applies to
+# the produced messages only, an `ibmmq:Listener` follows the trace context carried by each message
+# + inquiryCacheTtl - The time (in seconds) for which the results of the `inquire*` functions of an
+# `ibmmq:QueueManager` are reused, so that frequent inquiries do not flood the command server of the queue manager
 public type QueueManagerConfiguration record {|
     string name;
     string host;
@@ -137,6 +192,36 @@ public type QueueManagerConfiguration record {|
     string password?;
     SecureSocket secureSocket?;
     SslCipherSuite sslCipherSuite?;
+    float traceSamplingRate = 1.0;
+    decimal inquiryCacheTtl = 5;
+|};
+
+# IBM MQ listener configurations.
+#
+# + gracefulStopTimeout - The maximum time (in seconds) that `gracefulStop` waits for the in-flight messages
+# to be processed, committed or acknowledged before the underlying sessions are closed
+# + reconnect - The configurations used to re-establish the connection once it is broken. The automatic
+# reconnection is disabled by default
+public type ListenerConfiguration record {|
+    *QueueManagerConfiguration;
+    decimal gracefulStopTimeout = 30;
+    ReconnectConfig|false reconnect = false;
+|};
+
+# Represents the automatic reconnection configurations of the IBM MQ listener. Once the connection is
+# re-established, the sessions and consumers of all the attached services are recreated and the message dispatch
+# resumes. The delay between two attempts is randomized between half of the computed delay and the computed delay,
+# so that the clients of a failed-over queue manager do not reconnect at the same time.
+#
+# + maxAttempts - The maximum number of reconnection attempts. A negative value indicates unlimited attempts
+# + initialDelay - The delay (in seconds) before the first reconnection attempt
+# + backoffFactor - The multiplier applied to the delay after each failed attempt
+# + maxDelay - The maximum delay (in seconds) between two reconnection attempts
+public type ReconnectConfig record {|
+    int maxAttempts = -1;
+    decimal initialDelay = 1;
+    float backoffFactor = 2.0;
+    decimal maxDelay = 30;
 |};
 
 # Configurations for secure communication with the IBM MQ server.
@@ -210,6 +295,11 @@ public type Property record {|
 # + characterSet - The coded character set identifier of character data in the application message data
 # + accountingToken - The accounting token, which is part of the message's identity and allows the work performed as a result of the message to be properly charged
 # + userId - Id of the user who originated the message
+# + groupId - Identifier of the group to which the message belongs
+# + messageSequenceNumber - Sequence number of the logical message within its group, starting from 1
+# + offset - Offset (in bytes) of the data of a segment from the start of its logical message
+# + messageFlags - Flags which specify the segmentation of the message and its membership of a group. This can be
+# represented as a combination of `ibmmq:MQMF_*` options
 # + headers - Headers to be sent in the message
 # + payload - Message payload
 public type Message record {|
@@ -228,6 +318,10 @@ public type Message record {|
     MessageCharset characterSet = MQCCSI_Q_MGR;
     byte[] accountingToken?;
     string userId?;
+    byte[] groupId?;
+    int messageSequenceNumber?;
+    int offset?;
+    int messageFlags?;
     Header[] headers?;
     byte[] payload;
 |};
@@ -397,3 +491,109 @@ public type MQIIH record {|
     string:Char commitMode = "0";
     string:Char securityScope = "C";
 |};
+
+# Defines the types of IBM MQ destinations.
+public enum DestinationType {
+    # Represents an IBM MQ queue
+    QUEUE,
+    # Represents an IBM MQ topic
+    TOPIC
+}
+
+# Represents the client-side metrics of an IBM MQ destination.
+#
+# + name - Name of the queue or the topic
+# + 'type - Type of the destination
+# + put - Metrics of the messages put to the destination
+# + get - Metrics of the messages retrieved from the destination
+# + handle - Metrics of the messages dispatched to the services attached to an `ibmmq:Listener`
+# + residenceTime - Statistics of the time between a message being put to the destination, as recorded by the queue
+# manager, and the message being received. The statistics are skewed by the clock difference between the queue
+# manager and the client
+# + oldestMessageAge - Residence time (in seconds) of the oldest message received within the last one to two minutes,
+# which reflects the current lag of the consumers
+public type DestinationMetrics record {|
+    string name;
+    DestinationType 'type;
+    OperationMetrics put;
+    OperationMetrics get;
+    OperationMetrics handle;
+    LatencyMetrics residenceTime;
+    decimal oldestMessageAge;
+|};
+
+# Represents the metrics of an operation on an IBM MQ destination.
+#
+# + messages - Number of successfully processed messages
+# + bytes - Total size (in bytes) of the successfully processed messages, including the message headers. Not
+# recorded for the messages handled by an `ibmmq:Listener`
+# + errors - Number of failed operations keyed by the MQ reason code, or `unknown` if the failure is not caused by
+# an MQ error
+# + latency - Latency statistics of the successful operations
+public type OperationMetrics record {|
+    int messages;
+    int bytes;
+    map<int> errors;
+    LatencyMetrics latency;
+|};
+
+# Represents latency statistics. The percentiles are approximated with a relative error of at
+# most 12.5%.
+#
+# + mean - Mean latency (in seconds)
+# + p50 - Median latency (in seconds)
+# + p90 - 90th percentile latency (in seconds)
+# + p99 - 99th percentile latency (in seconds)
+# + max - Maximum latency (in seconds)
+public type LatencyMetrics record {|
+    decimal mean;
+    decimal p50;
+    decimal p90;
+    decimal p99;
+    decimal max;
+|};
+
+# Represents the status of an IBM MQ queue.
+#
+# + queueName - Name of the queue
+# + depth - Number of messages in the queue (`CURDEPTH`)
+# + openInputCount - Number of handles which have the queue open for input (`IPPROCS`)
+# + openOutputCount - Number of handles which have the queue open for output (`OPPROCS`)
+# + uncommittedMessages - Number of uncommitted changes (puts and gets) pending for the queue
+# + oldestMessageAge - Age (in seconds) of the oldest message in the queue, or -1 if the queue monitoring (`MONQ`)
+# is not enabled for the queue
+public type QueueStatus record {|
+    string queueName;
+    int depth;
+    int openInputCount;
+    int openOutputCount;
+    int uncommittedMessages;
+    int oldestMessageAge;
+|};
+
+# Represents the status of an active instance of an IBM MQ channel.
+#
+# + channelName - Name of the channel
+# + connectionName - Connection name of the remote end of the channel instance
+# + status - Status of the channel instance (e.g. `RUNNING`, `RETRYING` or `STOPPED`)
+# + messages - Number of messages sent or received over the channel instance
+public type ChannelStatus record {|
+    string channelName;
+    string connectionName;
+    string status;
+    int messages;
+|};
+
+# Represents the outcome of putting a message to one of the queues of a `putToMany` call.
+#
+# + queueName - Name of the queue
+# + completionCode - Completion code of the put to the queue (`ibmmq:MQCC_OK`, `ibmmq:MQCC_WARNING` or
+# `ibmmq:MQCC_FAILED`)
+# + reasonCode - Reason code of the put to the queue
+# + messageId - Message identifier of the message put to the queue, if the message was put
+public type PutResult record {|
+    string queueName;
+    int completionCode;
+    int reasonCode;
+    byte[] messageId?;
+|};
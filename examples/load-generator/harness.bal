@@ -0,0 +1,200 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+// The in-memory queue manager is a part of the test fixtures of the connector, hence it is loaded reflectively, only
+// when the in-memory mode is used.
+const IN_MEMORY_QUEUE_MANAGER_CLASS = "io.ballerina.lib.ibm.ibmmq.testing.InMemoryQueueManager";
+const float NANOS_PER_MICRO = 1000.0;
+// The distribution is written down to the percentile at which this share of the latencies is left.
+const float MIN_DISTRIBUTION_TAIL = 0.001;
+const int DISTRIBUTION_COLUMN_WIDTH = 14;
+
+final float[] & readonly PERCENTILES = [50, 90, 99, 99.9, 99.99];
+
+# Records the latencies of the consumed messages in the latency histogram of the connector metrics. The histogram has
+# a fixed size and is updated without a lock, hence recording neither serializes the consumers nor uses memory which
+# grows with the number of messages. A latency is reported within 12.5% of its value.
+isolated class LatencyRecorder {
+    private final handle histogram = newLatencyHistogram();
+
+    # Records the latency of a message which was sent at the given `nanoTime()` value.
+    #
+    # + sentAt - The time at which the message was sent
+    isolated function record(int sentAt) {
+        recordLatency(self.histogram, nanoTime() - sentAt);
+    }
+
+    # Returns the latency at the given percentile of the recorded latencies.
+    #
+    # + percentile - The percentile, from 0 (the minimum) to 100 (the maximum)
+    # + return - The latency in nanoseconds, or 0 if no latency is recorded
+    isolated function valueAtPercentile(float percentile) returns int =>
+        latencyAtPercentile(self.histogram, percentile);
+
+    # Returns the number of recorded latencies.
+    #
+    # + return - The number of recorded latencies
+    isolated function count() returns int => latencyCount(self.histogram);
+}
+
+# Starts the in-memory queue manager of the given name.
+#
+# + name - The name of the queue manager
+# + return - An error if the test fixtures of the connector are not available
+isolated function startInMemoryQueueManager(string name) returns error? {
+    handle|error queueManagerClass = forName(java:fromString(IN_MEMORY_QUEUE_MANAGER_CLASS));
+    if queueManagerClass is error {
+        return error("The in-memory queue manager is not available, add the test fixtures of the connector as a " +
+            "platform dependency to run in the in-memory mode", queueManagerClass);
+    }
+    handle stringClass = check forName(java:fromString("java.lang.String"));
+    handle 'start = check findStatic(publicLookup(), queueManagerClass, java:fromString("start"),
+            methodType(queueManagerClass, stringClass));
+    _ = check invokeWithArguments('start, listOf(java:fromString(name)));
+}
+
+# Returns the report of the run, with the throughput and the latency percentiles.
+#
+# + latencies - The recorded latencies
+# + produced - The number of messages produced
+# + produceNanos - The time taken to produce the messages
+# + consumed - The number of messages consumed
+# + consumeNanos - The time taken to consume the messages
+# + return - The report
+isolated function report(LatencyRecorder latencies, int produced, int produceNanos, int consumed, int consumeNanos)
+        returns string {
+    string[] lines = [
+        throughput("Produced", produced, produceNanos),
+        throughput("Consumed", consumed, consumeNanos),
+        string `${"Latency".padEnd(10)} ${"(us)".padStart(12)}`,
+        latency("min", latencies.valueAtPercentile(0))
+    ];
+    foreach float percentile in PERCENTILES {
+        lines.push(latency(string `p${formatPercentile(percentile)}`, latencies.valueAtPercentile(percentile)));
+    }
+    lines.push(latency("max", latencies.valueAtPercentile(100)));
+    return string:'join("\n", ...lines);
+}
+
+# Writes the percentile distribution of the latencies (in microseconds) in the percentile distribution format of
+# HdrHistogram, at percentiles which halve the remaining tail each time, so that the distributions of different runs
+# can be plotted and compared with the HdrHistogram plotter.
+#
+# + latencies - The recorded latencies
+# + path - The file to which the distribution is written
+# + return - An error if the file could not be written
+isolated function writePercentileDistribution(LatencyRecorder latencies, string path) returns error? {
+    int count = latencies.count();
+    string[] lines = [
+        string:'join(" ", ...["Value", "Percentile", "TotalCount", "1/(1-Percentile)"]
+                .map(column => column.padStart(DISTRIBUTION_COLUMN_WIDTH))),
+        ""
+    ];
+    float tail = 100;
+    while tail >= MIN_DISTRIBUTION_TAIL {
+        float percentile = 100 - tail;
+        lines.push(distributionLine(latencies.valueAtPercentile(percentile), percentile, count, 100 / tail));
+        tail /= 2;
+    }
+    lines.push(distributionLine(latencies.valueAtPercentile(100), 100, count, ()));
+    lines.push(string `#[Max = ${toMicros(latencies.valueAtPercentile(100))}, Total count = ${count}]`);
+    check io:fileWriteLines(path, lines);
+}
+
+isolated function distributionLine(int nanos, float percentile, int count, float? inverse) returns string {
+    int totalCount = int:min(int:max(<int>float:ceil(percentile / 100 * <float>count), 1), count);
+    string[] columns = [
+        (<float>nanos / NANOS_PER_MICRO).toFixedString(3),
+        (percentile / 100).toFixedString(12),
+        totalCount.toString()
+    ];
+    // The inverse is left out at the 100th percentile, as HdrHistogram does.
+    if inverse is float {
+        columns.push(inverse.toFixedString(2));
+    }
+    return string:'join(" ", ...columns.map(column => column.padStart(DISTRIBUTION_COLUMN_WIDTH)));
+}
+
+isolated function throughput(string label, int count, int nanos) returns string {
+    float seconds = <float>nanos / <float>NANOS_PER_SECOND;
+    float messageRate = seconds > 0.0 ? <float>count / seconds : 0.0;
+    return string `${label.padEnd(10)} ${count.toString().padStart(12)} messages in ${seconds.toFixedString(3)} s ` +
+        string `(${messageRate.toFixedString(1)} msg/s)`;
+}
+
+isolated function latency(string label, int nanos) returns string =>
+    string `  ${label.padEnd(8)} ${toMicros(nanos).padStart(12)}`;
+
+isolated function toMicros(int nanos) returns string => (<float>nanos / NANOS_PER_MICRO).toFixedString(1);
+
+isolated function formatPercentile(float percentile) returns string =>
+    percentile == percentile.floor() ? (<int>percentile).toString() : percentile.toString();
+
+isolated function newLatencyHistogram() returns handle = @java:Constructor {
+    'class: "io.ballerina.lib.ibm.ibmmq.metrics.LatencyHistogram"
+} external;
+
+isolated function recordLatency(handle histogram, int nanos) = @java:Method {
+    name: "record",
+    'class: "io.ballerina.lib.ibm.ibmmq.metrics.LatencyHistogram"
+} external;
+
+isolated function latencyAtPercentile(handle histogram, float percentile) returns int = @java:Method {
+    name: "getValueAtPercentile",
+    'class: "io.ballerina.lib.ibm.ibmmq.metrics.LatencyHistogram"
+} external;
+
+isolated function latencyCount(handle histogram) returns int = @java:Method {
+    name: "getCount",
+    'class: "io.ballerina.lib.ibm.ibmmq.metrics.LatencyHistogram"
+} external;
+
+isolated function nanoTime() returns int = @java:Method {
+    'class: "java.lang.System"
+} external;
+
+isolated function forName(handle className) returns handle|error = @java:Method {
+    'class: "java.lang.Class",
+    paramTypes: ["java.lang.String"]
+} external;
+
+isolated function publicLookup() returns handle = @java:Method {
+    'class: "java.lang.invoke.MethodHandles"
+} external;
+
+isolated function methodType(handle returnType, handle parameterType) returns handle = @java:Method {
+    'class: "java.lang.invoke.MethodType",
+    paramTypes: ["java.lang.Class", "java.lang.Class"]
+} external;
+
+isolated function findStatic(handle lookup, handle refc, handle name, handle 'type) returns handle|error =
+        @java:Method {
+    'class: "java.lang.invoke.MethodHandles$Lookup"
+} external;
+
+isolated function invokeWithArguments(handle methodHandle, handle arguments) returns handle|error = @java:Method {
+    'class: "java.lang.invoke.MethodHandle",
+    paramTypes: ["java.util.List"]
+} external;
+
+isolated function listOf(handle element) returns handle = @java:Method {
+    name: "of",
+    'class: "java.util.List",
+    paramTypes: ["java.lang.Object"]
+} external;
@@ -0,0 +1,245 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/lang.runtime;
+import ballerinax/ibm.ibmmq;
+
+# The way the messages are consumed, either by `ibmmq:Queue` clients or by `ibmmq:Listener` services.
+type ConsumerMode "client"|"listener";
+
+configurable string name = ?;
+configurable string host = ?;
+configurable int port = ?;
+configurable string channel = ?;
+configurable string userID = ?;
+configurable string password = ?;
+configurable string queueName = ?;
+
+configurable boolean inMemory = false;
+configurable int messageCount = 100000;
+configurable int messageSize = 1024;
+configurable int rate = 0;
+configurable boolean persistent = false;
+configurable int producers = 1;
+configurable int consumers = 1;
+configurable int batchSize = 1;
+configurable ConsumerMode consumerMode = "client";
+// A listener service handles at most one message per polling interval, hence the interval bounds the throughput of
+// each service and adds up to an interval to the latency of each message.
+configurable decimal pollingInterval = 0.001;
+configurable decimal drainTimeout = 60;
+configurable string histogramFile = "";
+
+// The send time is carried in the first bytes of the payload, as the message properties are surfaced differently
+// by the queue clients and the listener.
+const int TIMESTAMP_LENGTH = 8;
+const int MQPER_NOT_PERSISTENT = 0;
+const int MQPER_PERSISTENT = 1;
+const decimal NANOS_PER_SECOND = 1000000000;
+
+final LatencyRecorder latencyRecorder = new;
+
+isolated int consumedCount = 0;
+isolated int lastConsumedAt = 0;
+isolated boolean stopped = false;
+
+public function main() returns error? {
+    if messageSize < TIMESTAMP_LENGTH {
+        return error(string `The message size must be at least ${TIMESTAMP_LENGTH} bytes`);
+    }
+    if inMemory {
+        check startInMemoryQueueManager(name);
+    }
+
+    ibmmq:Listener? ibmmqListener = ();
+    future<error?>[] consumerFutures = [];
+    if consumerMode == "listener" {
+        ibmmqListener = check startListener();
+    } else {
+        foreach int _ in 0 ..< consumers {
+            consumerFutures.push(start consume());
+        }
+    }
+
+    int startedAt = nanoTime();
+    future<error?>[] producerFutures = [];
+    foreach int i in 0 ..< producers {
+        int count = messageCount / producers + (i < messageCount % producers ? 1 : 0);
+        producerFutures.push(start produce(count));
+    }
+    foreach future<error?> producer in producerFutures {
+        check wait producer;
+    }
+    int producedAt = nanoTime();
+
+    awaitConsumed(producedAt + <int>(drainTimeout * NANOS_PER_SECOND));
+    lock {
+        stopped = true;
+    }
+    foreach future<error?> consumer in consumerFutures {
+        check wait consumer;
+    }
+    if ibmmqListener is ibmmq:Listener {
+        check ibmmqListener.gracefulStop();
+    }
+
+    int consumed;
+    int consumedAt;
+    lock {
+        consumed = consumedCount;
+        consumedAt = lastConsumedAt;
+    }
+    io:println(report(latencyRecorder, messageCount, producedAt - startedAt, consumed,
+            consumed > 0 ? consumedAt - startedAt : 0));
+    if histogramFile != "" {
+        check writePercentileDistribution(latencyRecorder, histogramFile);
+    }
+}
+
+# Puts the given number of messages, at the configured rate shared among the producers. Each producer uses its own
+# connection, so that the units of work of the producers are independent.
+#
+# + count - The number of messages to be put
+# + return - An error if the messages could not be put
+isolated function produce(int count) returns error? {
+    ibmmq:QueueManager queueManager = check new (
+        name = name, host = host, port = port, channel = channel, userID = userID, password = password
+    );
+    ibmmq:Queue queue = check queueManager.accessQueue(queueName, ibmmq:MQOO_OUTPUT);
+    int putOptions = batchSize > 1 ? ibmmq:MQPMO_SYNCPOINT : ibmmq:MQPMO_NO_SYNCPOINT;
+    int interval = rate > 0 ? producers * <int>NANOS_PER_SECOND / rate : 0;
+    byte[] template = [];
+    template.setLength(messageSize);
+
+    int startedAt = nanoTime();
+    foreach int i in 1 ... count {
+        int sentAt = nanoTime();
+        if interval > 0 {
+            // The intended send time is used as the send time, so that a stalled producer does not hide the
+            // latency of the messages it should have sent in the meantime (coordinated omission).
+            int due = startedAt + (i - 1) * interval;
+            if due > sentAt {
+                runtime:sleep(<decimal>(due - sentAt) / NANOS_PER_SECOND);
+            }
+            sentAt = due;
+        }
+        check queue->put({
+            payload: stamp(template, sentAt),
+            persistence: persistent ? MQPER_PERSISTENT : MQPER_NOT_PERSISTENT
+        }, putOptions);
+        if batchSize > 1 && (i % batchSize == 0 || i == count) {
+            check queueManager.'commit();
+        }
+    }
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+# Gets messages until the run is stopped, committing every `batchSize` messages.
+#
+# + return - An error if the messages could not be got
+isolated function consume() returns error? {
+    ibmmq:QueueManager queueManager = check new (
+        name = name, host = host, port = port, channel = channel, userID = userID, password = password
+    );
+    ibmmq:Queue queue = check queueManager.accessQueue(queueName, ibmmq:MQOO_INPUT_AS_Q_DEF);
+    int getOptions = ibmmq:MQGMO_WAIT | (batchSize > 1 ? ibmmq:MQGMO_SYNCPOINT : ibmmq:MQGMO_NO_SYNCPOINT);
+    int uncommitted = 0;
+    while !isStopped() {
+        ibmmq:Message? message = check queue->get(options = getOptions, waitInterval = 1);
+        if message is ibmmq:Message {
+            onConsumed(message.payload);
+            uncommitted += 1;
+        }
+        if uncommitted > 0 && (uncommitted == batchSize || message is ()) {
+            check queueManager.'commit();
+            uncommitted = 0;
+        }
+    }
+    check queue->close();
+    check queueManager.disconnect();
+}
+
+# Starts a listener with a service per consumer, each of which receives with its own session.
+#
+# + return - The started listener or an error if it could not be started
+function startListener() returns ibmmq:Listener|error {
+    ibmmq:Listener ibmmqListener = check new (
+        name = name, host = host, port = port, channel = channel, userID = userID, password = password
+    );
+    foreach int _ in 0 ..< consumers {
+        check ibmmqListener.attach(createService());
+    }
+    check ibmmqListener.'start();
+    return ibmmqListener;
+}
+
+isolated function createService() returns ibmmq:Service =>
+    @ibmmq:ServiceConfig {
+        queueName,
+        pollingInterval,
+        receiveTimeout: 1
+    }
+    isolated service object {
+        isolated remote function onMessage(ibmmq:Message message) returns error? {
+            onConsumed(message.payload);
+        }
+    };
+
+isolated function onConsumed(byte[] payload) {
+    latencyRecorder.record(sentAtOf(payload));
+    int consumedAt = nanoTime();
+    lock {
+        consumedCount += 1;
+        lastConsumedAt = consumedAt;
+    }
+}
+
+function awaitConsumed(int deadline) {
+    while nanoTime() < deadline {
+        int consumed;
+        lock {
+            consumed = consumedCount;
+        }
+        if consumed >= messageCount {
+            return;
+        }
+        runtime:sleep(0.1);
+    }
+}
+
+isolated function isStopped() returns boolean {
+    lock {
+        return stopped;
+    }
+}
+
+isolated function stamp(byte[] template, int sentAt) returns byte[] {
+    byte[] payload = template.clone();
+    foreach int i in 0 ..< TIMESTAMP_LENGTH {
+        payload[i] = <byte>((sentAt >> (8 * (TIMESTAMP_LENGTH - 1 - i))) & 0xff);
+    }
+    return payload;
+}
+
+isolated function sentAtOf(byte[] payload) returns int {
+    int sentAt = 0;
+    foreach int i in 0 ..< TIMESTAMP_LENGTH {
+        sentAt = (sentAt << 8) | payload[i];
+    }
+    return sentAt;
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.benchmarks;
+
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.constants.CMQC;
+import com.sun.management.ThreadMXBean;
+import io.ballerina.lib.ibm.ibmmq.CommonUtils;
+import io.ballerina.lib.ibm.ibmmq.config.GetMessageOptions;
+import io.ballerina.lib.ibm.ibmmq.metrics.ClientMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Checks the bytes allocated per message by the put and get paths of the connector against fixed budgets. The
+ * allocations are measured on the current thread with {@link ThreadMXBean#getThreadAllocatedBytes(long)} once the
+ * paths are warmed up, hence the figures are stable across runs and do not depend on the GC in use.
+ * <p>
+ * Only the allocations of the connector are measured. The messages are neither sent to nor received from a queue
+ * manager: the put path converts a Ballerina message to an MQ message and creates its put options, and the get path
+ * creates the message and the options of a get and converts an MQ message, which carries an MQRFH2 header and message
+ * properties, to a Ballerina message. The dispatch path of the listener runs a Ballerina service, hence its budget is
+ * checked by the allocation test of the in-memory listener instead.
+ * <p>
+ * The budgets are read from the given properties file, and a path without a budget fails the check as well, so that
+ * the allocations of every path are bounded. When {@code --rebaseline} is given, the budgets of the measured paths are rewritten with the measured
+ * allocations and some headroom instead, which is done after an intended change of the allocations.
+ *
+ * @since 1.4.3
+ */
+public final class AllocationBudgets {
+    private static final int WARMUP_MESSAGES = 20_000;
+    private static final int MEASURED_MESSAGES = 10_000;
+    private static final int PAYLOAD_SIZE = 1024;
+    private static final int PROPERTY_COUNT = 10;
+    private static final double REBASELINE_HEADROOM = 1.2;
+    private static final String REBASELINE_OPTION = "--rebaseline";
+    private static final PrintStream OUT = System.out;
+    // The objects created by the paths are kept in a static sink, so that they escape and are not eliminated by the
+    // JIT compiler.
+    private static final Object[] SINK = new Object[3];
+
+    private AllocationBudgets() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path budgetsFile = Path.of(args[0]);
+        boolean rebaseline = args.length > 1 && REBASELINE_OPTION.equals(args[1]);
+
+        Map<String, Long> allocations = new LinkedHashMap<>();
+        for (Map.Entry<String, MessagePath> path : paths(BallerinaModule.start()).entrySet()) {
+            allocations.put(path.getKey(), bytesPerMessage(path.getValue()));
+        }
+        Properties budgets = new Properties();
+        try (InputStream in = Files.newInputStream(budgetsFile)) {
+            budgets.load(in);
+        }
+        if (rebaseline) {
+            writeBudgets(budgetsFile, budgets, allocations);
+            return;
+        }
+
+        List<String> failures = new ArrayList<>();
+        OUT.printf("%-10s %12s %12s%n", "Path", "Bytes/msg", "Budget");
+        for (Map.Entry<String, Long> allocation : allocations.entrySet()) {
+            String budgetValue = budgets.getProperty(allocation.getKey());
+            if (Objects.isNull(budgetValue)) {
+                OUT.printf("%-10s %12d %12s%n", allocation.getKey(), allocation.getValue(), "none");
+                failures.add(String.format("%s (no budget, %d bytes per message)", allocation.getKey(),
+                        allocation.getValue()));
+                continue;
+            }
+            long budget = Long.parseLong(budgetValue.strip());
+            OUT.printf("%-10s %12d %12d%n", allocation.getKey(), allocation.getValue(), budget);
+            if (allocation.getValue() > budget) {
+                failures.add(String.format("%s (%d > %d bytes per message)", allocation.getKey(),
+                        allocation.getValue(), budget));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("The allocation budgets are not met by: " + String.join(", ", failures));
+        }
+    }
+
+    private static Map<String, MessagePath> paths(Runtime runtime) throws Exception {
+        DestinationMetrics metrics = new ClientMetrics().forQueue("DEV.QUEUE.1");
+        BMap<BString, Object> bMessage = MessageFixtures.bMessage(runtime, HeaderKind.MQRFH2, PAYLOAD_SIZE,
+                PROPERTY_COUNT);
+        MQMessage received = MessageFixtures.mqMessage(HeaderKind.MQRFH2, PAYLOAD_SIZE, PROPERTY_COUNT);
+        GetMessageOptions getOptions = new GetMessageOptions(CMQC.MQGMO_WAIT, 10, null);
+
+        Map<String, MessagePath> paths = new LinkedHashMap<>();
+        paths.put("put", () -> {
+            MQMessage message = CommonUtils.getMqMessageFromBMessage(bMessage);
+            MQPutMessageOptions options = new MQPutMessageOptions();
+            options.options = CMQC.MQPMO_NO_SYNCPOINT;
+            SINK[1] = options;
+            metrics.put().recordSuccess(0, message.getMessageLength());
+            return message;
+        });
+        paths.put("get", () -> {
+            // The message and the options, which are passed to the queue manager, are allocated on every get as well.
+            SINK[1] = CommonUtils.getMqMessage(getOptions.matchOptions());
+            SINK[2] = CommonUtils.getMqGetMsgOptions(getOptions);
+            received.seek(0);
+            metrics.get().recordSuccess(0, received.getMessageLength());
+            return CommonUtils.getBMessageFromMQMessage(runtime, received);
+        });
+        return paths;
+    }
+
+    private static long bytesPerMessage(MessagePath path) throws Exception {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < WARMUP_MESSAGES; i++) {
+            SINK[0] = path.run();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_MESSAGES; i++) {
+            SINK[0] = path.run();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        return (after - before) / MEASURED_MESSAGES;
+    }
+
+    /**
+     * Rewrites the budgets of the measured paths. The budgets of the other paths, such as the dispatch path, are kept.
+     */
+    private static void writeBudgets(Path budgetsFile, Properties currentBudgets, Map<String, Long> allocations)
+            throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (String path : new TreeSet<>(currentBudgets.stringPropertyNames())) {
+            entries.put(path, currentBudgets.getProperty(path).strip());
+        }
+        for (Map.Entry<String, Long> allocation : allocations.entrySet()) {
+            long budget = (long) Math.ceil(allocation.getValue() * REBASELINE_HEADROOM);
+            entries.put(allocation.getKey(), Long.toString(budget));
+            OUT.printf("%-10s %12d -> %d%n", allocation.getKey(), allocation.getValue(), budget);
+        }
+        StringBuilder budgets = new StringBuilder()
+                .append("# The bytes allocated per message by the paths. The put and get budgets are checked by\n")
+                .append("# checkAllocationBudgets and the dispatch budget by the allocation test of the in-memory\n")
+                .append("# listener. A path without a budget fails its check.\n")
+                .append("# Re-baseline with -PrebaselineAllocationBudgets only after an intended change.\n");
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            budgets.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        try (OutputStream out = Files.newOutputStream(budgetsFile)) {
+            out.write(budgets.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * The per-message work of a path of the connector.
+     */
+    @FunctionalInterface
+    private interface MessagePath {
+        Object run() throws Exception;
+    }
+}
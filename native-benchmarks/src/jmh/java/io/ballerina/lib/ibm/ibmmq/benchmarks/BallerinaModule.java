@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+
+import java.util.Objects;
+
+/**
+ * Starts the compiled Ballerina IBM MQ module once per benchmark JVM. The native message conversions create the
+ * records defined in the module, hence the module has to be initialized before any of them is invoked.
+ *
+ * @since 1.4.3
+ */
+final class BallerinaModule {
+    private static final Module MODULE = new Module("ballerinax", "ibm.ibmmq", "1");
+    private static Runtime runtime;
+
+    private BallerinaModule() {
+    }
+
+    static synchronized Runtime start() {
+        if (Objects.isNull(runtime)) {
+            runtime = Runtime.from(MODULE);
+            runtime.init();
+            runtime.start();
+        }
+        return runtime;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.benchmarks;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.headers.MQHeaderList;
+import io.ballerina.lib.ibm.ibmmq.headers.HeaderUtils;
+import io.ballerina.lib.ibm.ibmmq.headers.MQCIHHeader;
+import io.ballerina.lib.ibm.ibmmq.headers.MQIIHHeader;
+import io.ballerina.lib.ibm.ibmmq.headers.MQRFH2Header;
+import io.ballerina.lib.ibm.ibmmq.headers.MQRFHHeader;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the encoding and the decoding of the MQ header chains. Every message read by the connector goes through
+ * the decoding chain, including the messages without any header, which are probed for each supported header type.
+ *
+ * @since 1.4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeaderCodecBenchmark {
+    private static final int PAYLOAD_SIZE = 1024;
+
+    /**
+     * The header chains which are commonly seen by the connector.
+     */
+    public enum HeaderChain {
+        NONE(),
+        JMS(HeaderKind.MQRFH2),
+        RFH(HeaderKind.MQRFH),
+        CICS_BRIDGE(HeaderKind.MQCIH),
+        JMS_CICS_BRIDGE(HeaderKind.MQRFH2, HeaderKind.MQCIH),
+        IMS_BRIDGE(HeaderKind.MQIIH);
+
+        private final List<HeaderKind> headers;
+
+        HeaderChain(HeaderKind... headers) {
+            this.headers = List.of(headers);
+        }
+    }
+
+    @Param({"NONE", "JMS", "RFH", "CICS_BRIDGE", "JMS_CICS_BRIDGE", "IMS_BRIDGE"})
+    private HeaderChain chain;
+
+    private Runtime runtime;
+    private MQMessage message;
+    private int payloadOffset;
+    private List<BMap<BString, Object>> bHeaders;
+
+    @Setup
+    public void setup() throws MQException, IOException {
+        this.runtime = BallerinaModule.start();
+        this.message = MessageFixtures.mqMessage(this.chain.headers, PAYLOAD_SIZE, 0);
+        ArrayList<BMap<BString, Object>> headers = new ArrayList<>();
+        MQRFH2Header.decodeHeader(this.runtime, this.message, headers);
+        // The decoding stops at the start of the payload, once none of the header types could be read.
+        this.payloadOffset = this.message.getDataOffset();
+        this.bHeaders = headers;
+        if (headers.size() != this.chain.headers.size()) {
+            throw new IllegalStateException(String.format("Expected %d headers in the %s chain, but decoded %d",
+                    this.chain.headers.size(), this.chain, headers.size()));
+        }
+    }
+
+    @Benchmark
+    public List<BMap<BString, Object>> decode() throws IOException {
+        this.message.seek(0);
+        ArrayList<BMap<BString, Object>> headers = new ArrayList<>();
+        MQRFH2Header.decodeHeader(this.runtime, this.message, headers);
+        return headers;
+    }
+
+    @Benchmark
+    public List<BMap<BString, Object>> decodeUnsupportedHeaders() throws IOException {
+        // Isolates the probing for the unsupported header types, which is done at the end of every chain.
+        this.message.seek(this.payloadOffset);
+        ArrayList<BMap<BString, Object>> headers = new ArrayList<>();
+        HeaderUtils.decodeUnSupportedHeaders(this.runtime, this.message, headers);
+        return headers;
+    }
+
+    @Benchmark
+    public MQMessage encode() throws IOException {
+        MQHeaderList headers = new MQHeaderList();
+        for (BMap<BString, Object> bHeader : this.bHeaders) {
+            Object header = switch (HeaderKind.valueOf(bHeader.getType().getName())) {
+                case MQRFH2 -> MQRFH2Header.createMQRFH2HeaderFromBHeader(bHeader);
+                case MQRFH -> MQRFHHeader.createMQRFHHeaderFromBHeader(bHeader);
+                case MQCIH -> MQCIHHeader.createMQCIHHeaderFromBHeader(bHeader);
+                case MQIIH -> MQIIHHeader.createMQIIHHeaderFromBHeader(bHeader);
+                case NONE -> throw new IllegalStateException("Unexpected header type");
+            };
+            headers.add(header);
+        }
+        MQMessage encoded = new MQMessage();
+        headers.write(encoded);
+        return encoded;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.benchmarks;
+
+import com.ibm.mq.MQException;
+import io.ballerina.lib.ibm.ibmmq.CommonUtils;
+import io.ballerina.lib.ibm.ibmmq.listener.MessageMapper;
+import io.ballerina.lib.ibm.ibmmq.testing.InMemoryJms;
+import io.ballerina.lib.ibm.ibmmq.testing.InMemoryQueueManager;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+/**
+ * Benchmarks the conversion between the Ballerina message and the JMS message, which is done on every send to a
+ * topic and on every message dispatched to a listener service.
+ *
+ * @since 1.4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JmsMessageConversionBenchmark {
+
+    @Param({"100", "10240", "1048576", "10485760"})
+    private int payloadSize;
+
+    @Param({"0", "10", "50"})
+    private int propertyCount;
+
+    private Session session;
+    private BMap<BString, Object> bMessage;
+    private BytesMessage jmsMessage;
+
+    @Setup
+    public void setup() throws MQException, IOException {
+        // JMS messages do not carry the MQ headers, hence the headers are not a parameter of these benchmarks.
+        this.bMessage = MessageFixtures.bMessage(BallerinaModule.start(), HeaderKind.NONE, this.payloadSize,
+                this.propertyCount);
+        this.session = InMemoryJms.session(InMemoryQueueManager.start("QM.BENCHMARK"));
+        this.jmsMessage = (BytesMessage) CommonUtils.getJmsMessageFromBMessage(this.session, this.bMessage);
+    }
+
+    @Benchmark
+    public Message toJmsMessage() {
+        return CommonUtils.getJmsMessageFromBMessage(this.session, this.bMessage);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> fromJmsMessage() throws JMSException {
+        // The body is read from the current position, hence it is rewound before each conversion.
+        this.jmsMessage.reset();
+        return MessageMapper.toBallerinaMessage(this.jmsMessage);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.benchmarks;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.constants.CMQC;
+import com.ibm.mq.headers.MQCIH;
+import com.ibm.mq.headers.MQChainable;
+import com.ibm.mq.headers.MQHeader;
+import com.ibm.mq.headers.MQHeaderList;
+import com.ibm.mq.headers.MQIIH;
+import com.ibm.mq.headers.MQRFH;
+import com.ibm.mq.headers.MQRFH2;
+import io.ballerina.lib.ibm.ibmmq.CommonUtils;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Builds the messages used by the benchmarks. The messages are built in memory with the IBM MQ classes, hence no
+ * queue manager is needed to run the benchmarks.
+ *
+ * @since 1.4.3
+ */
+final class MessageFixtures {
+    private static final BString MESSAGE_PROPERTY = StringUtils.fromString("property");
+    private static final BString MESSAGE_PROPERTIES = StringUtils.fromString("properties");
+    private static final int UTF8_CCSID = 1208;
+
+    private MessageFixtures() {
+    }
+
+    static byte[] payload(int size) {
+        byte[] payload = new byte[size];
+        for (int i = 0; i < size; i++) {
+            payload[i] = (byte) ('a' + i % 26);
+        }
+        return payload;
+    }
+
+    static MQMessage mqMessage(HeaderKind headerKind, int payloadSize, int propertyCount)
+            throws MQException, IOException {
+        List<HeaderKind> headers = headerKind == HeaderKind.NONE ? List.of() : List.of(headerKind);
+        return mqMessage(headers, payloadSize, propertyCount);
+    }
+
+    /**
+     * Creates a message in which the payload is preceded by the given chain of headers. The format of each header
+     * names the header which follows it, as it is done by the applications which build such chains.
+     */
+    static MQMessage mqMessage(List<HeaderKind> headerChain, int payloadSize, int propertyCount)
+            throws MQException, IOException {
+        MQMessage message = new MQMessage();
+        message.characterSet = UTF8_CCSID;
+        for (int i = 0; i < propertyCount; i++) {
+            // Alternates between the string and the integer properties, which are the most common property types.
+            if (i % 2 == 0) {
+                message.setStringProperty("property" + i, "value-" + i);
+            } else {
+                message.setIntProperty("property" + i, i);
+            }
+        }
+        if (headerChain.isEmpty()) {
+            message.format = CMQC.MQFMT_STRING;
+        } else {
+            MQHeaderList headers = new MQHeaderList();
+            for (int i = 0; i < headerChain.size(); i++) {
+                MQHeader header = header(headerChain.get(i));
+                if (i + 1 < headerChain.size()) {
+                    ((MQChainable) header).nextFormat(format(headerChain.get(i + 1)));
+                }
+                headers.add(header);
+            }
+            headers.write(message);
+            message.format = format(headerChain.get(0));
+        }
+        message.write(payload(payloadSize));
+        message.seek(0);
+        return message;
+    }
+
+    /**
+     * Creates a Ballerina message, as it would be passed to the connector by a Ballerina application. The message is
+     * decoded from an equivalent {@link MQMessage}, so that the headers and the properties are populated exactly as
+     * they are by the connector.
+     */
+    static BMap<BString, Object> bMessage(Runtime runtime, HeaderKind headerKind, int payloadSize,
+                                          int propertyCount) throws MQException, IOException {
+        MQMessage message = mqMessage(headerKind, payloadSize, propertyCount);
+        BMap<BString, Object> bMessage = CommonUtils.getBMessageFromMQMessage(runtime, message);
+        bMessage.put(MESSAGE_PROPERTIES, bMessage.get(MESSAGE_PROPERTY));
+        return bMessage;
+    }
+
+    private static MQHeader header(HeaderKind headerKind) throws IOException {
+        return switch (headerKind) {
+            case MQRFH2 -> {
+                // A JMS message which carries the message service, the destination and the application folders.
+                MQRFH2 rfh2 = new MQRFH2();
+                rfh2.setFieldValue("mcd", "Msd", "jms_bytes");
+                rfh2.setFieldValue("jms", "Dst", "queue:///DEV.QUEUE.1");
+                rfh2.setLongFieldValue("jms", "Tms", 1760000000000L);
+                rfh2.setFieldValue("usr", "orderId", "ORD-0000001");
+                rfh2.setIntFieldValue("usr", "quantity", 3);
+                rfh2.setCodedCharSetId(UTF8_CCSID);
+                rfh2.setFormat(CMQC.MQFMT_NONE);
+                yield rfh2;
+            }
+            case MQRFH -> {
+                MQRFH rfh = new MQRFH();
+                rfh.addNameValuePair("OPT_APP_GRP", "ORDERS");
+                rfh.addNameValuePair("OPT_MSG_TYPE", "NEW_ORDER");
+                rfh.setFormat(CMQC.MQFMT_STRING);
+                yield rfh;
+            }
+            case MQCIH -> {
+                // A CICS bridge request which runs a program in a single unit of work.
+                MQCIH cih = new MQCIH();
+                cih.setUOWControl(CMQC.MQCUOWC_ONLY);
+                cih.setLinkType(CMQC.MQCLT_PROGRAM);
+                cih.setFacilityKeepTime(300);
+                cih.setTransactionId("ORDR");
+                cih.setReplyToFormat(CMQC.MQFMT_NONE);
+                cih.setFormat(CMQC.MQFMT_NONE);
+                yield cih;
+            }
+            case MQIIH -> {
+                // An IMS bridge request for a transaction which commits before the reply is sent.
+                MQIIH iih = new MQIIH();
+                iih.setLTermOverride("LTERM001");
+                iih.setMFSMapName("ORDERMAP");
+                iih.setTranState(CMQC.MQITS_NOT_IN_CONVERSATION);
+                iih.setCommitMode(CMQC.MQICM_COMMIT_THEN_SEND);
+                iih.setSecurityScope(CMQC.MQISS_CHECK);
+                iih.setFormat(CMQC.MQFMT_IMS_VAR_STRING);
+                yield iih;
+            }
+            case NONE -> throw new IllegalArgumentException("A message without a header has no header to create");
+        };
+    }
+
+    private static String format(HeaderKind headerKind) {
+        return switch (headerKind) {
+            case MQRFH2 -> CMQC.MQFMT_RF_HEADER_2;
+            case MQRFH -> CMQC.MQFMT_RF_HEADER;
+            case MQCIH -> CMQC.MQFMT_CICS;
+            case MQIIH -> CMQC.MQFMT_IMS;
+            case NONE -> CMQC.MQFMT_STRING;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.benchmarks;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import io.ballerina.lib.ibm.ibmmq.CommonUtils;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion between the Ballerina message and the {@link MQMessage}, which is done on every put to
+ * and get from a queue or a topic.
+ *
+ * @since 1.4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MqMessageConversionBenchmark {
+
+    @Param({"100", "10240", "1048576", "10485760"})
+    private int payloadSize;
+
+    @Param({"0", "10", "50"})
+    private int propertyCount;
+
+    @Param({"NONE", "MQRFH2", "MQRFH", "MQCIH", "MQIIH"})
+    private HeaderKind header;
+
+    private Runtime runtime;
+    private BMap<BString, Object> bMessage;
+    private MQMessage mqMessage;
+
+    @Setup
+    public void setup() throws MQException, IOException {
+        this.runtime = BallerinaModule.start();
+        this.bMessage = MessageFixtures.bMessage(this.runtime, this.header, this.payloadSize, this.propertyCount);
+        this.mqMessage = MessageFixtures.mqMessage(this.header, this.payloadSize, this.propertyCount);
+    }
+
+    @Benchmark
+    public MQMessage toMqMessage() {
+        return CommonUtils.getMqMessageFromBMessage(this.bMessage);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> fromMqMessage() throws IOException {
+        // The message is read from the current position, hence it is rewound before each conversion.
+        this.mqMessage.seek(0);
+        return CommonUtils.getBMessageFromMQMessage(this.runtime, this.mqMessage);
+    }
+}
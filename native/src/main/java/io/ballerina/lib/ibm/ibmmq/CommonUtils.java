@@ -24,8 +24,6 @@ import com.ibm.mq.MQMessage;
 import com.ibm.mq.MQPropertyDescriptor;
 import com.ibm.mq.constants.MQConstants;
 import com.ibm.mq.headers.MQHeaderList;
-import com.ibm.mq.jms.MQConnectionFactory;
-import com.ibm.msg.client.wmq.WMQConstants;
 import io.ballerina.lib.ibm.ibmmq.config.GetMessageOptions;
 import io.ballerina.lib.ibm.ibmmq.config.MatchOptions;
 import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
@@ -59,7 +57,6 @@ import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Session;
-import javax.net.ssl.SSLSocketFactory;
 
 import static io.ballerina.lib.ibm.ibmmq.Constants.BMESSAGE_NAME;
 import static io.ballerina.lib.ibm.ibmmq.Constants.BPROPERTY;
@@ -70,21 +67,25 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.ERROR_ERROR_CODE;
 import static io.ballerina.lib.ibm.ibmmq.Constants.ERROR_REASON_CODE;
 import static io.ballerina.lib.ibm.ibmmq.Constants.EXPIRY_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.FORMAT_FIELD;
+import static io.ballerina.lib.ibm.ibmmq.Constants.GROUP_ID_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_ACCOUNTING_TOKEN;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_CHARSET;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_ENCODING;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_FLAGS_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_HEADERS;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_ID_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_PAYLOAD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_PROPERTIES;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_PROPERTY;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_SEQUENCE_NUMBER_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_TYPE_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_USERID;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MQCIH_RECORD_NAME;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MQIIH_RECORD_NAME;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MQRFH2_RECORD_NAME;
 import static io.ballerina.lib.ibm.ibmmq.Constants.MQRFH_RECORD_NAME;
+import static io.ballerina.lib.ibm.ibmmq.Constants.OFFSET_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.PD_CONTEXT;
 import static io.ballerina.lib.ibm.ibmmq.Constants.PD_COPY_OPTIONS;
 import static io.ballerina.lib.ibm.ibmmq.Constants.PD_OPTIONS;
@@ -99,8 +100,6 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.REPLY_TO_QM_NAME_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.REPLY_TO_QUEUE_NAME_FIELD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.USER_ID;
 import static io.ballerina.lib.ibm.ibmmq.ModuleUtils.getModule;
-import static io.ballerina.lib.ibm.ibmmq.SslUtils.getSecureSocketFactory;
-import static io.ballerina.lib.ibm.ibmmq.SslUtils.getSslProtocol;
 import static io.ballerina.lib.ibm.ibmmq.headers.MQCIHHeader.createMQCIHHeaderFromBHeader;
 import static io.ballerina.lib.ibm.ibmmq.headers.MQIIHHeader.createMQIIHHeaderFromBHeader;
 import static io.ballerina.lib.ibm.ibmmq.headers.MQRFH2Header.createMQRFH2HeaderFromBHeader;
@@ -119,19 +118,37 @@ public class CommonUtils {
                     TypeCreator.createRecordType(MQIIH_RECORD_NAME, getModule(), SymbolFlags.PUBLIC, true, 0))));
 
     public static MQMessage getMqMessageFromBMessage(BMap<BString, Object> bMessage) {
+        byte[] payload = bMessage.getArrayValue(MESSAGE_PAYLOAD).getBytes();
+        return getMqMessageFromBMessage(bMessage, payload, 0, payload.length, true);
+    }
+
+    /**
+     * Creates an IBM MQ message with the descriptor fields of the given Ballerina message and the given payload.
+     *
+     * @param bMessage                 the Ballerina message
+     * @param payload                  the array which holds the payload
+     * @param offset                   the offset of the payload in the array
+     * @param length                   the length of the payload
+     * @param withPropertiesAndHeaders whether the properties and the headers of the Ballerina message are included,
+     *                                 which only belong to the first segment of a segmented message
+     * @return the IBM MQ message
+     */
+    static MQMessage getMqMessageFromBMessage(BMap<BString, Object> bMessage, byte[] payload, int offset, int length,
+                                              boolean withPropertiesAndHeaders) {
         MQMessage mqMessage = new MQMessage();
-        BMap<BString, Object> properties = (BMap<BString, Object>) bMessage.getMapValue(MESSAGE_PROPERTIES);
-        if (Objects.nonNull(properties)) {
-            populateMQProperties(properties, mqMessage);
-        }
-        BArray headers = bMessage.getArrayValue(MESSAGE_HEADERS);
-        if (Objects.nonNull(headers)) {
-            populateMQHeaders(headers, mqMessage);
+        if (withPropertiesAndHeaders) {
+            BMap<BString, Object> properties = (BMap<BString, Object>) bMessage.getMapValue(MESSAGE_PROPERTIES);
+            if (Objects.nonNull(properties)) {
+                populateMQProperties(properties, mqMessage);
+            }
+            BArray headers = bMessage.getArrayValue(MESSAGE_HEADERS);
+            if (Objects.nonNull(headers)) {
+                populateMQHeaders(headers, mqMessage);
+            }
         }
-        byte[] payload = bMessage.getArrayValue(MESSAGE_PAYLOAD).getBytes();
         assignOptionalFieldsToMqMessage(bMessage, mqMessage);
         try {
-            mqMessage.write(payload);
+            mqMessage.write(payload, offset, length);
         } catch (IOException e) {
             throw createError(IBMMQ_ERROR,
                     String.format("Error occurred while populating payload: %s", e.getMessage()), e);
@@ -141,26 +158,7 @@ public class CommonUtils {
 
     public static Connection getJmsConnection(QueueManagerConfiguration config) {
         try {
-            MQConnectionFactory connectionFactory = new MQConnectionFactory();
-            connectionFactory.setQueueManager(config.queueManagerName());
-            connectionFactory.setHostName(config.host());
-            connectionFactory.setPort(config.port());
-            connectionFactory.setChannel(config.channel());
-            connectionFactory.setTransportType(WMQConstants.WMQ_CM_CLIENT);
-            if (Objects.nonNull(config.sslCipherSuite())) {
-                connectionFactory.setSSLCipherSuite(config.sslCipherSuite());
-            }
-            if (Objects.nonNull(config.secureSocket())) {
-                String sslProtocol = getSslProtocol(config.sslCipherSuite());
-                SSLSocketFactory sslSocketFactory = getSecureSocketFactory(sslProtocol, config.secureSocket());
-                connectionFactory.setSSLSocketFactory(sslSocketFactory);
-            }
-            if (Objects.nonNull(config.userID()) && Objects.nonNull(config.password())) {
-                if (!config.userID().isBlank()) {
-                    return connectionFactory.createConnection(config.userID(), config.password());
-                }
-            }
-            return connectionFactory.createConnection();
+            return MessagingProviders.of(config).createJmsConnection(config);
         } catch (Exception e) {
             throw createError(Constants.IBMMQ_ERROR, "Failed to create the IBM MQ connection", e);
         }
@@ -241,6 +239,10 @@ public class CommonUtils {
             bMessage.put(REPLY_TO_QM_NAME_FIELD, StringUtils.fromString(mqMessage.replyToQueueManagerName.strip()));
             bMessage.put(MESSAGE_ENCODING, mqMessage.encoding);
             bMessage.put(MESSAGE_CHARSET, mqMessage.characterSet);
+            bMessage.put(GROUP_ID_FIELD, ValueCreator.createArrayValue(mqMessage.groupId));
+            bMessage.put(MESSAGE_SEQUENCE_NUMBER_FIELD, mqMessage.messageSequenceNumber);
+            bMessage.put(OFFSET_FIELD, mqMessage.offset);
+            bMessage.put(MESSAGE_FLAGS_FIELD, mqMessage.messageFlags);
             if (Objects.nonNull(mqMessage.accountingToken)) {
                 bMessage.put(MESSAGE_ACCOUNTING_TOKEN, ValueCreator.createArrayValue(mqMessage.accountingToken));
             }
@@ -394,6 +396,18 @@ public class CommonUtils {
         if (bMessage.containsKey(MESSAGE_USERID)) {
             mqMessage.userId = bMessage.getStringValue(MESSAGE_USERID).getValue();
         }
+        if (bMessage.containsKey(GROUP_ID_FIELD)) {
+            mqMessage.groupId = bMessage.getArrayValue(GROUP_ID_FIELD).getByteArray();
+        }
+        if (bMessage.containsKey(MESSAGE_SEQUENCE_NUMBER_FIELD)) {
+            mqMessage.messageSequenceNumber = bMessage.getIntValue(MESSAGE_SEQUENCE_NUMBER_FIELD).intValue();
+        }
+        if (bMessage.containsKey(OFFSET_FIELD)) {
+            mqMessage.offset = bMessage.getIntValue(OFFSET_FIELD).intValue();
+        }
+        if (bMessage.containsKey(MESSAGE_FLAGS_FIELD)) {
+            mqMessage.messageFlags = bMessage.getIntValue(MESSAGE_FLAGS_FIELD).intValue();
+        }
     }
 
     private static MQPropertyDescriptor getMQPropertyDescriptor(BMap<BString, Object> descriptor) {
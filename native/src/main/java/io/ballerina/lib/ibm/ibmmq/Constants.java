@@ -36,8 +36,18 @@ public interface Constants {
 
     // Native properties in respective ballerina objects
     String NATIVE_QUEUE_MANAGER = "queueManager";
+    String NATIVE_QUEUE_MANAGER_CONNECTION = "queueManager.connection";
+    String NATIVE_DESTINATION = "destination";
+    String NATIVE_TOPIC_RESOURCES = "topic.resources";
+    String NATIVE_RESOURCE_TRACKER = "resource.tracker";
     String NATIVE_TOPIC = "topic";
     String NATIVE_QUEUE = "queue";
+    String NATIVE_QUEUE_NAME = "queue.name";
+    String NATIVE_GROUP_LOCK = "group.lock";
+    String NATIVE_METRICS = "metrics";
+    String NATIVE_DESTINATION_METRICS = "destination.metrics";
+    String NATIVE_TRACE_PROPAGATOR = "trace.propagator";
+    String NATIVE_PCF_INQUIRER = "pcf.inquirer";
 
     String MQCIH_RECORD_NAME = "MQCIH";
     String MQRFH2_RECORD_NAME = "MQRFH2";
@@ -60,6 +70,7 @@ public interface Constants {
     String BPROPERTY = "Property";
     String BMESSAGE_NAME = "Message";
     String BCALLER_NAME = "Caller";
+    String BREQUESTOR = "Requestor";
 
     // IBM MQ queue manager related configuration names
     BString QUEUE_MANAGER_NAME = StringUtils.fromString("name");
@@ -70,6 +81,8 @@ public interface Constants {
     BString PASSWORD = StringUtils.fromString("password");
     BString SSL_CIPHER_SUITE = StringUtils.fromString("sslCipherSuite");
     BString SECURE_SOCKET = StringUtils.fromString("secureSocket");
+    BString TRACE_SAMPLING_RATE = StringUtils.fromString("traceSamplingRate");
+    BString INQUIRY_CACHE_TTL = StringUtils.fromString("inquiryCacheTtl");
     BString CERT = StringUtils.fromString("cert");
     BString KEY = StringUtils.fromString("key");
     BString CERT_FILE = StringUtils.fromString("certFile");
@@ -125,6 +138,10 @@ public interface Constants {
     BString MESSAGE_CHARSET = StringUtils.fromString("characterSet");
     BString MESSAGE_ACCOUNTING_TOKEN = StringUtils.fromString("accountingToken");
     BString MESSAGE_USERID = StringUtils.fromString("userId");
+    BString GROUP_ID_FIELD = StringUtils.fromString("groupId");
+    BString MESSAGE_SEQUENCE_NUMBER_FIELD = StringUtils.fromString("messageSequenceNumber");
+    BString OFFSET_FIELD = StringUtils.fromString("offset");
+    BString MESSAGE_FLAGS_FIELD = StringUtils.fromString("messageFlags");
 
     /**
      * JMS Acknowledge Modes.
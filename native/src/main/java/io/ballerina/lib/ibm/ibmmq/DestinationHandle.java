@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+
+/**
+ * An opened queue or topic, to which the messages are put and from which the messages are got. This is an internal
+ * abstraction over {@link com.ibm.mq.MQDestination}, which lets the clients be driven by an in-memory stand-in of the
+ * queue manager in tests and benchmarks. It is not a part of the public API of the connector.
+ *
+ * @since 1.4.3
+ */
+public interface DestinationHandle {
+
+    /**
+     * Returns the name of the destination.
+     *
+     * @return the name of the queue, or the topic string of the topic
+     * @throws MQException if the name could not be resolved
+     */
+    String getName() throws MQException;
+
+    /**
+     * Puts a message to the destination.
+     *
+     * @param message the message
+     * @param options the put message options
+     * @throws MQException if the message could not be put
+     */
+    void put(MQMessage message, MQPutMessageOptions options) throws MQException;
+
+    /**
+     * Gets a message from the destination into the provided message.
+     *
+     * @param message the message into which the received message is read, with the fields to match populated
+     * @param options the get message options
+     * @throws MQException if a message could not be got, including when no message is available
+     */
+    void get(MQMessage message, MQGetMessageOptions options) throws MQException;
+
+    /**
+     * Returns the number of messages in the queue.
+     *
+     * @return the current depth of the queue
+     * @throws MQException if the depth could not be inquired, including when the destination is not a queue
+     */
+    int getCurrentDepth() throws MQException;
+
+    /**
+     * Closes the destination.
+     *
+     * @throws MQException if the destination could not be closed
+     */
+    void close() throws MQException;
+}
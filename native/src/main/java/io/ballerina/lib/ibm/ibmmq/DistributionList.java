@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQDistributionList;
+import com.ibm.mq.MQDistributionListItem;
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+
+import static io.ballerina.lib.ibm.ibmmq.ModuleUtils.getModule;
+
+/**
+ * Puts a message to several queues with a single put of an IBM MQ distribution list, so that the message is converted
+ * and sent to the queue manager once regardless of the number of queues.
+ *
+ * @since 1.4.3
+ */
+final class DistributionList {
+    private static final String PUT_RESULT_RECORD = "PutResult";
+    private static final BString QUEUE_NAME = StringUtils.fromString("queueName");
+    private static final BString COMPLETION_CODE = StringUtils.fromString("completionCode");
+    private static final BString REASON_CODE = StringUtils.fromString("reasonCode");
+    private static final BString MESSAGE_ID = StringUtils.fromString("messageId");
+    private static final int OPEN_OPTIONS = CMQC.MQOO_OUTPUT | CMQC.MQOO_FAIL_IF_QUIESCING;
+
+    private DistributionList() {
+    }
+
+    /**
+     * Puts the message to each of the given queues. A failure which only affects some of the queues is reported in
+     * the outcomes of those queues.
+     *
+     * @param connection the connection to the queue manager which hosts or resolves the queues
+     * @param queueNames the names of the queues
+     * @param message    the message
+     * @param options    the put message options
+     * @return the outcome of the put for each queue, in the order of the queue names
+     * @throws MQException if none of the queues could be opened, or the message could not be put to any of them, for
+     *                     the same reason
+     */
+    static Outcome[] put(QueueManagerConnection connection, String[] queueNames, MQMessage message,
+                         MQPutMessageOptions options) throws MQException {
+        MQQueueManager queueManager = connection.getQueueManager();
+        Outcome[] outcomes = new Outcome[queueNames.length];
+        if (Objects.isNull(queueManager)) {
+            return putEach(connection, queueNames, message, options, outcomes);
+        }
+        MQDistributionListItem[] items = new MQDistributionListItem[queueNames.length];
+        for (int i = 0; i < queueNames.length; i++) {
+            items[i] = new MQDistributionListItem();
+            items[i].queueName = queueNames[i];
+        }
+        MQDistributionList distributionList;
+        try {
+            distributionList = new MQDistributionList(queueManager, items, OPEN_OPTIONS, null);
+        } catch (MQException e) {
+            if (e.reasonCode != CMQC.MQRC_MULTIPLE_REASONS) {
+                throw e;
+            }
+            // When some of the queues could not be opened, the reason of each queue is set in its item and the list is
+            // opened for the other queues, unless none of them could be opened.
+            collectFailures(queueNames, items, outcomes);
+            if (e.completionCode == CMQC.MQCC_FAILED || !(e.exceptionSource instanceof MQDistributionList opened)) {
+                return putEach(connection, queueNames, message, options, outcomes);
+            }
+            distributionList = opened;
+        }
+        try {
+            distributionList.put(message, options);
+        } catch (MQException e) {
+            // When the put fails for some of the queues only, the reason of each queue is set in its item.
+            if (e.reasonCode != CMQC.MQRC_MULTIPLE_REASONS) {
+                throw e;
+            }
+        } finally {
+            closeQuietly(distributionList);
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (Objects.isNull(outcomes[i])) {
+                MQDistributionListItem item = items[i];
+                outcomes[i] = new Outcome(queueNames[i], item.completionCode, item.reasonCode,
+                        item.completionCode == CMQC.MQCC_FAILED ? null : item.messageId);
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Sets the outcomes of the queues which could not be opened, as the put does not report them again.
+     */
+    private static void collectFailures(String[] queueNames, MQDistributionListItem[] items, Outcome[] outcomes) {
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].completionCode == CMQC.MQCC_FAILED) {
+                outcomes[i] = new Outcome(queueNames[i], items[i].completionCode, items[i].reasonCode, null);
+            }
+        }
+    }
+
+    /**
+     * Puts the message one by one to the queues which do not have an outcome yet, for the connections which are not
+     * backed by an IBM MQ queue manager and hence do not support distribution lists, and for a distribution list
+     * which was not opened.
+     */
+    private static Outcome[] putEach(QueueManagerConnection connection, String[] queueNames, MQMessage message,
+                                     MQPutMessageOptions options, Outcome[] outcomes) {
+        // The identifier set by the put to a queue is not carried over to the next queue, which gets the identifier
+        // given by the application or a new one, as it does with a distribution list.
+        byte[] messageId = message.messageId.clone();
+        for (int i = 0; i < queueNames.length; i++) {
+            if (Objects.nonNull(outcomes[i])) {
+                continue;
+            }
+            try {
+                DestinationHandle queue = connection.accessQueue(queueNames[i], OPEN_OPTIONS, null);
+                try {
+                    message.messageId = messageId.clone();
+                    queue.put(message, options);
+                } finally {
+                    queue.close();
+                }
+                outcomes[i] = new Outcome(queueNames[i], CMQC.MQCC_OK, CMQC.MQRC_NONE, message.messageId.clone());
+            } catch (MQException e) {
+                outcomes[i] = new Outcome(queueNames[i], e.completionCode, e.reasonCode, null);
+            }
+        }
+        return outcomes;
+    }
+
+    private static void closeQuietly(MQDistributionList distributionList) {
+        try {
+            distributionList.close();
+        } catch (MQException e) {
+            // The outcome of the put is already known, and the handle is released when the connection is closed.
+        }
+    }
+
+    /**
+     * Converts the outcomes to a read-only array of Ballerina `ibmmq:PutResult` records.
+     *
+     * @param outcomes the outcomes of a put
+     * @return the Ballerina array
+     */
+    static BArray toBallerina(Outcome[] outcomes) {
+        ArrayType arrayType = TypeCreator.createArrayType(
+                ValueCreator.createRecordValue(getModule(), PUT_RESULT_RECORD).getType());
+        BArray results = ValueCreator.createArrayValue(arrayType);
+        for (Outcome outcome : outcomes) {
+            BMap<BString, Object> result = ValueCreator.createRecordValue(getModule(), PUT_RESULT_RECORD);
+            result.put(QUEUE_NAME, StringUtils.fromString(outcome.queueName()));
+            result.put(COMPLETION_CODE, (long) outcome.completionCode());
+            result.put(REASON_CODE, (long) outcome.reasonCode());
+            if (Objects.nonNull(outcome.messageId())) {
+                result.put(MESSAGE_ID, ValueCreator.createArrayValue(outcome.messageId()));
+            }
+            results.append(result);
+        }
+        results.freezeDirect();
+        return results;
+    }
+
+    /**
+     * The outcome of the put of a message to one of the queues of a distribution list.
+     *
+     * @param queueName      the name of the queue
+     * @param completionCode the completion code of the put to the queue
+     * @param reasonCode     the reason code of the put to the queue
+     * @param messageId      the identifier of the message put to the queue, or {@code null} if it was not put
+     */
+    record Outcome(String queueName, int completionCode, int reasonCode, byte[] messageId) {
+
+        boolean isSuccessful() {
+            return this.completionCode != CMQC.MQCC_FAILED;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import io.ballerina.runtime.api.values.BError;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.jms.JMSException;
+
+/**
+ * A {@code ErrorReporter} aggregates the errors reported by the IBM MQ listener, requestor and forwarder. The first
+ * occurrence of an error is reported with its stack trace, further occurrences of the same error are only counted and
+ * periodically reported as a summary, so that an error storm does not flood the standard error stream. The occurrences
+ * which are not reported yet are flushed in the background once the report interval elapses, hence the tail of a storm
+ * is reported even if no further error occurs.
+ *
+ * @since 1.4.3
+ */
+public class ErrorReporter {
+    private static final PrintStream ERR_OUT = System.err;
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_TRACKED_ERRORS = 256;
+    private static final String OTHER_ERRORS = "other";
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ibmmq-error-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, ErrorStats> errors = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> flushTask;
+    private boolean closed = false;
+
+    /**
+     * Reports an error which occurred in the IBM MQ listener.
+     *
+     * @param context the operation which failed
+     * @param t       the error
+     */
+    public void report(String context, Throwable t) {
+        report(String.format("%s [%s]", context, getErrorCode(t)), context, t.getMessage(), t);
+    }
+
+    /**
+     * Reports an unexpected condition which is not caused by an exception, such as a discarded message. It is
+     * aggregated like the errors, but reported without a stack trace.
+     *
+     * @param context the operation in which the condition occurred
+     * @param message the description of the condition
+     */
+    public void report(String context, String message) {
+        report(context, context, message, null);
+    }
+
+    private void report(String key, String context, String message, Throwable t) {
+        if (!this.errors.containsKey(key) && this.errors.size() >= MAX_TRACKED_ERRORS) {
+            key = String.format("%s [%s]", context, OTHER_ERRORS);
+        }
+        long now = System.nanoTime();
+        ErrorStats stats = this.errors.computeIfAbsent(key, k -> new ErrorStats(now));
+        if (stats.record() == 1) {
+            ERR_OUT.printf("%s: %s%n", key, message);
+            if (Objects.nonNull(t)) {
+                t.printStackTrace();
+            }
+            return;
+        }
+        stats.lastMessage = message;
+        stats.sinceLastReport.incrementAndGet();
+        reportSuppressed(key, stats, stats.tryReport(now));
+        if (Objects.isNull(this.flushTask)) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Reports the occurrences which are not reported yet, and stops flushing them in the background. The errors
+     * reported afterwards are still reported, but their suppressed occurrences are only reported with a later error.
+     */
+    public synchronized void close() {
+        this.closed = true;
+        if (Objects.nonNull(this.flushTask)) {
+            this.flushTask.cancel(false);
+            this.flushTask = null;
+        }
+        this.errors.forEach((key, stats) -> reportSuppressed(key, stats, stats.sinceLastReport.getAndSet(0)));
+    }
+
+    private synchronized void scheduleFlush() {
+        if (Objects.isNull(this.flushTask) && !this.closed) {
+            this.flushTask = FLUSHER.scheduleWithFixedDelay(this::flush, REPORT_INTERVAL, REPORT_INTERVAL,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flush() {
+        long now = System.nanoTime();
+        this.errors.forEach((key, stats) -> {
+            if (stats.sinceLastReport.get() > 0) {
+                reportSuppressed(key, stats, stats.tryReport(now));
+            }
+        });
+    }
+
+    private static void reportSuppressed(String key, ErrorStats stats, long suppressed) {
+        if (suppressed > 0) {
+            ERR_OUT.printf("%s: %d occurrence(s) since the last report, %d in total (first at %s, last at %s): %s%n",
+                    key, suppressed, stats.total.get(), stats.firstOccurrence, stats.lastOccurrence,
+                    stats.lastMessage);
+        }
+    }
+
+    /**
+     * Reports that an error was not dispatched to the {@code onError} method, since the dispatch queue was full.
+     *
+     * @param t the dropped error
+     */
+    public void reportDropped(Throwable t) {
+        report("Dropped onError dispatch", t);
+    }
+
+    private static String getErrorCode(Throwable t) {
+        if (t instanceof BError bError) {
+            Throwable cause = bError.getCause();
+            return Objects.nonNull(cause) ? getErrorCode(cause) : bError.getType().getName();
+        }
+        if (t instanceof JMSException jmsException) {
+            if (jmsException.getLinkedException() instanceof MQException mqException) {
+                return String.format("%s, MQRC %d", jmsException.getErrorCode(), mqException.getReason());
+            }
+            return Objects.nonNull(jmsException.getErrorCode()) ?
+                    jmsException.getErrorCode() : jmsException.getClass().getSimpleName();
+        }
+        if (t instanceof MQException mqException) {
+            return String.format("MQRC %d", mqException.getReason());
+        }
+        return t.getClass().getSimpleName();
+    }
+
+    private static class ErrorStats {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong sinceLastReport = new AtomicLong();
+        private final AtomicLong nextReportAt;
+        private final Instant firstOccurrence = Instant.now();
+        private volatile Instant lastOccurrence = firstOccurrence;
+        private volatile String lastMessage;
+
+        ErrorStats(long now) {
+            this.nextReportAt = new AtomicLong(now + REPORT_INTERVAL);
+        }
+
+        long record() {
+            this.lastOccurrence = Instant.now();
+            return this.total.incrementAndGet();
+        }
+
+        long tryReport(long now) {
+            long reportAt = this.nextReportAt.get();
+            if (now - reportAt < 0 || !this.nextReportAt.compareAndSet(reportAt, now + REPORT_INTERVAL)) {
+                return 0;
+            }
+            return this.sinceLastReport.getAndSet(0);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQDestination;
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.MQQueue;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
+import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_QUEUE_MANAGER;
+
+/**
+ * Native implementation of the Ballerina IBM MQ forwarder. The forwarder gets messages from an input queue,
+ * transforms them using a Ballerina function and puts the results to the output destinations. The messages of a batch
+ * are got, transformed and put under a single syncpoint, which is committed once the batch is complete.
+ * <p>
+ * The forwarder uses the connection of the queue manager from which its destinations are accessed. Since a
+ * connection serves one call at a time, the waiting gets of the forwarder block the other operations of that queue
+ * manager, hence a forwarder should be given a dedicated queue manager.
+ *
+ * @since 1.4.3
+ */
+public class Forwarder {
+    private static final String NATIVE_FORWARDER = "native.forwarder";
+    private static final String TRANSFORM_METHOD = "transform";
+    private static final BString BATCH_SIZE = StringUtils.fromString("batchSize");
+    private static final BString BATCH_TIMEOUT = StringUtils.fromString("batchTimeout");
+    private static final BString WAIT_INTERVAL = StringUtils.fromString("waitInterval");
+    private static final BString MAX_BACKOUT_COUNT = StringUtils.fromString("maxBackoutCount");
+    private static final BString BACKOUT_QUEUE = StringUtils.fromString("backoutQueue");
+    private static final StrandMetadata TRANSFORM_METADATA = new StrandMetadata(true, null);
+    private static final long STOP_GRACE_PERIOD = 30000;
+
+    private final BObject bForwarder;
+    private final MQQueueManager queueManager;
+    private final MQQueue input;
+    private final List<MQDestination> outputs;
+    private final MQQueue backoutQueue;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final int waitInterval;
+    private final int maxBackoutCount;
+    private final ErrorReporter errorReporter = new ErrorReporter();
+
+    private Runtime runtime;
+    private ExecutorService transformExecutor;
+    private Thread forwardingThread;
+    private volatile boolean running = false;
+
+    private Forwarder(BObject bForwarder, MQQueueManager queueManager, MQQueue input, List<MQDestination> outputs,
+                      MQQueue backoutQueue, BMap<BString, Object> configurations) {
+        this.bForwarder = bForwarder;
+        this.queueManager = queueManager;
+        this.input = input;
+        this.outputs = outputs;
+        this.backoutQueue = backoutQueue;
+        this.batchSize = configurations.getIntValue(BATCH_SIZE).intValue();
+        this.batchTimeout = ((BDecimal) configurations.get(BATCH_TIMEOUT)).decimalValue()
+                .multiply(MILLISECOND_MULTIPLIER).longValue();
+        this.waitInterval = ((BDecimal) configurations.get(WAIT_INTERVAL)).decimalValue()
+                .multiply(MILLISECOND_MULTIPLIER).intValue();
+        this.maxBackoutCount = configurations.getIntValue(MAX_BACKOUT_COUNT).intValue();
+    }
+
+    public static Object init(BObject bForwarder, BObject bInput, BArray bOutputs,
+                              BMap<BString, Object> configurations) {
+        MQQueueManager queueManager = (MQQueueManager) bInput.getNativeData(NATIVE_QUEUE_MANAGER);
+        MQQueue input = (MQQueue) bInput.getNativeData(Constants.NATIVE_QUEUE);
+        if (Objects.isNull(queueManager)) {
+            return createError(IBMMQ_ERROR, "A forwarder requires a connection to an IBM MQ queue manager");
+        }
+        List<MQDestination> outputs = new ArrayList<>(bOutputs.size());
+        for (int i = 0; i < bOutputs.size(); i++) {
+            BObject bOutput = (BObject) bOutputs.get(i);
+            if (bOutput.getNativeData(NATIVE_QUEUE_MANAGER) != queueManager) {
+                return createError(IBMMQ_ERROR,
+                        "The input and the output destinations of a forwarder must be accessed from the same " +
+                                "queue manager");
+            }
+            Object output = bOutput.getNativeData(Constants.NATIVE_QUEUE);
+            outputs.add((MQDestination) (Objects.nonNull(output) ? output :
+                    bOutput.getNativeData(Constants.NATIVE_TOPIC)));
+        }
+        MQQueue backoutQueue = null;
+        if (configurations.containsKey(BACKOUT_QUEUE)) {
+            BObject bBackoutQueue = (BObject) configurations.get(BACKOUT_QUEUE);
+            if (bBackoutQueue.getNativeData(NATIVE_QUEUE_MANAGER) != queueManager) {
+                return createError(IBMMQ_ERROR,
+                        "The backout queue of a forwarder must be accessed from the same queue manager");
+            }
+            backoutQueue = (MQQueue) bBackoutQueue.getNativeData(Constants.NATIVE_QUEUE);
+        }
+        Forwarder forwarder = new Forwarder(bForwarder, queueManager, input, outputs, backoutQueue, configurations);
+        bForwarder.addNativeData(NATIVE_FORWARDER, forwarder);
+        return null;
+    }
+
+    public static Object start(Environment env, BObject bForwarder) {
+        Forwarder forwarder = (Forwarder) bForwarder.getNativeData(NATIVE_FORWARDER);
+        synchronized (forwarder) {
+            if (forwarder.running) {
+                return createError(IBMMQ_ERROR, "The forwarder has already been started");
+            }
+            forwarder.runtime = env.getRuntime();
+            forwarder.running = true;
+            // The executor is shut down by the forwarding thread once it stops, hence one is created on each start.
+            forwarder.transformExecutor = Executors.newVirtualThreadPerTaskExecutor();
+            forwarder.forwardingThread = new MQThreadFactory("ibmmq-forwarder").newThread(forwarder::forward);
+            forwarder.forwardingThread.start();
+        }
+        return null;
+    }
+
+    public static Object stop(Environment env, BObject bForwarder) {
+        Forwarder forwarder = (Forwarder) bForwarder.getNativeData(NATIVE_FORWARDER);
+        return env.yieldAndRun(() -> {
+            Thread forwardingThread;
+            synchronized (forwarder) {
+                forwarder.running = false;
+                forwardingThread = forwarder.forwardingThread;
+                forwarder.forwardingThread = null;
+            }
+            if (Objects.isNull(forwardingThread)) {
+                return null;
+            }
+            // The in-progress batch is completed, hence the wait is bounded by the batch timeout and the wait
+            // interval of the get operations, in addition to the time taken to transform and put the batch.
+            long stopTimeout = forwarder.batchTimeout + forwarder.waitInterval + STOP_GRACE_PERIOD;
+            try {
+                if (!forwardingThread.join(Duration.ofMillis(stopTimeout))) {
+                    return createError(IBMMQ_ERROR, String.format(
+                            "The forwarder did not stop within %d ms, hence the batch in progress is completed in " +
+                                    "the background", stopTimeout));
+                }
+                forwarder.errorReporter.close();
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createError(IBMMQ_ERROR,
+                        String.format("Interrupted while stopping the forwarder: %s", e.getMessage()), e);
+            }
+        });
+    }
+
+    private void forward() {
+        try {
+            while (this.running) {
+                try {
+                    forwardBatch();
+                } catch (MQException | RuntimeException e) {
+                    // Any failure of a batch, including an unexpected one in the conversions, is reported and the
+                    // batch is backed out, so that the forwarding thread keeps running.
+                    this.errorReporter.report("Failed to forward a batch of messages", e);
+                    backout();
+                    pause();
+                }
+            }
+        } finally {
+            this.transformExecutor.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forwardBatch() throws MQException {
+        List<MQMessage> batch = getBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object> results = transform(batch);
+        MQPutMessageOptions pmo = new MQPutMessageOptions();
+        pmo.options = CMQC.MQPMO_SYNCPOINT | CMQC.MQPMO_FAIL_IF_QUIESCING;
+        for (int i = 0; i < batch.size(); i++) {
+            Object result = results.get(i);
+            if (result instanceof BError bError) {
+                MQMessage message = batch.get(i);
+                if (Objects.isNull(this.backoutQueue) || message.backoutCount < this.maxBackoutCount) {
+                    throw bError;
+                }
+                this.backoutQueue.put(message, pmo);
+            } else if (result instanceof BMap<?, ?> bMessage) {
+                MQMessage output = CommonUtils.getMqMessageFromBMessage((BMap<BString, Object>) bMessage);
+                for (MQDestination destination: this.outputs) {
+                    destination.put(output, pmo);
+                }
+            }
+            // A nil result drops the message, which is removed from the input queue with the commit.
+        }
+        this.queueManager.commit();
+    }
+
+    private List<MQMessage> getBatch() throws MQException {
+        List<MQMessage> batch = new ArrayList<>(this.batchSize);
+        MQGetMessageOptions gmo = new MQGetMessageOptions();
+        gmo.options = CMQC.MQGMO_SYNCPOINT | CMQC.MQGMO_WAIT | CMQC.MQGMO_FAIL_IF_QUIESCING;
+        gmo.waitInterval = this.waitInterval;
+        long deadline = 0;
+        while (batch.size() < this.batchSize && this.running) {
+            MQMessage message = new MQMessage();
+            try {
+                this.input.get(message, gmo);
+            } catch (MQException e) {
+                if (e.reasonCode == CMQC.MQRC_NO_MSG_AVAILABLE) {
+                    break;
+                }
+                throw e;
+            }
+            batch.add(message);
+            if (batch.size() == 1) {
+                deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.batchTimeout);
+            }
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                break;
+            }
+            // Once the batch is started, the remaining messages are only waited until the batch times out.
+            gmo.waitInterval = (int) Math.min(remaining, this.waitInterval);
+        }
+        return batch;
+    }
+
+    private List<Object> transform(List<MQMessage> batch) {
+        List<Callable<Object>> transformations = new ArrayList<>(batch.size());
+        for (MQMessage message: batch) {
+            BMap<BString, Object> bMessage = CommonUtils.getBMessageFromMQMessage(this.runtime, message);
+            transformations.add(() -> {
+                try {
+                    return this.runtime.callMethod(this.bForwarder, TRANSFORM_METHOD, TRANSFORM_METADATA, bMessage);
+                } catch (BError e) {
+                    return e;
+                }
+            });
+        }
+        List<Object> results = new ArrayList<>(batch.size());
+        try {
+            for (Future<Object> future: this.transformExecutor.invokeAll(transformations)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createError(IBMMQ_ERROR, "Interrupted while transforming the messages", e);
+        } catch (ExecutionException e) {
+            throw createError(IBMMQ_ERROR,
+                    String.format("Error occurred while transforming the messages: %s", e.getMessage()), e);
+        }
+        return results;
+    }
+
+    private void backout() {
+        try {
+            this.queueManager.backout();
+        } catch (MQException e) {
+            this.errorReporter.report("Failed to back out a batch of messages", e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(this.waitInterval);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.running = false;
+        }
+    }
+}
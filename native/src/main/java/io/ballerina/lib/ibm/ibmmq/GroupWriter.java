@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.jfr.PutEvent;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.ReasonCodes;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
+import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.OPTIONS;
+
+/**
+ * Native implementation of the Ballerina IBM MQ group writer. The messages written to the writer are put to a queue
+ * as the logical messages of a single group. A message is held back until the next message is written or the writer
+ * is closed, as the last message of the group must be flagged as such, hence only one message is buffered at a time.
+ * <p>
+ * The group identifier and the sequence number of each message are set by the writer instead of being assigned with
+ * the {@code MQPMO_LOGICAL_ORDER} option, so that the groups of concurrent writers of the same queue do not
+ * interfere.
+ *
+ * @since 1.4.3
+ */
+public final class GroupWriter {
+    private static final String NATIVE_GROUP_WRITER = "native.group.writer";
+    private static final String BGROUP_WRITER = "GroupWriter";
+
+    private final DestinationHandle queue;
+    private final DestinationMetrics metrics;
+    private final TraceContextPropagator traceContextPropagator;
+    private final int putOptions;
+    private final byte[] groupId;
+    // Serializes the writes, without pinning the carrier thread while a put blocks, as a monitor would.
+    private final ReentrantLock lock = new ReentrantLock();
+    private MQMessage pending;
+    private int sequenceNumber = 0;
+    private boolean closed = false;
+
+    private GroupWriter(BObject queueObject, int putOptions) {
+        this.queue = (DestinationHandle) queueObject.getNativeData(Constants.NATIVE_DESTINATION);
+        this.metrics = (DestinationMetrics) queueObject.getNativeData(Constants.NATIVE_DESTINATION_METRICS);
+        this.traceContextPropagator = (TraceContextPropagator) queueObject.getNativeData(
+                Constants.NATIVE_TRACE_PROPAGATOR);
+        this.putOptions = putOptions;
+        this.groupId = SegmentWriter.newGroupId();
+    }
+
+    public static BObject createGroupWriter(BObject queueObject, BMap<BString, Object> options) {
+        GroupWriter writer = new GroupWriter(queueObject, options.getIntValue(OPTIONS).intValue());
+        BObject bWriter = ValueCreator.createObjectValue(ModuleUtils.getModule(), BGROUP_WRITER);
+        bWriter.addNativeData(NATIVE_GROUP_WRITER, writer);
+        return bWriter;
+    }
+
+    public static Object write(Environment env, BObject writerObject, BMap<BString, Object> message) {
+        GroupWriter writer = (GroupWriter) writerObject.getNativeData(NATIVE_GROUP_WRITER);
+        MQMessage mqMessage = CommonUtils.getMqMessageFromBMessage(message);
+        return env.yieldAndRun(() -> {
+            try {
+                writer.write(env, mqMessage);
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting a message of the group to the queue: %s",
+                                e.getMessage()), e);
+            } catch (IllegalStateException e) {
+                return createError(IBMMQ_ERROR, e.getMessage());
+            }
+        });
+    }
+
+    public static Object close(Environment env, BObject writerObject) {
+        GroupWriter writer = (GroupWriter) writerObject.getNativeData(NATIVE_GROUP_WRITER);
+        return env.yieldAndRun(() -> {
+            try {
+                writer.close(env);
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting the last message of the group to the queue: %s",
+                                e.getMessage()), e);
+            } catch (IllegalStateException e) {
+                return createError(IBMMQ_ERROR, e.getMessage());
+            }
+        });
+    }
+
+    private void write(Environment env, MQMessage message) throws MQException {
+        this.lock.lock();
+        try {
+            ensureOpen();
+            this.traceContextPropagator.inject(env, message);
+            if (Objects.nonNull(this.pending)) {
+                putPending(false);
+            }
+            this.sequenceNumber++;
+            message.groupId = this.groupId;
+            message.messageSequenceNumber = this.sequenceNumber;
+            this.pending = message;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void close(Environment env) throws MQException {
+        this.lock.lock();
+        try {
+            ensureOpen();
+            // A group without any message is not put at all.
+            if (Objects.nonNull(this.pending)) {
+                putPending(true);
+            }
+            this.closed = true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void putPending(boolean last) throws MQException {
+        MQMessage message = this.pending;
+        message.messageFlags |= last ? CMQC.MQMF_MSG_IN_GROUP | CMQC.MQMF_LAST_MSG_IN_GROUP : CMQC.MQMF_MSG_IN_GROUP;
+        long startTime = System.nanoTime();
+        PutEvent event = new PutEvent();
+        event.begin();
+        try {
+            MQPutMessageOptions pmo = new MQPutMessageOptions();
+            pmo.options = this.putOptions;
+            this.queue.put(message, pmo);
+            this.metrics.put().recordSuccess(System.nanoTime() - startTime, message.getMessageLength());
+            event.record(this.metrics.getName(), message.getMessageLength(), CMQC.MQRC_NONE);
+        } catch (MQException e) {
+            // The group can not be completed once a message is lost, hence the writer is not usable anymore.
+            this.closed = true;
+            this.metrics.put().recordError(e);
+            event.record(this.metrics.getName(), 0, ReasonCodes.getReasonCode(e));
+            throw e;
+        } finally {
+            this.pending = null;
+        }
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The group writer has already been closed");
+        }
+    }
+}
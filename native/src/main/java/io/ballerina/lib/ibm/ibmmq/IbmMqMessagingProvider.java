@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.jms.MQConnectionFactory;
+import com.ibm.msg.client.wmq.WMQConstants;
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import java.util.Objects;
+
+import javax.jms.Connection;
+import javax.net.ssl.SSLSocketFactory;
+
+import static io.ballerina.lib.ibm.ibmmq.SslUtils.getSecureSocketFactory;
+import static io.ballerina.lib.ibm.ibmmq.SslUtils.getSslProtocol;
+
+/**
+ * The {@link MessagingProvider} which connects to an IBM MQ queue manager using the IBM MQ classes.
+ *
+ * @since 1.4.3
+ */
+final class IbmMqMessagingProvider implements MessagingProvider {
+    static final IbmMqMessagingProvider INSTANCE = new IbmMqMessagingProvider();
+
+    private IbmMqMessagingProvider() {
+    }
+
+    @Override
+    public boolean accepts(QueueManagerConfiguration config) {
+        return true;
+    }
+
+    @Override
+    public QueueManagerConnection connect(QueueManagerConfiguration config) throws Exception {
+        MQQueueManager queueManager = new MQQueueManager(config.queueManagerName(),
+                QueueManager.getConnectionProperties(config));
+        return new IbmMqConnection(queueManager);
+    }
+
+    @Override
+    public Connection createJmsConnection(QueueManagerConfiguration config) throws Exception {
+        MQConnectionFactory connectionFactory = new MQConnectionFactory();
+        connectionFactory.setQueueManager(config.queueManagerName());
+        connectionFactory.setHostName(config.host());
+        connectionFactory.setPort(config.port());
+        connectionFactory.setChannel(config.channel());
+        connectionFactory.setTransportType(WMQConstants.WMQ_CM_CLIENT);
+        if (Objects.nonNull(config.sslCipherSuite())) {
+            connectionFactory.setSSLCipherSuite(config.sslCipherSuite());
+        }
+        if (Objects.nonNull(config.secureSocket())) {
+            String sslProtocol = getSslProtocol(config.sslCipherSuite());
+            SSLSocketFactory sslSocketFactory = getSecureSocketFactory(sslProtocol, config.secureSocket());
+            connectionFactory.setSSLSocketFactory(sslSocketFactory);
+        }
+        if (Objects.nonNull(config.userID()) && Objects.nonNull(config.password())) {
+            if (!config.userID().isBlank()) {
+                return connectionFactory.createConnection(config.userID(), config.password());
+            }
+        }
+        return connectionFactory.createConnection();
+    }
+
+    private record IbmMqConnection(MQQueueManager queueManager) implements QueueManagerConnection {
+
+        @Override
+        public DestinationHandle accessQueue(String queueName, int options, String dynamicQueueName)
+                throws MQException {
+            // When a model queue is opened, the dynamic queue name is used as the name (or the prefix followed by an
+            // asterisk) of the created dynamic queue.
+            return new MQDestinationHandle(Objects.isNull(dynamicQueueName) ?
+                    this.queueManager.accessQueue(queueName, options) :
+                    this.queueManager.accessQueue(queueName, options, null, dynamicQueueName, null));
+        }
+
+        @Override
+        public DestinationHandle accessTopic(String topicName, String topicString, int openTopicOption, int options)
+                throws MQException {
+            return new MQDestinationHandle(this.queueManager.accessTopic(topicName, topicString, openTopicOption,
+                    options));
+        }
+
+        @Override
+        public void commit() throws MQException {
+            this.queueManager.commit();
+        }
+
+        @Override
+        public void backout() throws MQException {
+            this.queueManager.backout();
+        }
+
+        @Override
+        public void disconnect() throws MQException {
+            this.queueManager.disconnect();
+        }
+
+        @Override
+        public MQQueueManager getQueueManager() {
+            return this.queueManager;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the results of administrative inquiries. A result is reused until its time-to-live elapses, and
+ * concurrent inquiries of the same key share a single in-flight inquiry, so that hot paths do not flood the command
+ * server of the queue manager. Failed inquiries are not cached.
+ *
+ * @since 1.4.3
+ */
+final class InquiryCache {
+    private final long ttlNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    InquiryCache(long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(String key, Inquiry<T> inquiry) throws Exception {
+        while (true) {
+            long now = System.nanoTime();
+            Entry entry = this.entries.get(key);
+            if (Objects.nonNull(entry) && now - entry.expiresAt < 0) {
+                return (T) await(entry.result);
+            }
+            Entry newEntry = new Entry(now + this.ttlNanos, new CompletableFuture<>());
+            boolean owner = Objects.isNull(entry) ? this.entries.putIfAbsent(key, newEntry) == null :
+                    this.entries.replace(key, entry, newEntry);
+            if (!owner) {
+                // Another caller has started the inquiry, hence its result is awaited in the next iteration.
+                continue;
+            }
+            try {
+                T value = inquiry.run();
+                newEntry.result.complete(value);
+                return value;
+            } catch (Exception e) {
+                this.entries.remove(key, newEntry);
+                newEntry.result.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> result) throws Exception {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * An administrative inquiry.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    interface Inquiry<T> {
+        T run() throws Exception;
+    }
+
+    private record Entry(long expiresAt, CompletableFuture<Object> result) {
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQDestination;
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.MQQueue;
+import com.ibm.mq.constants.CMQC;
+
+/**
+ * The {@link DestinationHandle} of a queue or a topic opened with the IBM MQ classes.
+ *
+ * @since 1.4.3
+ */
+final class MQDestinationHandle implements DestinationHandle {
+    private final MQDestination destination;
+
+    MQDestinationHandle(MQDestination destination) {
+        this.destination = destination;
+    }
+
+    MQDestination getDestination() {
+        return this.destination;
+    }
+
+    @Override
+    public String getName() throws MQException {
+        return this.destination.getName();
+    }
+
+    @Override
+    public void put(MQMessage message, MQPutMessageOptions options) throws MQException {
+        this.destination.put(message, options);
+    }
+
+    @Override
+    public void get(MQMessage message, MQGetMessageOptions options) throws MQException {
+        this.destination.get(message, options);
+    }
+
+    @Override
+    public int getCurrentDepth() throws MQException {
+        if (this.destination instanceof MQQueue queue) {
+            return queue.getCurrentDepth();
+        }
+        throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_SELECTOR_NOT_FOR_TYPE, this);
+    }
+
+    @Override
+    public void close() throws MQException {
+        this.destination.close();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import javax.jms.Connection;
+
+/**
+ * Creates the connections to a queue manager. The connector uses the IBM MQ classes, unless another provider has been
+ * installed through {@link MessagingProviders}, which is only possible from within this package. This lets the
+ * in-memory stand-in of the test fixtures be plugged in for tests and benchmarks, without any provider on the class
+ * path taking over the connections of an application. It is not a part of the public API of the connector.
+ *
+ * @since 1.4.3
+ */
+public interface MessagingProvider {
+
+    /**
+     * Returns whether the provider serves the queue manager with the given configuration.
+     *
+     * @param config the queue manager configuration
+     * @return {@code true} if the provider creates the connections for the configuration
+     */
+    boolean accepts(QueueManagerConfiguration config);
+
+    /**
+     * Connects to the queue manager, for the queue and topic clients.
+     *
+     * @param config the queue manager configuration
+     * @return the connection
+     * @throws Exception if the connection could not be established
+     */
+    QueueManagerConnection connect(QueueManagerConfiguration config) throws Exception;
+
+    /**
+     * Creates a JMS connection to the queue manager, for the listener and the topic producer.
+     *
+     * @param config the queue manager configuration
+     * @return the JMS connection, which is not started
+     * @throws Exception if the connection could not be established
+     */
+    Connection createJmsConnection(QueueManagerConfiguration config) throws Exception;
+}
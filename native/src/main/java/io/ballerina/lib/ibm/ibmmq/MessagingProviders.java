@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import java.util.Objects;
+
+/**
+ * Selects the {@link MessagingProvider} of a queue manager. The provider is only replaced through the package-private
+ * {@link #install(MessagingProvider)}, which is called by the in-memory stand-in of the test fixtures, hence the
+ * connections of an application are always created with the IBM MQ classes.
+ *
+ * @since 1.4.3
+ */
+final class MessagingProviders {
+    private static volatile MessagingProvider installed;
+
+    private MessagingProviders() {
+    }
+
+    /**
+     * Installs a provider, which serves the queue managers whose configuration it accepts.
+     *
+     * @param provider the provider, or {@code null} to use the IBM MQ classes for all the queue managers
+     */
+    static void install(MessagingProvider provider) {
+        installed = provider;
+    }
+
+    /**
+     * Returns the provider which serves the queue manager with the given configuration.
+     *
+     * @param config the queue manager configuration
+     * @return the installed provider if it accepts the configuration, or else the IBM MQ provider
+     */
+    static MessagingProvider of(QueueManagerConfiguration config) {
+        MessagingProvider provider = installed;
+        if (Objects.nonNull(provider) && provider.accepts(config)) {
+            return provider;
+        }
+        return IbmMqMessagingProvider.INSTANCE;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import com.ibm.mq.constants.CMQCFC;
+import com.ibm.mq.constants.MQConstants;
+import com.ibm.mq.headers.pcf.PCFException;
+import com.ibm.mq.headers.pcf.PCFMessage;
+import com.ibm.mq.headers.pcf.PCFMessageAgent;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.lib.ibm.ibmmq.ModuleUtils.getModule;
+
+/**
+ * Inquires the status of the objects of a queue manager with Programmable Command Format (PCF) commands. The commands
+ * are sent over the existing connection of the queue manager, and the results are cached for the configured TTL.
+ *
+ * @since 1.4.3
+ */
+final class PcfInquirer {
+    private static final String QUEUE_STATUS_RECORD = "QueueStatus";
+    private static final String CHANNEL_STATUS_RECORD = "ChannelStatus";
+    private static final String CHANNEL_STATUS_PREFIX = "MQCHS_";
+    private static final BString QUEUE_NAME = StringUtils.fromString("queueName");
+    private static final BString DEPTH = StringUtils.fromString("depth");
+    private static final BString OPEN_INPUT_COUNT = StringUtils.fromString("openInputCount");
+    private static final BString OPEN_OUTPUT_COUNT = StringUtils.fromString("openOutputCount");
+    private static final BString UNCOMMITTED_MESSAGES = StringUtils.fromString("uncommittedMessages");
+    private static final BString OLDEST_MESSAGE_AGE = StringUtils.fromString("oldestMessageAge");
+    private static final BString CHANNEL_NAME = StringUtils.fromString("channelName");
+    private static final BString CONNECTION_NAME = StringUtils.fromString("connectionName");
+    private static final BString STATUS = StringUtils.fromString("status");
+    private static final BString MESSAGES = StringUtils.fromString("messages");
+
+    private final MQQueueManager queueManager;
+    private final InquiryCache cache;
+    // The commands are sent one at a time over the agent. A lock is used rather than a monitor, as a round trip to
+    // the command server while holding a monitor would pin the carrier thread of the virtual thread.
+    private final ReentrantLock agentLock = new ReentrantLock();
+    private PCFMessageAgent agent;
+
+    PcfInquirer(MQQueueManager queueManager, long cacheTtlNanos) {
+        this.queueManager = queueManager;
+        this.cache = new InquiryCache(cacheTtlNanos);
+    }
+
+    long inquireQueueDepth(String queueName) throws Exception {
+        return this.cache.get("depth:" + queueName, () -> {
+            PCFMessage request = new PCFMessage(CMQCFC.MQCMD_INQUIRE_Q);
+            request.addParameter(CMQC.MQCA_Q_NAME, queueName);
+            request.addParameter(CMQCFC.MQIACF_Q_ATTRS, new int[]{CMQC.MQIA_CURRENT_Q_DEPTH});
+            PCFMessage[] responses = send(request);
+            return (long) responses[0].getIntParameterValue(CMQC.MQIA_CURRENT_Q_DEPTH);
+        });
+    }
+
+    BMap<BString, Object> inquireQueueStatus(String queueName) throws Exception {
+        return this.cache.get("status:" + queueName, () -> {
+            PCFMessage request = new PCFMessage(CMQCFC.MQCMD_INQUIRE_Q_STATUS);
+            request.addParameter(CMQC.MQCA_Q_NAME, queueName);
+            request.addParameter(CMQCFC.MQIACF_Q_STATUS_ATTRS, new int[]{CMQCFC.MQIACF_ALL});
+            PCFMessage response = send(request)[0];
+            BMap<BString, Object> status = ValueCreator.createRecordValue(getModule(), QUEUE_STATUS_RECORD);
+            status.put(QUEUE_NAME, StringUtils.fromString(response.getStringParameterValue(CMQC.MQCA_Q_NAME)
+                    .strip()));
+            status.put(DEPTH, (long) response.getIntParameterValue(CMQC.MQIA_CURRENT_Q_DEPTH));
+            status.put(OPEN_INPUT_COUNT, (long) response.getIntParameterValue(CMQC.MQIA_OPEN_INPUT_COUNT));
+            status.put(OPEN_OUTPUT_COUNT, (long) response.getIntParameterValue(CMQC.MQIA_OPEN_OUTPUT_COUNT));
+            status.put(UNCOMMITTED_MESSAGES, (long) response.getIntParameterValue(CMQCFC.MQIACF_UNCOMMITTED_MSGS));
+            // The oldest message age is -1 unless the queue monitoring (MONQ) is enabled for the queue.
+            status.put(OLDEST_MESSAGE_AGE, (long) response.getIntParameterValue(CMQCFC.MQIACF_OLDEST_MSG_AGE));
+            status.freezeDirect();
+            return status;
+        });
+    }
+
+    BArray inquireChannelStatus(String channelName) throws Exception {
+        return this.cache.get("channel:" + channelName, () -> {
+            PCFMessage request = new PCFMessage(CMQCFC.MQCMD_INQUIRE_CHANNEL_STATUS);
+            request.addParameter(CMQCFC.MQCACH_CHANNEL_NAME, channelName);
+            ArrayType arrayType = TypeCreator.createArrayType(
+                    ValueCreator.createRecordValue(getModule(), CHANNEL_STATUS_RECORD).getType());
+            BArray statuses = ValueCreator.createArrayValue(arrayType);
+            PCFMessage[] responses;
+            try {
+                responses = send(request);
+            } catch (PCFException e) {
+                if (e.reasonCode == CMQCFC.MQRCCF_CHL_STATUS_NOT_FOUND) {
+                    // A channel without any active instance does not have a status.
+                    statuses.freezeDirect();
+                    return statuses;
+                }
+                throw e;
+            }
+            for (PCFMessage response : responses) {
+                BMap<BString, Object> status = ValueCreator.createRecordValue(getModule(), CHANNEL_STATUS_RECORD);
+                status.put(CHANNEL_NAME, StringUtils.fromString(
+                        response.getStringParameterValue(CMQCFC.MQCACH_CHANNEL_NAME).strip()));
+                status.put(CONNECTION_NAME, StringUtils.fromString(
+                        response.getStringParameterValue(CMQCFC.MQCACH_CONNECTION_NAME).strip()));
+                status.put(STATUS, StringUtils.fromString(getChannelStatus(
+                        response.getIntParameterValue(CMQCFC.MQIACH_CHANNEL_STATUS))));
+                status.put(MESSAGES, (long) response.getIntParameterValue(CMQCFC.MQIACH_MSGS));
+                statuses.append(status);
+            }
+            statuses.freezeDirect();
+            return statuses;
+        });
+    }
+
+    private static String getChannelStatus(int status) {
+        String name = MQConstants.lookup(status, CHANNEL_STATUS_PREFIX + ".*");
+        return name.startsWith(CHANNEL_STATUS_PREFIX) ? name.substring(CHANNEL_STATUS_PREFIX.length()) : name;
+    }
+
+    private PCFMessage[] send(PCFMessage request) throws Exception {
+        this.agentLock.lock();
+        try {
+            // The agent shares the connection of the queue manager, hence it is created on the first inquiry.
+            if (Objects.isNull(this.agent)) {
+                if (Objects.isNull(this.queueManager)) {
+                    // The PCF inquiries require a connection to an IBM MQ queue manager, which a stand-in does not
+                    // have.
+                    throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_FUNCTION_NOT_SUPPORTED, this);
+                }
+                this.agent = new PCFMessageAgent(this.queueManager);
+            }
+            return this.agent.send(request);
+        } finally {
+            this.agentLock.unlock();
+        }
+    }
+
+    void close() throws Exception {
+        this.agentLock.lock();
+        try {
+            if (Objects.nonNull(this.agent)) {
+                this.agent.disconnect();
+                this.agent = null;
+            }
+        } finally {
+            this.agentLock.unlock();
+        }
+    }
+}
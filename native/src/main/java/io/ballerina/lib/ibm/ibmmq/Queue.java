@@ -22,14 +22,26 @@ import com.ibm.mq.MQException;
 import com.ibm.mq.MQGetMessageOptions;
 import com.ibm.mq.MQMessage;
 import com.ibm.mq.MQPutMessageOptions;
-import com.ibm.mq.MQQueue;
 import com.ibm.mq.constants.CMQC;
 import io.ballerina.lib.ibm.ibmmq.config.GetMessageOptions;
+import io.ballerina.lib.ibm.ibmmq.jfr.GetEvent;
+import io.ballerina.lib.ibm.ibmmq.jfr.PutEvent;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.ReasonCodes;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
 import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
 import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
 
@@ -39,15 +51,27 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
 public class Queue {
     public static Object put(Environment environment, BObject queueObject, BMap<BString, Object> message,
                              long options) {
-        MQQueue queue = (MQQueue) queueObject.getNativeData(Constants.NATIVE_QUEUE);
+        DestinationHandle queue = (DestinationHandle) queueObject.getNativeData(Constants.NATIVE_DESTINATION);
+        DestinationMetrics metrics = (DestinationMetrics) queueObject.getNativeData(
+                Constants.NATIVE_DESTINATION_METRICS);
+        TraceContextPropagator traceContextPropagator = (TraceContextPropagator) queueObject.getNativeData(
+                Constants.NATIVE_TRACE_PROPAGATOR);
         MQMessage mqMessage = CommonUtils.getMqMessageFromBMessage(message);
         return environment.yieldAndRun(() -> {
+            long startTime = System.nanoTime();
+            PutEvent event = new PutEvent();
+            event.begin();
             try {
+                traceContextPropagator.inject(environment, mqMessage);
                 MQPutMessageOptions pmo = new MQPutMessageOptions();
                 pmo.options = (int) options;
                 queue.put(mqMessage, pmo);
+                metrics.put().recordSuccess(System.nanoTime() - startTime, mqMessage.getMessageLength());
+                event.record(metrics.getName(), mqMessage.getMessageLength(), CMQC.MQRC_NONE);
                 return null;
             } catch (MQException e) {
+                metrics.put().recordError(e);
+                event.record(metrics.getName(), 0, ReasonCodes.getReasonCode(e));
                 return createError(IBMMQ_ERROR,
                         String.format("Error occurred while putting a message to the queue: %s", e.getMessage()), e);
             }
@@ -55,18 +79,29 @@ public class Queue {
     }
 
     public static Object get(Environment environment, BObject queueObject, BMap<BString, Object> bGetMsgOptions) {
-        MQQueue queue = (MQQueue) queueObject.getNativeData(Constants.NATIVE_QUEUE);
+        DestinationHandle queue = (DestinationHandle) queueObject.getNativeData(Constants.NATIVE_DESTINATION);
+        DestinationMetrics metrics = (DestinationMetrics) queueObject.getNativeData(
+                Constants.NATIVE_DESTINATION_METRICS);
         GetMessageOptions getMsgOptions = new GetMessageOptions(bGetMsgOptions);
         MQMessage mqMessage = CommonUtils.getMqMessage(getMsgOptions.matchOptions());
         MQGetMessageOptions mqGetMsgOptions = CommonUtils.getMqGetMsgOptions(getMsgOptions);
         return environment.yieldAndRun(() -> {
+            long startTime = System.nanoTime();
+            GetEvent event = new GetEvent();
+            event.begin();
             try {
                 queue.get(mqMessage, mqGetMsgOptions);
+                // The latency includes the wait for a message to arrive when a wait interval is configured.
+                metrics.get().recordSuccess(System.nanoTime() - startTime, mqMessage.getMessageLength());
+                event.record(metrics.getName(), mqMessage.getMessageLength(), CMQC.MQRC_NONE);
+                metrics.residence().record(mqMessage);
                 return CommonUtils.getBMessageFromMQMessage(environment.getRuntime(), mqMessage);
             } catch (MQException e) {
+                event.record(metrics.getName(), 0, e.reasonCode);
                 if (e.reasonCode == CMQC.MQRC_NO_MSG_AVAILABLE) {
                     return null;
                 } else {
+                    metrics.get().recordError(e);
                     return createError(IBMMQ_ERROR,
                             String.format("Error occurred while getting a message from the queue: %s",
                                     e.getMessage()), e);
@@ -75,8 +110,81 @@ public class Queue {
         });
     }
 
+    public static Object getGroup(Environment environment, BObject queueObject,
+                                  BMap<BString, Object> bGetMsgOptions) {
+        DestinationHandle queue = (DestinationHandle) queueObject.getNativeData(Constants.NATIVE_DESTINATION);
+        if (queue instanceof StripedDestinationHandle) {
+            return createError(IBMMQ_ERROR, "A message group can not be got from a striped queue");
+        }
+        GetMessageOptions getMsgOptions = new GetMessageOptions(bGetMsgOptions);
+        if ((getMsgOptions.options() & CMQC.MQGMO_SYNCPOINT) == 0) {
+            return createError(IBMMQ_ERROR, "A message group must be got with the MQGMO_SYNCPOINT option, so that " +
+                    "the messages already got can be backed out when the rest of the group can not be got");
+        }
+        DestinationMetrics metrics = (DestinationMetrics) queueObject.getNativeData(
+                Constants.NATIVE_DESTINATION_METRICS);
+        ReentrantLock groupLock = (ReentrantLock) queueObject.getNativeData(Constants.NATIVE_GROUP_LOCK);
+        MQMessage firstMessage = CommonUtils.getMqMessage(getMsgOptions.matchOptions());
+        MQGetMessageOptions mqGetMsgOptions = CommonUtils.getMqGetMsgOptions(getMsgOptions);
+        mqGetMsgOptions.options |= CMQC.MQGMO_ALL_MSGS_AVAILABLE | CMQC.MQGMO_LOGICAL_ORDER;
+        return environment.yieldAndRun(() -> {
+            List<MQMessage> group = new ArrayList<>();
+            // The position within a group in logical order is kept per queue handle, hence the groups got from the
+            // same queue are got one after the other. A lock is used, as a monitor held during a get which waits
+            // would pin the carrier thread of the virtual thread.
+            groupLock.lock();
+            try {
+                MQMessage mqMessage = firstMessage;
+                while (true) {
+                    long startTime = System.nanoTime();
+                    GetEvent event = new GetEvent();
+                    event.begin();
+                    try {
+                        queue.get(mqMessage, mqGetMsgOptions);
+                        metrics.get().recordSuccess(System.nanoTime() - startTime, mqMessage.getMessageLength());
+                        event.record(metrics.getName(), mqMessage.getMessageLength(), CMQC.MQRC_NONE);
+                        metrics.residence().record(mqMessage);
+                    } catch (MQException e) {
+                        event.record(metrics.getName(), 0, e.reasonCode);
+                        if (e.reasonCode == CMQC.MQRC_NO_MSG_AVAILABLE && group.isEmpty()) {
+                            return null;
+                        }
+                        metrics.get().recordError(e);
+                        // The messages already got, e.g. before another application got the next message of the
+                        // group, are returned to the queue once the unit of work is backed out.
+                        return createError(IBMMQ_ERROR, String.format("Error occurred while getting a message " +
+                                "group from the queue, the messages of the group already got are returned to the " +
+                                "queue when the unit of work is backed out: %s", e.getMessage()), e);
+                    }
+                    group.add(mqMessage);
+                    // A message which is not in a group is a group of its own.
+                    if ((mqMessage.messageFlags & CMQC.MQMF_MSG_IN_GROUP) == 0
+                            || (mqMessage.messageFlags & CMQC.MQMF_LAST_MSG_IN_GROUP) != 0) {
+                        break;
+                    }
+                    // The rest of the group is got in logical order regardless of the selection criteria.
+                    mqMessage = new MQMessage();
+                    mqGetMsgOptions.matchOptions = CMQC.MQMO_NONE;
+                }
+            } finally {
+                groupLock.unlock();
+            }
+            ArrayType arrayType = TypeCreator.createArrayType(
+                    ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.BMESSAGE_NAME).getType());
+            BArray messages = ValueCreator.createArrayValue(arrayType);
+            for (MQMessage mqMessage : group) {
+                messages.append(CommonUtils.getBMessageFromMQMessage(environment.getRuntime(), mqMessage));
+            }
+            return messages;
+        });
+    }
+
+    public static BString getName(BObject queueObject) {
+        return StringUtils.fromString((String) queueObject.getNativeData(Constants.NATIVE_QUEUE_NAME));
+    }
+
     public static Object close(Environment env, BObject queueObject) {
-        MQQueue queue = (MQQueue) queueObject.getNativeData(Constants.NATIVE_QUEUE);
+        DestinationHandle queue = (DestinationHandle) queueObject.getNativeData(Constants.NATIVE_DESTINATION);
         return env.yieldAndRun(() -> {
             try {
                 queue.close();
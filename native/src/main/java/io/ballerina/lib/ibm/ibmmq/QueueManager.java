@@ -19,18 +19,27 @@
 package io.ballerina.lib.ibm.ibmmq;
 
 import com.ibm.mq.MQException;
-import com.ibm.mq.MQQueue;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
 import com.ibm.mq.MQQueueManager;
-import com.ibm.mq.MQTopic;
 import com.ibm.mq.constants.MQConstants;
 import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+import io.ballerina.lib.ibm.ibmmq.metrics.ClientMetrics;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.SSLSocketFactory;
 
@@ -38,8 +47,17 @@ import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
 import static io.ballerina.lib.ibm.ibmmq.Constants.BQUEUE;
 import static io.ballerina.lib.ibm.ibmmq.Constants.BTOPIC;
 import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.INQUIRY_CACHE_TTL;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_DESTINATION;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_DESTINATION_METRICS;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_METRICS;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_PCF_INQUIRER;
 import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_QUEUE_MANAGER;
-import static io.ballerina.lib.ibm.ibmmq.Constants.QUEUE_MANAGER_NAME;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_QUEUE_MANAGER_CONNECTION;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_RESOURCE_TRACKER;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_TOPIC_RESOURCES;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_TRACE_PROPAGATOR;
 import static io.ballerina.lib.ibm.ibmmq.SslUtils.getSecureSocketFactory;
 import static io.ballerina.lib.ibm.ibmmq.SslUtils.getSslProtocol;
 
@@ -60,14 +78,25 @@ public class QueueManager {
         try {
             QueueManagerConfiguration queueManagerConfig = new QueueManagerConfiguration(configurations);
             queueManager.addNativeData(QUEUE_MNG_CONFIG, queueManagerConfig);
-            Hashtable<String, Object> connectionProperties = getConnectionProperties(queueManagerConfig);
-            String queueManagerName = configurations.getStringValue(QUEUE_MANAGER_NAME).getValue();
-            MQQueueManager mqQueueManager = new MQQueueManager(queueManagerName, connectionProperties);
+            QueueManagerConnection connection = MessagingProviders.of(queueManagerConfig)
+                    .connect(queueManagerConfig);
+            MQQueueManager mqQueueManager = connection.getQueueManager();
+            queueManager.addNativeData(NATIVE_QUEUE_MANAGER_CONNECTION, connection);
             queueManager.addNativeData(NATIVE_QUEUE_MANAGER, mqQueueManager);
+            queueManager.addNativeData(NATIVE_METRICS, new ClientMetrics());
+            queueManager.addNativeData(NATIVE_RESOURCE_TRACKER, new ResourceTracker());
+            queueManager.addNativeData(NATIVE_TRACE_PROPAGATOR,
+                    new TraceContextPropagator(queueManagerConfig.traceSamplingRate()));
+            long inquiryCacheTtl = ((BDecimal) configurations.get(INQUIRY_CACHE_TTL)).decimalValue()
+                    .multiply(MILLISECOND_MULTIPLIER).longValue();
+            queueManager.addNativeData(NATIVE_PCF_INQUIRER,
+                    new PcfInquirer(mqQueueManager, TimeUnit.MILLISECONDS.toNanos(inquiryCacheTtl)));
         } catch (MQException e) {
             return createError(IBMMQ_ERROR,
                     String.format("Error occurred while initializing the connection manager: %s",
                             e.getMessage()), e);
+        } catch (BError e) {
+            return e;
         } catch (Exception e) {
             return createError(IBMMQ_ERROR,
                     String.format("Unexpected error occurred while initializing the connection manager: %s",
@@ -76,7 +105,18 @@ public class QueueManager {
         return null;
     }
 
-    static Hashtable<String, Object> getConnectionProperties(QueueManagerConfiguration configurations)
+    /**
+     * Connects to the queue manager with the given configuration, through the messaging provider which serves it.
+     *
+     * @param config the queue manager configuration
+     * @return the connection
+     * @throws Exception if the connection could not be established
+     */
+    public static QueueManagerConnection connect(QueueManagerConfiguration config) throws Exception {
+        return MessagingProviders.of(config).connect(config);
+    }
+
+    public static Hashtable<String, Object> getConnectionProperties(QueueManagerConfiguration configurations)
             throws Exception {
         Hashtable<String, Object> properties = new Hashtable<>();
         properties.put(MQConstants.HOST_NAME_PROPERTY, configurations.host());
@@ -105,30 +145,101 @@ public class QueueManager {
         }
     }
 
-    public static Object accessQueue(BObject queueManagerObject, BString queueName, Long options) {
-        MQQueueManager queueManager = (MQQueueManager) queueManagerObject.getNativeData(NATIVE_QUEUE_MANAGER);
+    public static Object accessQueue(BObject queueManagerObject, BString queueName, Long options,
+                                     Object dynamicQueueName) {
+        QueueManagerConnection connection = (QueueManagerConnection) queueManagerObject
+                .getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
         try {
-            MQQueue mqQueue = queueManager.accessQueue(queueName.getValue(), options.intValue());
-            BObject bQueue = ValueCreator.createObjectValue(ModuleUtils.getModule(), BQUEUE);
-            bQueue.addNativeData(Constants.NATIVE_QUEUE, mqQueue);
-            return bQueue;
+            DestinationHandle queue = connection.accessQueue(queueName.getValue(), options.intValue(),
+                    Objects.isNull(dynamicQueueName) ? null : ((BString) dynamicQueueName).getValue());
+            return createBQueue(queueManagerObject, queue);
         } catch (MQException e) {
             return createError(IBMMQ_ERROR,
                     java.lang.String.format("Error occurred while accessing queue: %s", e.getMessage()), e);
         }
     }
 
+    public static Object accessStripedQueue(BObject queueManagerObject, BString queueName, Long options,
+                                            Long stripes) {
+        if (stripes < 1) {
+            return createError(IBMMQ_ERROR, "The number of stripes of a queue must be at least 1");
+        }
+        QueueManagerConfiguration queueMngConfig = (QueueManagerConfiguration) queueManagerObject
+                .getNativeData(QUEUE_MNG_CONFIG);
+        ResourceTracker tracker = (ResourceTracker) queueManagerObject.getNativeData(NATIVE_RESOURCE_TRACKER);
+        MessagingProvider provider = MessagingProviders.of(queueMngConfig);
+        List<StripedDestinationHandle.Stripe> queueStripes = new ArrayList<>(stripes.intValue());
+        try {
+            for (int i = 0; i < stripes; i++) {
+                QueueManagerConnection connection = provider.connect(queueMngConfig);
+                try {
+                    queueStripes.add(new StripedDestinationHandle.Stripe(connection,
+                            connection.accessQueue(queueName.getValue(), options.intValue(), null)));
+                } catch (MQException e) {
+                    connection.disconnect();
+                    throw e;
+                }
+            }
+            StripedDestinationHandle queue = new StripedDestinationHandle(queueStripes, tracker);
+            BObject bQueue = createBQueue(queueManagerObject, queue);
+            // The stripes are not part of the unit of work of the queue manager, hence the queue can not be used
+            // where the destinations must share the connection of the queue manager, such as in a forwarder.
+            bQueue.addNativeData(NATIVE_QUEUE_MANAGER, null);
+            tracker.track(bQueue, queue);
+            return bQueue;
+        } catch (Exception e) {
+            // Disconnecting a stripe also closes the queue opened on it.
+            for (StripedDestinationHandle.Stripe stripe : queueStripes) {
+                try {
+                    stripe.connection().disconnect();
+                } catch (MQException disconnectError) {
+                    e.addSuppressed(disconnectError);
+                }
+            }
+            return createError(IBMMQ_ERROR,
+                    String.format("Error occurred while accessing the striped queue: %s", e.getMessage()), e);
+        }
+    }
+
+    static BObject createBQueue(BObject queueManagerObject, DestinationHandle queue) throws MQException {
+        BObject bQueue = ValueCreator.createObjectValue(ModuleUtils.getModule(), BQUEUE);
+        String queueName = queue.getName().strip();
+        ClientMetrics metrics = (ClientMetrics) queueManagerObject.getNativeData(NATIVE_METRICS);
+        bQueue.addNativeData(NATIVE_DESTINATION, queue);
+        // The IBM MQ queue is only available when the connection is backed by an IBM MQ queue manager.
+        bQueue.addNativeData(Constants.NATIVE_QUEUE,
+                queue instanceof MQDestinationHandle handle ? handle.getDestination() : null);
+        bQueue.addNativeData(NATIVE_QUEUE_MANAGER, queueManagerObject.getNativeData(NATIVE_QUEUE_MANAGER));
+        bQueue.addNativeData(Constants.NATIVE_QUEUE_NAME, queueName);
+        bQueue.addNativeData(Constants.NATIVE_GROUP_LOCK, new ReentrantLock());
+        bQueue.addNativeData(NATIVE_DESTINATION_METRICS, metrics.forQueue(queueName));
+        bQueue.addNativeData(NATIVE_TRACE_PROPAGATOR, queueManagerObject.getNativeData(NATIVE_TRACE_PROPAGATOR));
+        return bQueue;
+    }
+
     public static Object accessTopic(BObject queueManagerObject, BString topicName,
                                      BString topicString, Long openTopicOption, Long options) {
-        MQQueueManager queueManager = (MQQueueManager) queueManagerObject.getNativeData(NATIVE_QUEUE_MANAGER);
+        QueueManagerConnection connection = (QueueManagerConnection) queueManagerObject
+                .getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
         QueueManagerConfiguration queueMngConfig = (QueueManagerConfiguration) queueManagerObject
                 .getNativeData(QUEUE_MNG_CONFIG);
         try {
-            MQTopic mqTopic = queueManager.accessTopic(topicName.getValue(), topicString.getValue(),
+            DestinationHandle topic = connection.accessTopic(topicName.getValue(), topicString.getValue(),
                     openTopicOption.intValue(), options.intValue());
             BObject bTopic = ValueCreator.createObjectValue(ModuleUtils.getModule(), BTOPIC);
             bTopic.addNativeData(QUEUE_MNG_CONFIG, queueMngConfig);
-            bTopic.addNativeData(Constants.NATIVE_TOPIC, mqTopic);
+            bTopic.addNativeData(NATIVE_DESTINATION, topic);
+            ResourceTracker tracker = (ResourceTracker) queueManagerObject.getNativeData(NATIVE_RESOURCE_TRACKER);
+            TopicResources resources = new TopicResources(topic, queueMngConfig, tracker);
+            tracker.track(bTopic, resources);
+            bTopic.addNativeData(NATIVE_TOPIC_RESOURCES, resources);
+            bTopic.addNativeData(Constants.NATIVE_TOPIC,
+                    topic instanceof MQDestinationHandle handle ? handle.getDestination() : null);
+            bTopic.addNativeData(NATIVE_QUEUE_MANAGER, connection.getQueueManager());
+            ClientMetrics metrics = (ClientMetrics) queueManagerObject.getNativeData(NATIVE_METRICS);
+            String destinationName = topicName.getValue().isBlank() ? topicString.getValue() : topicName.getValue();
+            bTopic.addNativeData(NATIVE_DESTINATION_METRICS, metrics.forTopic(destinationName));
+            bTopic.addNativeData(NATIVE_TRACE_PROPAGATOR, queueManagerObject.getNativeData(NATIVE_TRACE_PROPAGATOR));
 
             return bTopic;
         } catch (MQException e) {
@@ -137,10 +248,128 @@ public class QueueManager {
         }
     }
 
+    public static Object putToMany(Environment env, BObject queueManagerObject, BArray queueNames,
+                                   BMap<BString, Object> message, long options) {
+        if (queueNames.size() == 0) {
+            return createError(IBMMQ_ERROR, "At least one queue is required to put a message to many queues");
+        }
+        QueueManagerConnection connection = (QueueManagerConnection) queueManagerObject
+                .getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
+        ClientMetrics metrics = (ClientMetrics) queueManagerObject.getNativeData(NATIVE_METRICS);
+        TraceContextPropagator traceContextPropagator = (TraceContextPropagator) queueManagerObject.getNativeData(
+                NATIVE_TRACE_PROPAGATOR);
+        String[] names = queueNames.getStringArray();
+        MQMessage mqMessage = CommonUtils.getMqMessageFromBMessage(message);
+        return env.yieldAndRun(() -> {
+            long startTime = System.nanoTime();
+            try {
+                traceContextPropagator.inject(env, mqMessage);
+                MQPutMessageOptions pmo = new MQPutMessageOptions();
+                pmo.options = (int) options;
+                DistributionList.Outcome[] outcomes = DistributionList.put(connection, names, mqMessage, pmo);
+                long latency = System.nanoTime() - startTime;
+                for (DistributionList.Outcome outcome : outcomes) {
+                    if (outcome.isSuccessful()) {
+                        metrics.forQueue(outcome.queueName()).put().recordSuccess(latency,
+                                mqMessage.getMessageLength());
+                    } else {
+                        metrics.forQueue(outcome.queueName()).put().recordError(new MQException(
+                                outcome.completionCode(), outcome.reasonCode(), queueManagerObject));
+                    }
+                }
+                return DistributionList.toBallerina(outcomes);
+            } catch (MQException e) {
+                for (String name : names) {
+                    metrics.forQueue(name).put().recordError(e);
+                }
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting a message to many queues: %s", e.getMessage()),
+                        e);
+            }
+        });
+    }
+
+    public static Object commit(Environment env, BObject queueManagerObject) {
+        QueueManagerConnection connection = (QueueManagerConnection) queueManagerObject
+                .getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
+        return env.yieldAndRun(() -> {
+            try {
+                connection.commit();
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while committing the unit of work: %s", e.getMessage()), e);
+            }
+        });
+    }
+
+    public static Object backout(Environment env, BObject queueManagerObject) {
+        QueueManagerConnection connection = (QueueManagerConnection) queueManagerObject
+                .getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
+        return env.yieldAndRun(() -> {
+            try {
+                connection.backout();
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while backing out the unit of work: %s", e.getMessage()), e);
+            }
+        });
+    }
+
+    public static BArray getMetrics(BObject queueManagerObject) {
+        return ((ClientMetrics) queueManagerObject.getNativeData(NATIVE_METRICS)).toBallerina();
+    }
+
+    public static Object inquireQueueDepth(Environment env, BObject queueManagerObject, BString queueName) {
+        PcfInquirer inquirer = (PcfInquirer) queueManagerObject.getNativeData(NATIVE_PCF_INQUIRER);
+        return env.yieldAndRun(() -> {
+            try {
+                return inquirer.inquireQueueDepth(queueName.getValue());
+            } catch (Exception e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while inquiring the queue depth: %s", e.getMessage()), e);
+            }
+        });
+    }
+
+    public static Object inquireQueueStatus(Environment env, BObject queueManagerObject, BString queueName) {
+        PcfInquirer inquirer = (PcfInquirer) queueManagerObject.getNativeData(NATIVE_PCF_INQUIRER);
+        return env.yieldAndRun(() -> {
+            try {
+                return inquirer.inquireQueueStatus(queueName.getValue());
+            } catch (Exception e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while inquiring the queue status: %s", e.getMessage()), e);
+            }
+        });
+    }
+
+    public static Object inquireChannelStatus(Environment env, BObject queueManagerObject, BString channelName) {
+        PcfInquirer inquirer = (PcfInquirer) queueManagerObject.getNativeData(NATIVE_PCF_INQUIRER);
+        return env.yieldAndRun(() -> {
+            try {
+                return inquirer.inquireChannelStatus(channelName.getValue());
+            } catch (Exception e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while inquiring the channel status: %s", e.getMessage()), e);
+            }
+        });
+    }
+
     public static Object disconnect(BObject queueManagerObject) {
-        MQQueueManager queueManager = (MQQueueManager) queueManagerObject.getNativeData(NATIVE_QUEUE_MANAGER);
+        QueueManagerConnection connection = (QueueManagerConnection) queueManagerObject
+                .getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
+        PcfInquirer inquirer = (PcfInquirer) queueManagerObject.getNativeData(NATIVE_PCF_INQUIRER);
+        // The topics hold JMS connections of their own, which are not closed by disconnecting from the queue manager.
+        ((ResourceTracker) queueManagerObject.getNativeData(NATIVE_RESOURCE_TRACKER)).closeAll();
+        try {
+            inquirer.close();
+        } catch (Exception e) {
+            // The agent only holds a reply queue of this connection, which is closed by the disconnect.
+        }
         try {
-            queueManager.disconnect();
+            connection.disconnect();
         } catch (MQException e) {
             return createError(IBMMQ_ERROR,
                     java.lang.String.format("Error occurred while disconnecting queue manager: %s", e.getMessage()), e);
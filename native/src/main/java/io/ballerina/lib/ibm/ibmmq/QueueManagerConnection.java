@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQQueueManager;
+
+/**
+ * A connection to a queue manager, used by the queue and topic clients. This is an internal abstraction over
+ * {@link MQQueueManager}, which lets the clients be driven by an in-memory stand-in of the queue manager in tests and
+ * benchmarks. It is not a part of the public API of the connector.
+ *
+ * @since 1.4.3
+ */
+public interface QueueManagerConnection {
+
+    /**
+     * Opens a queue.
+     *
+     * @param queueName        the name of the queue, or of the model queue when a dynamic queue is created
+     * @param options          the open options
+     * @param dynamicQueueName the name of the dynamic queue created from a model queue, or {@code null}
+     * @return the opened queue
+     * @throws MQException if the queue could not be opened
+     */
+    DestinationHandle accessQueue(String queueName, int options, String dynamicQueueName) throws MQException;
+
+    /**
+     * Opens a topic.
+     *
+     * @param topicName       the name of the topic object
+     * @param topicString     the topic string
+     * @param openTopicOption whether the topic is opened to publish or to subscribe
+     * @param options         the open options
+     * @return the opened topic
+     * @throws MQException if the topic could not be opened
+     */
+    DestinationHandle accessTopic(String topicName, String topicString, int openTopicOption, int options)
+            throws MQException;
+
+    /**
+     * Commits the unit of work of the connection.
+     *
+     * @throws MQException if the unit of work could not be committed
+     */
+    void commit() throws MQException;
+
+    /**
+     * Backs out the unit of work of the connection.
+     *
+     * @throws MQException if the unit of work could not be backed out
+     */
+    void backout() throws MQException;
+
+    /**
+     * Disconnects from the queue manager.
+     *
+     * @throws MQException if the connection could not be closed
+     */
+    void disconnect() throws MQException;
+
+    /**
+     * Returns the IBM MQ queue manager behind the connection. The features which depend on the IBM MQ classes
+     * directly, such as the PCF inquiries, the forwarder and the requestor, are only available when there is one.
+     *
+     * @return the IBM MQ queue manager, or {@code null} if the connection is not backed by one
+     */
+    MQQueueManager getQueueManager();
+}
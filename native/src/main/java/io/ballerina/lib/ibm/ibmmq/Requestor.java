@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.MQQueue;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
+import static io.ballerina.lib.ibm.ibmmq.Constants.BREQUESTOR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_QUEUE_MANAGER;
+import static io.ballerina.lib.ibm.ibmmq.QueueManager.QUEUE_MNG_CONFIG;
+
+/**
+ * Native implementation of the Ballerina IBM MQ requestor. Requests are put to the request queue with a generated
+ * message and correlation identifier, while a single background reader gets the replies from the reply queue over a
+ * dedicated connection and completes the pending request with the matching correlation identifier. The pending
+ * requests fail as soon as the requestor is closed or the reader fails, instead of waiting for their timeout.
+ *
+ * @since 1.4.3
+ */
+public class Requestor {
+    private static final String NATIVE_REQUESTOR = "native.requestor";
+    private static final BString TIMEOUT = StringUtils.fromString("timeout");
+    private static final int ID_LENGTH = CMQC.MQ_CORREL_ID_LENGTH;
+    private static final int READER_WAIT_INTERVAL = 1000;
+    private static final SecureRandom ID_GENERATOR = new SecureRandom();
+
+    private final MQQueue requestQueue;
+    private final MQQueueManager replyQueueManager;
+    private final MQQueue replyQueue;
+    private final String replyQueueName;
+    private final long timeout;
+    private final Map<String, CompletableFuture<MQMessage>> pendingRequests = new ConcurrentHashMap<>();
+    private final ErrorReporter errorReporter = new ErrorReporter();
+    private final Thread replyReader;
+    private volatile MQException readerFailure;
+    private volatile boolean closed = false;
+
+    private Requestor(MQQueue requestQueue, MQQueueManager replyQueueManager, MQQueue replyQueue,
+                      String replyQueueName, long timeout) {
+        this.requestQueue = requestQueue;
+        this.replyQueueManager = replyQueueManager;
+        this.replyQueue = replyQueue;
+        this.replyQueueName = replyQueueName;
+        this.timeout = timeout;
+        this.replyReader = new MQThreadFactory("ibmmq-reply-reader").newThread(this::readReplies);
+    }
+
+    public static Object createRequestor(BObject queueManagerObject, BString requestQueueName,
+                                         BString replyQueueName, BMap<BString, Object> options) {
+        MQQueueManager queueManager = (MQQueueManager) queueManagerObject.getNativeData(NATIVE_QUEUE_MANAGER);
+        QueueManagerConfiguration config =
+                (QueueManagerConfiguration) queueManagerObject.getNativeData(QUEUE_MNG_CONFIG);
+        if (Objects.isNull(queueManager)) {
+            return createError(IBMMQ_ERROR, "A requestor requires a connection to an IBM MQ queue manager");
+        }
+        MQQueue requestQueue = null;
+        MQQueueManager replyQueueManager = null;
+        try {
+            requestQueue = queueManager.accessQueue(requestQueueName.getValue(),
+                    CMQC.MQOO_OUTPUT | CMQC.MQOO_FAIL_IF_QUIESCING);
+            // The reader blocks on the reply queue, hence it uses its own connection so that it does not hold up the
+            // requests put through the shared queue manager connection.
+            replyQueueManager = new MQQueueManager(config.queueManagerName(),
+                    QueueManager.getConnectionProperties(config));
+            MQQueue replyQueue = replyQueueManager.accessQueue(replyQueueName.getValue(),
+                    CMQC.MQOO_INPUT_AS_Q_DEF | CMQC.MQOO_FAIL_IF_QUIESCING);
+            long timeout = ((BDecimal) options.get(TIMEOUT)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                    .longValue();
+            Requestor requestor = new Requestor(requestQueue, replyQueueManager, replyQueue,
+                    replyQueueName.getValue(), timeout);
+            BObject bRequestor = ValueCreator.createObjectValue(ModuleUtils.getModule(), BREQUESTOR);
+            bRequestor.addNativeData(NATIVE_REQUESTOR, requestor);
+            requestor.replyReader.start();
+            return bRequestor;
+        } catch (Exception e) {
+            closeQuietly(requestQueue, replyQueueManager);
+            return createError(IBMMQ_ERROR,
+                    String.format("Error occurred while creating the requestor: %s", e.getMessage()), e);
+        }
+    }
+
+    public static Object sendReceive(Environment env, BObject bRequestor, BMap<BString, Object> message,
+                                     Object timeout) {
+        Requestor requestor = (Requestor) bRequestor.getNativeData(NATIVE_REQUESTOR);
+        MQMessage request = CommonUtils.getMqMessageFromBMessage(message);
+        long timeoutInMillis = Objects.isNull(timeout) ? requestor.timeout :
+                ((BDecimal) timeout).decimalValue().multiply(MILLISECOND_MULTIPLIER).longValue();
+        return env.yieldAndRun(() -> {
+            if (requestor.closed) {
+                return requestor.getClosedError();
+            }
+            byte[] id = new byte[ID_LENGTH];
+            ID_GENERATOR.nextBytes(id);
+            // The same identifier is used as the message and the correlation identifier, so that the replies of
+            // responders which either copy the message identifier or pass the correlation identifier are matched.
+            request.messageId = id;
+            request.correlationId = id;
+            request.messageType = CMQC.MQMT_REQUEST;
+            request.replyToQueueName = requestor.replyQueueName;
+            String key = HexFormat.of().formatHex(id);
+            CompletableFuture<MQMessage> reply = new CompletableFuture<>();
+            requestor.pendingRequests.put(key, reply);
+            try {
+                // The pending requests are failed once the requestor is closed, which may have happened after the
+                // check above but before this request was registered.
+                if (requestor.closed) {
+                    return requestor.getClosedError();
+                }
+                MQPutMessageOptions pmo = new MQPutMessageOptions();
+                pmo.options = CMQC.MQPMO_NO_SYNCPOINT | CMQC.MQPMO_FAIL_IF_QUIESCING;
+                requestor.requestQueue.put(request, pmo);
+                MQMessage replyMessage = reply.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+                return CommonUtils.getBMessageFromMQMessage(env.getRuntime(), replyMessage);
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting the request: %s", e.getMessage()), e);
+            } catch (TimeoutException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Reply was not received within %d milliseconds", timeoutInMillis), e);
+            } catch (CancellationException e) {
+                return requestor.getClosedError();
+            } catch (ExecutionException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while receiving the reply: %s", e.getCause().getMessage()),
+                        e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createError(IBMMQ_ERROR, "Interrupted while waiting for the reply", e);
+            } finally {
+                requestor.pendingRequests.remove(key);
+            }
+        });
+    }
+
+    private void readReplies() {
+        MQGetMessageOptions gmo = new MQGetMessageOptions();
+        gmo.options = CMQC.MQGMO_WAIT | CMQC.MQGMO_NO_SYNCPOINT | CMQC.MQGMO_FAIL_IF_QUIESCING;
+        gmo.waitInterval = READER_WAIT_INTERVAL;
+        while (!this.closed) {
+            MQMessage reply = new MQMessage();
+            try {
+                this.replyQueue.get(reply, gmo);
+            } catch (MQException e) {
+                if (e.reasonCode == CMQC.MQRC_NO_MSG_AVAILABLE) {
+                    continue;
+                }
+                if (!this.closed) {
+                    failPendingRequests(e);
+                }
+                return;
+            }
+            CompletableFuture<MQMessage> pendingRequest =
+                    this.pendingRequests.remove(HexFormat.of().formatHex(reply.correlationId));
+            if (Objects.nonNull(pendingRequest)) {
+                pendingRequest.complete(reply);
+            } else {
+                this.errorReporter.report("Discarded a reply without a pending request", String.format(
+                        "No request is pending for the correlation identifier %s, the request may have timed out",
+                        HexFormat.of().formatHex(reply.correlationId)));
+            }
+        }
+    }
+
+    private void failPendingRequests(MQException e) {
+        this.readerFailure = e;
+        this.closed = true;
+        this.errorReporter.report("Failed to read the replies", e);
+        for (CompletableFuture<MQMessage> pendingRequest: this.pendingRequests.values()) {
+            pendingRequest.completeExceptionally(e);
+        }
+    }
+
+    private void cancelPendingRequests() {
+        for (CompletableFuture<MQMessage> pendingRequest: this.pendingRequests.values()) {
+            pendingRequest.cancel(false);
+        }
+    }
+
+    private BError getClosedError() {
+        MQException failure = this.readerFailure;
+        if (Objects.nonNull(failure)) {
+            return createError(IBMMQ_ERROR,
+                    String.format("Error occurred while receiving the reply: %s", failure.getMessage()), failure);
+        }
+        return createError(IBMMQ_ERROR, "The requestor has already been closed");
+    }
+
+    public static Object close(Environment env, BObject bRequestor) {
+        Requestor requestor = (Requestor) bRequestor.getNativeData(NATIVE_REQUESTOR);
+        return env.yieldAndRun(() -> {
+            requestor.closed = true;
+            // The callers waiting for a reply are released right away, rather than once the reader has stopped.
+            requestor.cancelPendingRequests();
+            try {
+                requestor.replyReader.join();
+                requestor.errorReporter.close();
+                requestor.replyQueue.close();
+                requestor.requestQueue.close();
+                requestor.replyQueueManager.disconnect();
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while closing the requestor: %s", e.getMessage()), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createError(IBMMQ_ERROR, "Interrupted while closing the requestor", e);
+            }
+        });
+    }
+
+    private static void closeQuietly(MQQueue requestQueue, MQQueueManager replyQueueManager) {
+        try {
+            if (Objects.nonNull(requestQueue)) {
+                requestQueue.close();
+            }
+            if (Objects.nonNull(replyQueueManager)) {
+                replyQueueManager.disconnect();
+            }
+        } catch (MQException e) {
+            // The requestor could not be created, hence the resources are released on a best-effort basis.
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import java.io.PrintStream;
+import java.lang.ref.Cleaner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the native resources created through a queue manager which are not released by disconnecting from it, so
+ * that they are released deterministically when the queue manager is disconnected.
+ * <p>
+ * When the {@code ibmmq.leakDetection} system property is set to {@code true}, a warning is printed for each tracked
+ * resource whose Ballerina object is garbage collected before it is closed, and the resource is released then.
+ *
+ * @since 1.4.3
+ */
+final class ResourceTracker {
+    static final String LEAK_DETECTION_PROPERTY = "ibmmq.leakDetection";
+    private static final boolean LEAK_DETECTION = Boolean.getBoolean(LEAK_DETECTION_PROPERTY);
+    private static final PrintStream ERR_OUT = System.err;
+
+    private final Set<TrackedResource> resources = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts tracking a resource which is owned by the given Ballerina object.
+     *
+     * @param owner    the Ballerina object through which the resource is used
+     * @param resource the resource
+     */
+    void track(Object owner, TrackedResource resource) {
+        this.resources.add(resource);
+        if (LEAK_DETECTION) {
+            // The cleaning action must not refer to the owner, otherwise the owner never becomes unreachable.
+            LeakDetector.CLEANER.register(owner, () -> {
+                if (this.resources.contains(resource)) {
+                    ERR_OUT.printf("IBM MQ %s was not closed before it was garbage collected, releasing it%n",
+                            resource.describe());
+                    closeQuietly(resource);
+                }
+            });
+        }
+    }
+
+    void untrack(TrackedResource resource) {
+        this.resources.remove(resource);
+    }
+
+    /**
+     * Closes all the tracked resources. The resources are released on a best-effort basis, as the connection which
+     * they belong to may already be broken.
+     */
+    void closeAll() {
+        for (TrackedResource resource : this.resources) {
+            closeQuietly(resource);
+        }
+        this.resources.clear();
+    }
+
+    private static void closeQuietly(TrackedResource resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            // The resources of a broken connection are released on a best-effort basis.
+        }
+    }
+
+    /**
+     * A native resource which is released when it is closed.
+     */
+    interface TrackedResource extends AutoCloseable {
+
+        /**
+         * Returns a description of the resource, which is used in the leak warnings.
+         *
+         * @return the description
+         */
+        String describe();
+    }
+
+    /**
+     * Holds the cleaner, which is only started when the leak detection is enabled.
+     */
+    private static final class LeakDetector {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+}
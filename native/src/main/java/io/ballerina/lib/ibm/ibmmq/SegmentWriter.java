@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.jfr.PutEvent;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.ReasonCodes;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
+import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_PAYLOAD;
+import static io.ballerina.lib.ibm.ibmmq.Constants.OPTIONS;
+
+/**
+ * Native implementation of the Ballerina IBM MQ segment writer. The data written to the writer is put to a queue as
+ * the segments of a single logical message, for queue managers, queues and channels whose maximum message length is
+ * smaller than the message. The data is buffered until a segment is filled, hence the memory used by the writer is
+ * bounded by the segment size regardless of the size of the message.
+ * <p>
+ * The group identifier and the offset of each segment are set by the writer instead of being assigned with the
+ * {@code MQPMO_LOGICAL_ORDER} option, so that the segments of concurrent writers of the same queue do not interfere.
+ *
+ * @since 1.4.3
+ */
+public final class SegmentWriter {
+    private static final String NATIVE_SEGMENT_WRITER = "native.segment.writer";
+    private static final String BSEGMENT_WRITER = "SegmentWriter";
+    private static final BString SEGMENT_SIZE = StringUtils.fromString("segmentSize");
+    private static final AtomicLong GROUP_SEQUENCE = new AtomicLong();
+
+    private final DestinationHandle queue;
+    private final DestinationMetrics metrics;
+    private final TraceContextPropagator traceContextPropagator;
+    private final BMap<BString, Object> message;
+    private final int putOptions;
+    private final byte[] groupId;
+    private final byte[] buffer;
+    // The number of bytes taken by the headers of the message, which are written ahead of the payload in the first
+    // segment.
+    private final int headersLength;
+    // A lock is used rather than a monitor, as a monitor held during a put would pin the carrier thread of the
+    // virtual thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private int filled = 0;
+    private int offset = 0;
+    private byte[] messageId;
+    private boolean closed = false;
+
+    private SegmentWriter(BObject queueObject, BMap<BString, Object> message, int segmentSize, int headersLength,
+                          int putOptions) {
+        this.queue = (DestinationHandle) queueObject.getNativeData(Constants.NATIVE_DESTINATION);
+        this.metrics = (DestinationMetrics) queueObject.getNativeData(Constants.NATIVE_DESTINATION_METRICS);
+        this.traceContextPropagator = (TraceContextPropagator) queueObject.getNativeData(
+                Constants.NATIVE_TRACE_PROPAGATOR);
+        this.message = message;
+        this.putOptions = putOptions;
+        this.groupId = newGroupId();
+        this.buffer = new byte[segmentSize];
+        this.headersLength = headersLength;
+    }
+
+    public static Object createSegmentWriter(Environment env, BObject queueObject, BMap<BString, Object> message,
+                                             BMap<BString, Object> options) {
+        long segmentSize = options.getIntValue(SEGMENT_SIZE);
+        if (segmentSize < 1 || segmentSize > Integer.MAX_VALUE) {
+            return createError(IBMMQ_ERROR, String.format("Invalid segment size: %d", segmentSize));
+        }
+        int headersLength = CommonUtils.getMqMessageFromBMessage(message, new byte[0], 0, 0, true)
+                .getMessageLength();
+        if (headersLength > segmentSize) {
+            return createError(IBMMQ_ERROR, String.format(
+                    "The headers of the message (%d bytes) do not fit in a segment of %d bytes", headersLength,
+                    segmentSize));
+        }
+        SegmentWriter writer = new SegmentWriter(queueObject, message, (int) segmentSize, headersLength,
+                options.getIntValue(OPTIONS).intValue());
+        byte[] payload = message.getArrayValue(MESSAGE_PAYLOAD).getBytes();
+        return env.yieldAndRun(() -> {
+            try {
+                // The payload of the message is the beginning of the data of the logical message.
+                writer.write(env, payload);
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting a segment to the queue: %s", e.getMessage()), e);
+            }
+            BObject bWriter = ValueCreator.createObjectValue(ModuleUtils.getModule(), BSEGMENT_WRITER);
+            bWriter.addNativeData(NATIVE_SEGMENT_WRITER, writer);
+            return bWriter;
+        });
+    }
+
+    public static Object write(Environment env, BObject writerObject, BArray data) {
+        SegmentWriter writer = (SegmentWriter) writerObject.getNativeData(NATIVE_SEGMENT_WRITER);
+        byte[] bytes = data.getBytes();
+        return env.yieldAndRun(() -> {
+            try {
+                writer.write(env, bytes);
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting a segment to the queue: %s", e.getMessage()), e);
+            } catch (IllegalStateException e) {
+                return createError(IBMMQ_ERROR, e.getMessage());
+            }
+        });
+    }
+
+    public static Object close(Environment env, BObject writerObject) {
+        SegmentWriter writer = (SegmentWriter) writerObject.getNativeData(NATIVE_SEGMENT_WRITER);
+        return env.yieldAndRun(() -> {
+            try {
+                writer.close(env);
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while putting the last segment to the queue: %s",
+                                e.getMessage()), e);
+            } catch (IllegalStateException e) {
+                return createError(IBMMQ_ERROR, e.getMessage());
+            }
+        });
+    }
+
+    private void write(Environment env, byte[] data) throws MQException {
+        this.lock.lock();
+        try {
+            ensureOpen();
+            int position = 0;
+            while (position < data.length) {
+                // A filled segment is only put once more data arrives, as the last segment must be flagged as such.
+                if (this.filled == capacity()) {
+                    putSegment(env, false);
+                }
+                int count = Math.min(capacity() - this.filled, data.length - position);
+                System.arraycopy(data, position, this.buffer, this.filled, count);
+                this.filled += count;
+                position += count;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void close(Environment env) throws MQException {
+        this.lock.lock();
+        try {
+            ensureOpen();
+            putSegment(env, true);
+            this.closed = true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void putSegment(Environment env, boolean last) throws MQException {
+        boolean first = this.offset == 0;
+        MQMessage segment = CommonUtils.getMqMessageFromBMessage(this.message, this.buffer, 0, this.filled, first);
+        segment.groupId = this.groupId;
+        segment.offset = this.offset;
+        // The offset of the next segment follows all the data of this one, including the headers of the first one.
+        int length = segment.getMessageLength();
+        segment.messageFlags |= last ? CMQC.MQMF_SEGMENT | CMQC.MQMF_LAST_SEGMENT : CMQC.MQMF_SEGMENT;
+        if (Objects.nonNull(this.messageId)) {
+            // All the segments of the logical message carry the message identifier assigned to the first one.
+            segment.messageId = this.messageId;
+        }
+        long startTime = System.nanoTime();
+        PutEvent event = new PutEvent();
+        event.begin();
+        try {
+            if (first) {
+                this.traceContextPropagator.inject(env, segment);
+            }
+            MQPutMessageOptions pmo = new MQPutMessageOptions();
+            pmo.options = this.putOptions;
+            this.queue.put(segment, pmo);
+            this.metrics.put().recordSuccess(System.nanoTime() - startTime, segment.getMessageLength());
+            event.record(this.metrics.getName(), segment.getMessageLength(), CMQC.MQRC_NONE);
+        } catch (MQException e) {
+            // The logical message can not be completed once a segment is lost, hence the writer is not usable anymore.
+            this.closed = true;
+            this.metrics.put().recordError(e);
+            event.record(this.metrics.getName(), 0, ReasonCodes.getReasonCode(e));
+            throw e;
+        }
+        this.messageId = segment.messageId;
+        this.offset += length;
+        this.filled = 0;
+    }
+
+    private int capacity() {
+        return this.offset == 0 ? this.buffer.length - this.headersLength : this.buffer.length;
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The segment writer has already been closed");
+        }
+    }
+
+    static byte[] newGroupId() {
+        UUID uuid = UUID.randomUUID();
+        return ByteBuffer.allocate(CMQC.MQ_GROUP_ID_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .putLong(GROUP_SEQUENCE.incrementAndGet())
+                .array();
+    }
+}
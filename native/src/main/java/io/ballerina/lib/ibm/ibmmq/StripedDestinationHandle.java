@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.constants.CMQC;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link DestinationHandle} of a queue which is opened once on each of several dedicated connections. Each put and
+ * get is routed to a stripe which is not in use, hence concurrent operations on the same queue are not serialized on
+ * a single connection. An operation waits for a stripe to be released when all the stripes are in use.
+ * <p>
+ * The units of work of the stripes are not the unit of work of the queue manager which opened the queue, hence the
+ * syncpoint put and get options are rejected. The logical order put and get options are rejected as well, as the
+ * position within a group or a logical message is kept per queue handle, and consecutive operations are not routed
+ * to the same stripe.
+ *
+ * @since 1.4.3
+ */
+final class StripedDestinationHandle implements DestinationHandle, ResourceTracker.TrackedResource {
+    private static final long POLL_INTERVAL = 100;
+
+    private final List<Stripe> stripes;
+    private final BlockingQueue<Stripe> idleStripes;
+    private final ResourceTracker tracker;
+    private volatile boolean closed;
+
+    StripedDestinationHandle(List<Stripe> stripes, ResourceTracker tracker) {
+        this.stripes = List.copyOf(stripes);
+        this.idleStripes = new ArrayBlockingQueue<>(stripes.size(), false, stripes);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public String getName() throws MQException {
+        return this.stripes.get(0).queue().getName();
+    }
+
+    @Override
+    public void put(MQMessage message, MQPutMessageOptions options) throws MQException {
+        if ((options.options & (CMQC.MQPMO_SYNCPOINT | CMQC.MQPMO_LOGICAL_ORDER)) != 0) {
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_OPTIONS_ERROR, this);
+        }
+        Stripe stripe = acquire();
+        try {
+            stripe.queue().put(message, options);
+        } finally {
+            release(stripe);
+        }
+    }
+
+    @Override
+    public void get(MQMessage message, MQGetMessageOptions options) throws MQException {
+        if ((options.options & (CMQC.MQGMO_SYNCPOINT | CMQC.MQGMO_SYNCPOINT_IF_PERSISTENT
+                | CMQC.MQGMO_LOGICAL_ORDER)) != 0) {
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_OPTIONS_ERROR, this);
+        }
+        Stripe stripe = acquire();
+        try {
+            stripe.queue().get(message, options);
+        } finally {
+            release(stripe);
+        }
+    }
+
+    @Override
+    public int getCurrentDepth() throws MQException {
+        Stripe stripe = acquire();
+        try {
+            return stripe.queue().getCurrentDepth();
+        } finally {
+            release(stripe);
+        }
+    }
+
+    /**
+     * Closes the queue on each stripe and disconnects the connections of the stripes. Each stripe is closed even if
+     * closing another fails, and the first failure is rethrown.
+     *
+     * @throws MQException if a stripe could not be closed
+     */
+    @Override
+    public synchronized void close() throws MQException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.tracker.untrack(this);
+        MQException failure = null;
+        for (Stripe stripe : this.stripes) {
+            try {
+                stripe.queue().close();
+            } catch (MQException e) {
+                failure = Objects.isNull(failure) ? e : failure;
+            }
+            try {
+                stripe.connection().disconnect();
+            } catch (MQException e) {
+                failure = Objects.isNull(failure) ? e : failure;
+            }
+        }
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public String describe() {
+        try {
+            return String.format("striped queue %s", getName().strip());
+        } catch (MQException e) {
+            return "striped queue";
+        }
+    }
+
+    private Stripe acquire() throws MQException {
+        try {
+            // The stripes are waited for in slices, so that a waiting operation fails once the queue is closed.
+            while (!this.closed) {
+                Stripe stripe = this.idleStripes.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (Objects.nonNull(stripe)) {
+                    return stripe;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_CALL_INTERRUPTED, this);
+        }
+        throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_HOBJ_ERROR, this);
+    }
+
+    private void release(Stripe stripe) {
+        this.idleStripes.offer(stripe);
+    }
+
+    /**
+     * A connection to the queue manager together with the queue opened on it.
+     *
+     * @param connection the dedicated connection of the stripe
+     * @param queue      the queue opened on the connection
+     */
+    record Stripe(QueueManagerConnection connection, DestinationHandle queue) {
+    }
+}
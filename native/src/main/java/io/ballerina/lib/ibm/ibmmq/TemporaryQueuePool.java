@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
+import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+import static io.ballerina.lib.ibm.ibmmq.Constants.NATIVE_QUEUE_MANAGER_CONNECTION;
+
+/**
+ * Native implementation of the Ballerina IBM MQ temporary queue pool. The pool keeps temporary dynamic queues created
+ * from a model queue, so that the cost of creating a dynamic queue is not paid for each conversation.
+ *
+ * @since 1.4.3
+ */
+public class TemporaryQueuePool {
+    private static final String NATIVE_POOL = "native.temporary.queue.pool";
+    private static final String BTEMPORARY_QUEUE_POOL = "TemporaryQueuePool";
+    private static final BString MIN_SIZE = StringUtils.fromString("minSize");
+    private static final BString MAX_SIZE = StringUtils.fromString("maxSize");
+    private static final BString DYNAMIC_QUEUE_NAME = StringUtils.fromString("dynamicQueueName");
+    private static final BString LEASE_TIMEOUT = StringUtils.fromString("leaseTimeout");
+    private static final int OPEN_OPTIONS = CMQC.MQOO_INPUT_EXCLUSIVE | CMQC.MQOO_FAIL_IF_QUIESCING;
+
+    private final BObject queueManagerObject;
+    private final QueueManagerConnection connection;
+    private final String modelQueueName;
+    private final String dynamicQueueName;
+    private final int maxSize;
+    private final long leaseTimeout;
+    private final BlockingQueue<BObject> idleQueues = new LinkedBlockingQueue<>();
+    private final Set<BObject> leasedQueues = ConcurrentHashMap.newKeySet();
+    private int size = 0;
+    private volatile boolean closed = false;
+
+    private TemporaryQueuePool(BObject queueManagerObject, String modelQueueName, String dynamicQueueName,
+                               int maxSize, long leaseTimeout) {
+        this.queueManagerObject = queueManagerObject;
+        this.connection = (QueueManagerConnection) queueManagerObject.getNativeData(NATIVE_QUEUE_MANAGER_CONNECTION);
+        this.modelQueueName = modelQueueName;
+        this.dynamicQueueName = dynamicQueueName;
+        this.maxSize = maxSize;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public static Object createTemporaryQueuePool(Environment env, BObject queueManagerObject,
+                                                  BString modelQueueName, BMap<BString, Object> options) {
+        int minSize = options.getIntValue(MIN_SIZE).intValue();
+        int maxSize = options.getIntValue(MAX_SIZE).intValue();
+        if (minSize < 0 || maxSize < 1 || maxSize < minSize) {
+            return createError(IBMMQ_ERROR,
+                    String.format("Invalid temporary queue pool bounds, minSize: %d, maxSize: %d", minSize, maxSize));
+        }
+        long leaseTimeout = ((BDecimal) options.get(LEASE_TIMEOUT)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                .longValue();
+        TemporaryQueuePool pool = new TemporaryQueuePool(queueManagerObject, modelQueueName.getValue(),
+                options.getStringValue(DYNAMIC_QUEUE_NAME).getValue(), maxSize, leaseTimeout);
+        return env.yieldAndRun(() -> {
+            try {
+                for (int i = 0; i < minSize; i++) {
+                    pool.idleQueues.add(pool.createQueue());
+                }
+            } catch (MQException e) {
+                pool.closeAll();
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while creating the temporary queues: %s", e.getMessage()), e);
+            }
+            BObject bPool = ValueCreator.createObjectValue(ModuleUtils.getModule(), BTEMPORARY_QUEUE_POOL);
+            bPool.addNativeData(NATIVE_POOL, pool);
+            return bPool;
+        });
+    }
+
+    public static Object lease(Environment env, BObject bPool) {
+        TemporaryQueuePool pool = (TemporaryQueuePool) bPool.getNativeData(NATIVE_POOL);
+        return env.yieldAndRun(() -> {
+            if (pool.closed) {
+                return createError(IBMMQ_ERROR, "The temporary queue pool has already been closed");
+            }
+            try {
+                BObject bQueue = pool.idleQueues.poll();
+                if (Objects.isNull(bQueue)) {
+                    bQueue = pool.createQueueIfBelowMaxSize();
+                }
+                if (Objects.isNull(bQueue)) {
+                    bQueue = pool.idleQueues.poll(pool.leaseTimeout, TimeUnit.MILLISECONDS);
+                }
+                if (Objects.isNull(bQueue)) {
+                    return createError(IBMMQ_ERROR, String.format(
+                            "No temporary queue became available within %d milliseconds", pool.leaseTimeout));
+                }
+                pool.leasedQueues.add(bQueue);
+                if (pool.closed) {
+                    // The pool was closed while the queue was being leased, hence the queue is closed with it.
+                    pool.closeAll();
+                    return createError(IBMMQ_ERROR, "The temporary queue pool has already been closed");
+                }
+                return bQueue;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while creating a temporary queue: %s", e.getMessage()), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createError(IBMMQ_ERROR, "Interrupted while leasing a temporary queue", e);
+            }
+        });
+    }
+
+    public static Object release(Environment env, BObject bPool, BObject bQueue) {
+        TemporaryQueuePool pool = (TemporaryQueuePool) bPool.getNativeData(NATIVE_POOL);
+        if (!pool.leasedQueues.remove(bQueue)) {
+            if (pool.closed) {
+                // The leased queues are closed with the pool, hence there is nothing left to release.
+                return null;
+            }
+            return createError(IBMMQ_ERROR, "The queue has not been leased from this temporary queue pool");
+        }
+        return env.yieldAndRun(() -> {
+            DestinationHandle queue = (DestinationHandle) bQueue.getNativeData(Constants.NATIVE_DESTINATION);
+            try {
+                // Replies which arrived after the conversation has completed must not be seen by the next lease.
+                purge(queue);
+                pool.idleQueues.add(bQueue);
+                if (pool.closed) {
+                    pool.closeAll();
+                }
+                return null;
+            } catch (MQException e) {
+                // A queue which could not be purged is discarded, so that it is re-created on demand.
+                pool.discard(queue);
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while releasing the temporary queue: %s", e.getMessage()), e);
+            }
+        });
+    }
+
+    public static Object close(Environment env, BObject bPool) {
+        TemporaryQueuePool pool = (TemporaryQueuePool) bPool.getNativeData(NATIVE_POOL);
+        return env.yieldAndRun(() -> {
+            pool.closed = true;
+            try {
+                pool.closeAll();
+                return null;
+            } catch (MQException e) {
+                return createError(IBMMQ_ERROR,
+                        String.format("Error occurred while closing the temporary queue pool: %s", e.getMessage()),
+                        e);
+            }
+        });
+    }
+
+    private BObject createQueue() throws MQException {
+        DestinationHandle queue = this.connection.accessQueue(this.modelQueueName, OPEN_OPTIONS,
+                this.dynamicQueueName);
+        synchronized (this) {
+            this.size++;
+        }
+        return QueueManager.createBQueue(this.queueManagerObject, queue);
+    }
+
+    private BObject createQueueIfBelowMaxSize() throws MQException {
+        synchronized (this) {
+            if (this.size >= this.maxSize) {
+                return null;
+            }
+            // The slot is reserved before the queue is created, so that concurrent leases do not exceed the limit.
+            this.size++;
+        }
+        try {
+            DestinationHandle queue = this.connection.accessQueue(this.modelQueueName, OPEN_OPTIONS,
+                    this.dynamicQueueName);
+            return QueueManager.createBQueue(this.queueManagerObject, queue);
+        } catch (MQException e) {
+            synchronized (this) {
+                this.size--;
+            }
+            throw e;
+        }
+    }
+
+    private void discard(DestinationHandle queue) {
+        synchronized (this) {
+            this.size--;
+        }
+        try {
+            queue.close();
+        } catch (MQException e) {
+            // The queue is already unusable, hence the failure is ignored.
+        }
+    }
+
+    private void closeAll() throws MQException {
+        MQException closeError = null;
+        BObject bQueue;
+        while ((bQueue = this.idleQueues.poll()) != null) {
+            closeError = close(bQueue, closeError);
+        }
+        // The leased queues are closed as well, so that a lease which is never released does not keep its dynamic
+        // queue alive after the pool is closed.
+        for (BObject leasedQueue: this.leasedQueues) {
+            if (this.leasedQueues.remove(leasedQueue)) {
+                closeError = close(leasedQueue, closeError);
+            }
+        }
+        if (Objects.nonNull(closeError)) {
+            throw closeError;
+        }
+    }
+
+    private static MQException close(BObject bQueue, MQException closeError) {
+        try {
+            ((DestinationHandle) bQueue.getNativeData(Constants.NATIVE_DESTINATION)).close();
+            return closeError;
+        } catch (MQException e) {
+            return e;
+        }
+    }
+
+    private static void purge(DestinationHandle queue) throws MQException {
+        MQGetMessageOptions gmo = new MQGetMessageOptions();
+        gmo.options = CMQC.MQGMO_NO_WAIT | CMQC.MQGMO_NO_SYNCPOINT;
+        while (true) {
+            try {
+                queue.get(new MQMessage(), gmo);
+            } catch (MQException e) {
+                if (e.reasonCode == CMQC.MQRC_NO_MSG_AVAILABLE) {
+                    return;
+                }
+                throw e;
+            }
+        }
+    }
+}
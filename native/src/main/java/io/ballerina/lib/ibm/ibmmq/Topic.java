@@ -22,16 +22,18 @@ import com.ibm.mq.MQException;
 import com.ibm.mq.MQGetMessageOptions;
 import com.ibm.mq.MQMessage;
 import com.ibm.mq.MQPutMessageOptions;
-import com.ibm.mq.MQTopic;
 import com.ibm.mq.constants.CMQC;
 import io.ballerina.lib.ibm.ibmmq.config.GetMessageOptions;
-import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+import io.ballerina.lib.ibm.ibmmq.jfr.GetEvent;
+import io.ballerina.lib.ibm.ibmmq.jfr.PutEvent;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.ReasonCodes;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import javax.jms.Connection;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageProducer;
@@ -40,26 +42,34 @@ import javax.jms.Session;
 import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
 import static io.ballerina.lib.ibm.ibmmq.CommonUtils.getJmsMessageFromBMessage;
 import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
-import static io.ballerina.lib.ibm.ibmmq.QueueManager.QUEUE_MNG_CONFIG;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MESSAGE_PAYLOAD;
 
 /**
  * Representation of {@link com.ibm.mq.MQTopic} with utility methods to invoke as inter-op functions.
  */
 public class Topic {
-    private static final String NATIVE_CONNECTION = "native.connection";
-    private static final String NATIVE_SESSION = "native.session";
-    private static final String NATIVE_PRODUCER = "native.producer";
-
     public static Object put(Environment environment, BObject topicObject, BMap message, long options) {
-        MQTopic topic = (MQTopic) topicObject.getNativeData(Constants.NATIVE_TOPIC);
+        DestinationHandle topic = (DestinationHandle) topicObject.getNativeData(Constants.NATIVE_DESTINATION);
+        DestinationMetrics metrics = (DestinationMetrics) topicObject.getNativeData(
+                Constants.NATIVE_DESTINATION_METRICS);
+        TraceContextPropagator traceContextPropagator = (TraceContextPropagator) topicObject.getNativeData(
+                Constants.NATIVE_TRACE_PROPAGATOR);
         MQMessage mqMessage = CommonUtils.getMqMessageFromBMessage(message);
         return environment.yieldAndRun(() -> {
+            long startTime = System.nanoTime();
+            PutEvent event = new PutEvent();
+            event.begin();
             try {
+                traceContextPropagator.inject(environment, mqMessage);
                 MQPutMessageOptions pmo = new MQPutMessageOptions();
                 pmo.options = (int) options;
                 topic.put(mqMessage, pmo);
+                metrics.put().recordSuccess(System.nanoTime() - startTime, mqMessage.getMessageLength());
+                event.record(metrics.getName(), mqMessage.getMessageLength(), CMQC.MQRC_NONE);
                 return null;
             } catch (Exception e) {
+                metrics.put().recordError(e);
+                event.record(metrics.getName(), 0, ReasonCodes.getReasonCode(e));
                 return createError(IBMMQ_ERROR,
                         String.format("Error occurred while putting a message to the topic: %s", e.getMessage()), e);
             }
@@ -67,18 +77,28 @@ public class Topic {
     }
 
     public static Object get(Environment environment, BObject topicObject, BMap<BString, Object> bGetMsgOptions) {
-        MQTopic topic = (MQTopic) topicObject.getNativeData(Constants.NATIVE_TOPIC);
+        DestinationHandle topic = (DestinationHandle) topicObject.getNativeData(Constants.NATIVE_DESTINATION);
+        DestinationMetrics metrics = (DestinationMetrics) topicObject.getNativeData(
+                Constants.NATIVE_DESTINATION_METRICS);
         GetMessageOptions getMsgOptions = new GetMessageOptions(bGetMsgOptions);
         MQMessage mqMessage = CommonUtils.getMqMessage(getMsgOptions.matchOptions());
         MQGetMessageOptions mqGetMsgOptions = CommonUtils.getMqGetMsgOptions(getMsgOptions);
         return environment.yieldAndRun(() -> {
+            long startTime = System.nanoTime();
+            GetEvent event = new GetEvent();
+            event.begin();
             try {
                 topic.get(mqMessage, mqGetMsgOptions);
+                metrics.get().recordSuccess(System.nanoTime() - startTime, mqMessage.getMessageLength());
+                event.record(metrics.getName(), mqMessage.getMessageLength(), CMQC.MQRC_NONE);
+                metrics.residence().record(mqMessage);
                 return CommonUtils.getBMessageFromMQMessage(environment.getRuntime(), mqMessage);
             } catch (MQException e) {
+                event.record(metrics.getName(), 0, e.reasonCode);
                 if (e.reasonCode == CMQC.MQRC_NO_MSG_AVAILABLE) {
                     return null;
                 } else {
+                    metrics.get().recordError(e);
                     return createError(IBMMQ_ERROR,
                             String.format("Error occurred while getting a message from the topic: %s", e.getMessage()),
                             e);
@@ -88,61 +108,44 @@ public class Topic {
     }
 
     public static Object close(Environment env, BObject topicObject) {
-        MQTopic topic = (MQTopic) topicObject.getNativeData(Constants.NATIVE_TOPIC);
+        TopicResources resources = (TopicResources) topicObject.getNativeData(Constants.NATIVE_TOPIC_RESOURCES);
         return env.yieldAndRun(() -> {
             try {
-                topic.close();
+                resources.close();
                 return null;
-            } catch (MQException e) {
+            } catch (Exception e) {
                 return createError(IBMMQ_ERROR,
                         String.format("Error occurred while closing the topic: %s", e.getMessage()), e);
             }
         });
     }
 
-    public static Object send(BObject topicObject, BMap<BString, Object> message) {
-
+    public static Object send(Environment environment, BObject topicObject, BMap<BString, Object> message) {
+        DestinationMetrics metrics = (DestinationMetrics) topicObject.getNativeData(
+                Constants.NATIVE_DESTINATION_METRICS);
+        TraceContextPropagator traceContextPropagator = (TraceContextPropagator) topicObject.getNativeData(
+                Constants.NATIVE_TRACE_PROPAGATOR);
+        long startTime = System.nanoTime();
+        PutEvent event = new PutEvent();
+        event.begin();
         try {
-            MQTopic mqTopic = (MQTopic) topicObject.getNativeData(Constants.NATIVE_TOPIC);
-            Session session = getSession(topicObject);
-            MessageProducer producer = getProducer(session, topicObject, mqTopic.getName());
+            TopicResources resources = (TopicResources) topicObject.getNativeData(Constants.NATIVE_TOPIC_RESOURCES);
+            Session session = resources.getSession();
+            MessageProducer producer = resources.getProducer();
             Message jmsMessage = getJmsMessageFromBMessage(session, message);
+            traceContextPropagator.inject(environment, jmsMessage);
             producer.send(jmsMessage);
+            // The headers of a Ballerina message are not sent with a JMS message, hence its message data is the
+            // payload.
+            int messageLength = ((BArray) message.get(MESSAGE_PAYLOAD)).size();
+            metrics.put().recordSuccess(System.nanoTime() - startTime, messageLength);
+            event.record(metrics.getName(), messageLength, CMQC.MQRC_NONE);
         } catch (JMSException | MQException e) {
+            metrics.put().recordError(e);
+            event.record(metrics.getName(), 0, ReasonCodes.getReasonCode(e));
             return createError(IBMMQ_ERROR,
                     String.format("Error occurred while creating the topic: %s", e.getMessage()), e);
         }
         return null;
     }
-
-    private static MessageProducer getProducer(Session session, BObject topicObject, String topicName)
-            throws JMSException {
-        if (topicObject.getNativeData(NATIVE_PRODUCER) != null) {
-            return (MessageProducer) topicObject.getNativeData(NATIVE_PRODUCER);
-        }
-        MessageProducer producer = session.createProducer(session.createTopic(topicName));
-        topicObject.addNativeData(NATIVE_PRODUCER, producer);
-        return producer;
-    }
-
-    private static Session getSession(BObject topicObject) throws JMSException {
-        if (topicObject.getNativeData(NATIVE_SESSION) != null) {
-            return (Session) topicObject.getNativeData(NATIVE_SESSION);
-        }
-        Connection connection = getConnection(topicObject);
-        Session session = connection.createSession();
-        topicObject.addNativeData(NATIVE_SESSION, session);
-        return session;
-    }
-
-    private static Connection getConnection(BObject topicObject) {
-        if (topicObject.getNativeData(NATIVE_CONNECTION) != null) {
-            return (Connection) topicObject.getNativeData(NATIVE_CONNECTION);
-        }
-        QueueManagerConfiguration queueMngConfig = (QueueManagerConfiguration) topicObject
-                .getNativeData(QUEUE_MNG_CONFIG);
-        Connection connection = CommonUtils.getJmsConnection(queueMngConfig);
-        topicObject.addNativeData(NATIVE_CONNECTION, connection);
-        return connection;
-    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import java.util.Objects;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+/**
+ * The native resources of an IBM MQ topic: the topic handle and the JMS connection, session and producer which are
+ * created on the first {@code send}. All of them are released when the topic is closed, or when the queue manager
+ * which created the topic is disconnected.
+ *
+ * @since 1.4.3
+ */
+final class TopicResources implements ResourceTracker.TrackedResource {
+    private final DestinationHandle topic;
+    private final QueueManagerConfiguration config;
+    private final ResourceTracker tracker;
+    private Connection connection;
+    private Session session;
+    private MessageProducer producer;
+    private boolean closed;
+
+    TopicResources(DestinationHandle topic, QueueManagerConfiguration config, ResourceTracker tracker) {
+        this.topic = topic;
+        this.config = config;
+        this.tracker = tracker;
+    }
+
+    synchronized Session getSession() throws JMSException {
+        ensureOpen();
+        if (Objects.isNull(this.session)) {
+            if (Objects.isNull(this.connection)) {
+                this.connection = CommonUtils.getJmsConnection(this.config);
+            }
+            this.session = this.connection.createSession();
+        }
+        return this.session;
+    }
+
+    synchronized MessageProducer getProducer() throws JMSException, MQException {
+        Session jmsSession = getSession();
+        if (Objects.isNull(this.producer)) {
+            this.producer = jmsSession.createProducer(jmsSession.createTopic(this.topic.getName()));
+        }
+        return this.producer;
+    }
+
+    /**
+     * Closes the JMS producer, session and connection, and the topic handle. Each of them is closed even if closing
+     * another fails, and the first failure is rethrown.
+     *
+     * @throws Exception if a resource could not be closed
+     */
+    @Override
+    public synchronized void close() throws Exception {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.tracker.untrack(this);
+        Exception failure = null;
+        failure = close(Objects.isNull(this.producer) ? null : this.producer::close, failure);
+        failure = close(Objects.isNull(this.session) ? null : this.session::close, failure);
+        failure = close(Objects.isNull(this.connection) ? null : this.connection::close, failure);
+        failure = close(this.topic::close, failure);
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public String describe() {
+        try {
+            return String.format("topic %s", this.topic.getName().strip());
+        } catch (MQException e) {
+            return "topic";
+        }
+    }
+
+    private void ensureOpen() throws JMSException {
+        if (this.closed) {
+            throw new JMSException("The topic is closed");
+        }
+    }
+
+    private static Exception close(AutoCloseable resource, Exception failure) {
+        if (Objects.isNull(resource)) {
+            return failure;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            if (Objects.isNull(failure)) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+}
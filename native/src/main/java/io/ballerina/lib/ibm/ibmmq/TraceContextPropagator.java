@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQMessage;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.KEY_OBSERVER_CONTEXT;
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_TRACE_PROPERTIES;
+
+/**
+ * Propagates the W3C trace context ({@code traceparent} and {@code tracestate}) of the Ballerina observability spans
+ * across IBM MQ hops as message properties. The trace context of the current strand is injected into the produced
+ * messages, and the trace context of a consumed message is used as the parent of the span of the {@code onMessage}
+ * strand. Only the producer samples, the consumer follows the trace context of the message as is, so that the
+ * sampled flag set by the producer decides whether the consumer span is recorded. When tracing is disabled, neither
+ * the injection nor the extraction allocates.
+ *
+ * @since 1.4.3
+ */
+public final class TraceContextPropagator {
+    public static final String TRACE_PARENT = "traceparent";
+    public static final String TRACE_STATE = "tracestate";
+    // A traceparent is formatted as version-traceid-parentid-flags, e.g. 00-<32 hex>-<16 hex>-01.
+    private static final int TRACE_PARENT_LENGTH = 55;
+
+    private final double samplingRate;
+
+    public TraceContextPropagator(double samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+
+    /**
+     * Injects the trace context of the current strand into a message put with the MQI.
+     *
+     * @param env     the environment of the current strand
+     * @param message the message to be put
+     * @throws MQException if a message property could not be set
+     */
+    public void inject(Environment env, MQMessage message) throws MQException {
+        Map<String, String> traceContext = getTraceContext(env);
+        if (Objects.isNull(traceContext)) {
+            return;
+        }
+        inject(traceContext, message);
+    }
+
+    static void inject(Map<String, String> traceContext, MQMessage message) throws MQException {
+        // Only the W3C trace context is copied, the other propagation keys of the tracer would become application
+        // visible properties and need not be valid property names.
+        message.setStringProperty(TRACE_PARENT, traceContext.get(TRACE_PARENT));
+        String traceState = traceContext.get(TRACE_STATE);
+        if (Objects.nonNull(traceState)) {
+            message.setStringProperty(TRACE_STATE, traceState);
+        }
+    }
+
+    /**
+     * Injects the trace context of the current strand into a JMS message.
+     *
+     * @param env     the environment of the current strand
+     * @param message the message to be sent
+     * @throws JMSException if a message property could not be set
+     */
+    public void inject(Environment env, Message message) throws JMSException {
+        Map<String, String> traceContext = getTraceContext(env);
+        if (Objects.isNull(traceContext)) {
+            return;
+        }
+        inject(traceContext, message);
+    }
+
+    static void inject(Map<String, String> traceContext, Message message) throws JMSException {
+        message.setStringProperty(TRACE_PARENT, traceContext.get(TRACE_PARENT));
+        String traceState = traceContext.get(TRACE_STATE);
+        if (Objects.nonNull(traceState)) {
+            message.setStringProperty(TRACE_STATE, traceState);
+        }
+    }
+
+    private Map<String, String> getTraceContext(Environment env) {
+        if (!ObserveUtils.isTracingEnabled() || !isSampled()) {
+            return null;
+        }
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        if (Objects.isNull(observerContext)) {
+            return null;
+        }
+        Map<String, String> contextProperties = ObserveUtils.getContextProperties(observerContext);
+        return contextProperties.containsKey(TRACE_PARENT) ? contextProperties : null;
+    }
+
+    /**
+     * Returns the strand metadata used to dispatch a consumed message. If the message carries a trace context, the
+     * returned metadata parents the span of the dispatched strand with it. The message is not sampled again, since
+     * the sampling decision of the producer is carried by the flags of the trace context.
+     *
+     * @param message         the consumed message
+     * @param defaultMetadata the metadata used when the message does not carry a trace context
+     * @return the strand metadata of the dispatch
+     * @throws JMSException if the message properties could not be read
+     */
+    public StrandMetadata getDispatchMetadata(Message message, StrandMetadata defaultMetadata) throws JMSException {
+        if (!ObserveUtils.isTracingEnabled()) {
+            return defaultMetadata;
+        }
+        Map<String, String> traceContext = extract(message);
+        if (Objects.isNull(traceContext)) {
+            return defaultMetadata;
+        }
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, traceContext);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(KEY_OBSERVER_CONTEXT, observerContext);
+        return new StrandMetadata(defaultMetadata.isConcurrentSafe(), properties);
+    }
+
+    static Map<String, String> extract(Message message) throws JMSException {
+        String traceParent = message.getStringProperty(TRACE_PARENT);
+        if (!isValidTraceParent(traceParent)) {
+            return null;
+        }
+        Map<String, String> traceContext = new HashMap<>();
+        traceContext.put(TRACE_PARENT, traceParent);
+        String traceState = message.getStringProperty(TRACE_STATE);
+        if (Objects.nonNull(traceState)) {
+            traceContext.put(TRACE_STATE, traceState);
+        }
+        return traceContext;
+    }
+
+    static boolean isValidTraceParent(String traceParent) {
+        // Later versions may append fields, hence only the fields of version 00 are checked.
+        return Objects.nonNull(traceParent) && traceParent.length() >= TRACE_PARENT_LENGTH &&
+                traceParent.charAt(2) == '-' && traceParent.charAt(35) == '-' && traceParent.charAt(52) == '-';
+    }
+
+    private boolean isSampled() {
+        return this.samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < this.samplingRate;
+    }
+}
@@ -21,14 +21,17 @@ package io.ballerina.lib.ibm.ibmmq.config;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
 import static io.ballerina.lib.ibm.ibmmq.CommonUtils.getOptionalStringProperty;
 import static io.ballerina.lib.ibm.ibmmq.Constants.CHANNEL;
 import static io.ballerina.lib.ibm.ibmmq.Constants.HOST;
+import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
 import static io.ballerina.lib.ibm.ibmmq.Constants.PASSWORD;
 import static io.ballerina.lib.ibm.ibmmq.Constants.PORT;
 import static io.ballerina.lib.ibm.ibmmq.Constants.QUEUE_MANAGER_NAME;
 import static io.ballerina.lib.ibm.ibmmq.Constants.SECURE_SOCKET;
 import static io.ballerina.lib.ibm.ibmmq.Constants.SSL_CIPHER_SUITE;
+import static io.ballerina.lib.ibm.ibmmq.Constants.TRACE_SAMPLING_RATE;
 import static io.ballerina.lib.ibm.ibmmq.Constants.USER_ID;
 
 /**
@@ -43,11 +46,21 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.USER_ID;
  * @param sslCipherSuite    (Optional) Defines the combination of key exchange, encryption,
  *                          and integrity algorithms used for establishing a secure SSL/TLS connection.
  * @param secureSocket      (Optional) Configurations related to SSL/TLS encryption.
+ * @param traceSamplingRate The fraction (between 0.0 and 1.0) of the produced messages to which the trace context
+ *                          is propagated when tracing is enabled.
  *
  * @since 1.3.0
  */
 public record QueueManagerConfiguration(String queueManagerName, String host, int port, String channel, String userID,
-                                        String password, String sslCipherSuite, BMap<BString, Object> secureSocket) {
+                                        String password, String sslCipherSuite, BMap<BString, Object> secureSocket,
+                                        double traceSamplingRate) {
+    public QueueManagerConfiguration {
+        if (!(traceSamplingRate >= 0.0 && traceSamplingRate <= 1.0)) {
+            throw createError(IBMMQ_ERROR, String.format(
+                    "Invalid trace sampling rate, it must be between 0.0 and 1.0, found: %s", traceSamplingRate));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public QueueManagerConfiguration(BMap<BString, Object> configurations) {
         this(
@@ -58,7 +71,8 @@ public record QueueManagerConfiguration(String queueManagerName, String host, in
                 getOptionalStringProperty(configurations, USER_ID).orElse(null),
                 getOptionalStringProperty(configurations, PASSWORD).orElse(null),
                 getOptionalStringProperty(configurations, SSL_CIPHER_SUITE).orElse(null),
-                (BMap<BString, Object>) configurations.getMapValue(SECURE_SOCKET)
+                (BMap<BString, Object>) configurations.getMapValue(SECURE_SOCKET),
+                configurations.getFloatValue(TRACE_SAMPLING_RATE)
         );
     }
 }
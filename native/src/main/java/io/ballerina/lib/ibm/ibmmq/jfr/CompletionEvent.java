@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event emitted when a listener session is committed or rolled back, or a received message is
+ * acknowledged.
+ *
+ * @since 1.4.3
+ */
+@Name("io.ballerina.lib.ibm.ibmmq.Completion")
+@Label("IBM MQ Completion")
+@Description("A listener session is committed or rolled back, or a message is acknowledged")
+public final class CompletionEvent extends MqEvent {
+    public static final String COMMIT = "commit";
+    public static final String ROLLBACK = "rollback";
+    public static final String ACKNOWLEDGE = "acknowledge";
+
+    @Label("Operation")
+    String operation;
+
+    public CompletionEvent(String operation) {
+        this.operation = operation;
+    }
+}
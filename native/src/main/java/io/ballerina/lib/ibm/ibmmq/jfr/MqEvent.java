@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The base of the Java Flight Recorder events emitted by the IBM MQ connector. An event is allocated and begun before
+ * an operation and recorded after it. When the event is disabled, the allocation is eliminated by the JIT compiler and
+ * recording the event is a no-op.
+ *
+ * @since 1.4.3
+ */
+@Category({"Ballerina", "IBM MQ"})
+public abstract class MqEvent extends Event {
+    @Label("Destination")
+    String destination;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Reason Code")
+    int reasonCode;
+
+    /**
+     * Ends the event and commits it, if the event is enabled and its duration is within the configured threshold.
+     *
+     * @param destination the name of the queue or the topic
+     * @param bytes       the size of the message, or zero if it is not known
+     * @param reasonCode  the MQ reason code of the operation, which is zero if the operation succeeded
+     */
+    public void record(String destination, long bytes, int reasonCode) {
+        end();
+        if (shouldCommit()) {
+            this.destination = destination;
+            this.bytes = bytes;
+            this.reasonCode = reasonCode;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+
+/**
+ * Represents the queue-depth based autoscaling configurations of an IBM MQ queue service.
+ *
+ * @param minConsumers  The minimum number of active consumers
+ * @param maxConsumers  The maximum number of active consumers
+ * @param targetLag     The time in milliseconds within which the current queue depth should be drained
+ * @param scaleInterval The interval in milliseconds between two queue depth inquiries
+ *
+ * @since 1.4.3
+ */
+public record AutoscalingConfig(int minConsumers, int maxConsumers, long targetLag, long scaleInterval) {
+    private static final BString MIN_CONSUMERS = StringUtils.fromString("minConsumers");
+    private static final BString MAX_CONSUMERS = StringUtils.fromString("maxConsumers");
+    private static final BString TARGET_LAG = StringUtils.fromString("targetLag");
+    private static final BString SCALE_INTERVAL = StringUtils.fromString("scaleInterval");
+
+    AutoscalingConfig(BMap<BString, Object> configurations) {
+        this(
+                configurations.getIntValue(MIN_CONSUMERS).intValue(),
+                configurations.getIntValue(MAX_CONSUMERS).intValue(),
+                ((BDecimal) configurations.get(TARGET_LAG)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                        .longValue(),
+                ((BDecimal) configurations.get(SCALE_INTERVAL)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                        .longValue()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    static AutoscalingConfig fromServiceConfig(BMap<BString, Object> svcConfig, BString key) {
+        if (!svcConfig.containsKey(key)) {
+            return null;
+        }
+        return new AutoscalingConfig((BMap<BString, Object>) svcConfig.getMapValue(key));
+    }
+
+    /**
+     * Calculates the number of consumers required to drain the queue within the target lag.
+     *
+     * @param current   the number of currently active consumers
+     * @param depth     the current depth of the queue
+     * @param drainRate the number of messages processed per second by a single consumer during the last interval
+     * @return the number of consumers, within the configured bounds
+     */
+    int getDesiredConsumers(int current, int depth, double drainRate) {
+        int desired;
+        if (depth == 0) {
+            // Shrink gradually so that a short pause in the traffic does not release all the consumers.
+            desired = current - 1;
+        } else if (drainRate <= 0) {
+            desired = current + 1;
+        } else {
+            double perConsumerCapacity = drainRate * this.targetLag / 1000d;
+            desired = Math.max((int) Math.ceil(depth / perConsumerCapacity), current - 1);
+        }
+        return Math.min(Math.max(desired, this.minConsumers), this.maxConsumers);
+    }
+}
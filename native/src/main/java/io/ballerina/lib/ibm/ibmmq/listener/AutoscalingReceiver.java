@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.DestinationHandle;
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+import io.ballerina.lib.ibm.ibmmq.MQThreadFactory;
+import io.ballerina.lib.ibm.ibmmq.QueueManager;
+import io.ballerina.lib.ibm.ibmmq.QueueManagerConnection;
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.jms.JMSException;
+
+/**
+ * An {@code AutoscalingReceiver} manages a pool of message receivers for a queue service. The current depth of the
+ * queue is inquired periodically and the number of receivers is grown or shrunk, within the configured bounds, so that
+ * the messages in the queue are drained within the configured target lag at the observed drain rate.
+ * <p>
+ * A scaling cycle and stopping the scaling are mutually exclusive, hence no receiver is added once the receiver is
+ * stopped, and the inquiry connection is not closed while a cycle uses it.
+ *
+ * @since 1.4.3
+ */
+public class AutoscalingReceiver implements Receiver {
+    private static final long SCALE_DOWN_DRAIN_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+    private final ReceiverFactory receiverFactory;
+    private final AutoscalingConfig autoscalingConfig;
+    private final QueueManagerConfiguration qmConfig;
+    private final String queueName;
+    private final ErrorReporter errorReporter;
+    private final List<MessageReceiver> receivers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scaler =
+            Executors.newSingleThreadScheduledExecutor(new MQThreadFactory("ibmmq-consumer-autoscaler"));
+
+    // A lock is used rather than a monitor, as a cycle blocks on the queue manager while creating the receivers and
+    // inquiring the depth.
+    private final ReentrantLock scaleLock = new ReentrantLock();
+
+    private QueueManagerConnection connection;
+    private DestinationHandle queue;
+    private long lastProcessedCount = 0;
+    private boolean closed = false;
+
+    AutoscalingReceiver(ReceiverFactory receiverFactory, AutoscalingConfig autoscalingConfig,
+                        QueueManagerConfiguration qmConfig, String queueName, ErrorReporter errorReporter)
+            throws JMSException {
+        this.receiverFactory = receiverFactory;
+        this.autoscalingConfig = autoscalingConfig;
+        this.qmConfig = qmConfig;
+        this.queueName = queueName;
+        this.errorReporter = errorReporter;
+        for (int i = 0; i < autoscalingConfig.minConsumers(); i++) {
+            this.receivers.add(receiverFactory.createReceiver());
+        }
+    }
+
+    @Override
+    public void consume() {
+        for (MessageReceiver receiver: this.receivers) {
+            receiver.consume();
+        }
+        this.scaler.scheduleWithFixedDelay(this::scale, this.autoscalingConfig.scaleInterval(),
+                this.autoscalingConfig.scaleInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    private void scale() {
+        this.scaleLock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            int depth = getCurrentDepth();
+            long processedCount = 0;
+            for (MessageReceiver receiver: this.receivers) {
+                processedCount += receiver.getProcessedCount();
+            }
+            int current = this.receivers.size();
+            // The count drops when a receiver is removed, in which case the rate is not known for this interval.
+            long processed = Math.max(processedCount - this.lastProcessedCount, 0);
+            this.lastProcessedCount = processedCount;
+            double drainRate = current == 0 ? 0 :
+                    processed * 1000d / this.autoscalingConfig.scaleInterval() / current;
+            int desired = this.autoscalingConfig.getDesiredConsumers(current, depth, drainRate);
+            for (int i = current; i < desired; i++) {
+                MessageReceiver receiver = this.receiverFactory.createReceiver();
+                this.receivers.add(receiver);
+                receiver.consume();
+            }
+            for (int i = current; i > desired; i--) {
+                MessageReceiver receiver = this.receivers.remove(this.receivers.size() - 1);
+                this.lastProcessedCount -= receiver.getProcessedCount();
+                receiver.stopReceiving();
+                Thread.startVirtualThread(() -> {
+                    receiver.awaitDrain(System.nanoTime() + SCALE_DOWN_DRAIN_TIMEOUT);
+                    try {
+                        receiver.close();
+                    } catch (JMSException e) {
+                        this.errorReporter.report("Failed to close a scaled down IBM MQ consumer", e);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            this.errorReporter.report(String.format("Failed to autoscale the consumers of %s", this.queueName), e);
+            closeQueueManager();
+        } finally {
+            this.scaleLock.unlock();
+        }
+    }
+
+    private int getCurrentDepth() throws Exception {
+        if (Objects.isNull(this.queue)) {
+            // The connection is created through the messaging provider, so that the depth is inquired from the
+            // in-memory stand-in as well.
+            this.connection = QueueManager.connect(this.qmConfig);
+            this.queue = this.connection.accessQueue(this.queueName,
+                    CMQC.MQOO_INQUIRE | CMQC.MQOO_FAIL_IF_QUIESCING, null);
+        }
+        return this.queue.getCurrentDepth();
+    }
+
+    private void closeQueueManager() {
+        try {
+            if (Objects.nonNull(this.queue)) {
+                this.queue.close();
+            }
+            if (Objects.nonNull(this.connection)) {
+                this.connection.disconnect();
+            }
+        } catch (MQException e) {
+            // The inquiry handles are re-opened on the next scaling cycle.
+        } finally {
+            this.queue = null;
+            this.connection = null;
+        }
+    }
+
+    private void stopScaling() {
+        this.scaler.shutdown();
+        // A running cycle is waited for, hence the receivers are not changed once the scaling is stopped.
+        this.scaleLock.lock();
+        try {
+            this.closed = true;
+            closeQueueManager();
+        } finally {
+            this.scaleLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        stopScaling();
+        for (MessageReceiver receiver: this.receivers) {
+            receiver.stop();
+        }
+    }
+
+    @Override
+    public void stopReceiving() {
+        stopScaling();
+        for (MessageReceiver receiver: this.receivers) {
+            receiver.stopReceiving();
+        }
+    }
+
+    @Override
+    public boolean awaitDrain(long deadline) {
+        boolean drained = true;
+        for (MessageReceiver receiver: this.receivers) {
+            drained &= receiver.awaitDrain(deadline);
+        }
+        return drained;
+    }
+
+    @Override
+    public void close() throws JMSException {
+        for (MessageReceiver receiver: this.receivers) {
+            receiver.close();
+        }
+    }
+
+    /**
+     * Creates a message receiver with its own session and consumer.
+     */
+    @FunctionalInterface
+    interface ReceiverFactory {
+        MessageReceiver createReceiver() throws JMSException;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQQueue;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+import io.ballerina.lib.ibm.ibmmq.QueueManager;
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the backout requeue queue (BOQNAME) of the queues consumed through a listener connection. A queue is only
+ * inquired the first time one of its messages exhausts its delivery attempts, and the result is reused by all the
+ * receivers of the connection. A queue which can not be inquired, e.g. as the application user is not authorised to
+ * inquire it, is treated as a queue without a backout requeue queue.
+ *
+ * @since 1.4.3
+ */
+final class BackoutQueueResolver {
+    private final QueueManagerConfiguration config;
+    private final ErrorReporter errorReporter;
+    private final Map<String, Optional<String>> backoutQueues = new ConcurrentHashMap<>();
+
+    BackoutQueueResolver(QueueManagerConfiguration config, ErrorReporter errorReporter) {
+        this.config = config;
+        this.errorReporter = errorReporter;
+    }
+
+    /**
+     * Retrieves the backout requeue queue name defined for the given queue.
+     *
+     * @param queueName the name of the queue
+     * @return the backout requeue queue name, or an empty value if the queue does not define one or could not be
+     * inquired
+     */
+    Optional<String> resolve(String queueName) {
+        return this.backoutQueues.computeIfAbsent(queueName, this::inquire);
+    }
+
+    private Optional<String> inquire(String queueName) {
+        MQQueueManager queueManager = null;
+        try {
+            queueManager = new MQQueueManager(this.config.queueManagerName(),
+                    QueueManager.getConnectionProperties(this.config));
+            MQQueue queue = queueManager.accessQueue(queueName, CMQC.MQOO_INQUIRE | CMQC.MQOO_FAIL_IF_QUIESCING);
+            try {
+                String backoutQueueName = queue.getAttributeString(
+                        CMQC.MQCA_BACKOUT_REQ_Q_NAME, CMQC.MQ_Q_NAME_LENGTH).strip();
+                return backoutQueueName.isEmpty() ? Optional.empty() : Optional.of(backoutQueueName);
+            } finally {
+                queue.close();
+            }
+        } catch (MQException e) {
+            this.errorReporter.report(String.format(
+                    "Could not inquire the backout queue of %s, hence it is treated as a queue without one",
+                    queueName), e);
+            return Optional.empty();
+        } finally {
+            if (Objects.nonNull(queueManager)) {
+                try {
+                    queueManager.disconnect();
+                } catch (MQException e) {
+                    // Ignored since the backout queue name has already been resolved.
+                }
+            }
+        }
+    }
+}
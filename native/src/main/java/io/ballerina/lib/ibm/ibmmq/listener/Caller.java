@@ -18,11 +18,15 @@
 
 package io.ballerina.lib.ibm.ibmmq.listener;
 
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.jfr.CompletionEvent;
+import io.ballerina.lib.ibm.ibmmq.metrics.ReasonCodes;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -39,15 +43,22 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
 public class Caller {
     static final String NATIVE_MESSAGE = "native.message";
     static final String NATIVE_SESSION = "native.session";
+    static final String NATIVE_DESTINATION = "native.destination";
+    static final String NATIVE_COMPLETION = "native.completion";
 
     private Caller() {
     }
 
     public static Object commit(BObject caller) {
         Session nativeSession = (Session) caller.getNativeData(NATIVE_SESSION);
+        CompletionEvent event = new CompletionEvent(CompletionEvent.COMMIT);
+        event.begin();
         try {
             nativeSession.commit();
+            markCompleted(caller);
+            event.record((String) caller.getNativeData(NATIVE_DESTINATION), 0, CMQC.MQRC_NONE);
         } catch (JMSException exception) {
+            event.record((String) caller.getNativeData(NATIVE_DESTINATION), 0, ReasonCodes.getReasonCode(exception));
             return createError(IBMMQ_ERROR,
                     String.format("Error while committing the transaction: %s", exception.getMessage()), exception);
         }
@@ -56,9 +67,14 @@ public class Caller {
 
     public static Object rollback(BObject caller) {
         Session nativeSession = (Session) caller.getNativeData(NATIVE_SESSION);
+        CompletionEvent event = new CompletionEvent(CompletionEvent.ROLLBACK);
+        event.begin();
         try {
             nativeSession.rollback();
+            markCompleted(caller);
+            event.record((String) caller.getNativeData(NATIVE_DESTINATION), 0, CMQC.MQRC_NONE);
         } catch (JMSException exception) {
+            event.record((String) caller.getNativeData(NATIVE_DESTINATION), 0, ReasonCodes.getReasonCode(exception));
             return createError(IBMMQ_ERROR,
                     String.format("Error while rolling back the transaction: %s", exception.getMessage()),
                     exception);
@@ -66,17 +82,47 @@ public class Caller {
         return null;
     }
 
-    public static Object acknowledge(BMap<BString, Object> message) {
+    public static Object acknowledge(BObject caller, BMap<BString, Object> message) {
+        CompletionEvent event = new CompletionEvent(CompletionEvent.ACKNOWLEDGE);
+        event.begin();
+        Message nativeMessage = (Message) message.getNativeData(NATIVE_MESSAGE);
         try {
-            Object nativeMessage = message.getNativeData(NATIVE_MESSAGE);
             if (Objects.nonNull(nativeMessage)) {
-                ((Message) nativeMessage).acknowledge();
+                nativeMessage.acknowledge();
+                markCompleted(caller);
+                event.record(getDestinationName(event, nativeMessage), 0, CMQC.MQRC_NONE);
             }
         } catch (JMSException exception) {
+            event.record(getDestinationName(event, nativeMessage), 0, ReasonCodes.getReasonCode(exception));
             return createError(IBMMQ_ERROR,
                     String.format("Error occurred while sending acknowledgement for the message: %s",
                             exception.getMessage()), exception);
         }
         return null;
     }
+
+    /**
+     * Marks the message which is being processed as committed, rolled back or acknowledged by the service, so that
+     * the redelivery of the message is left to the service.
+     *
+     * @param caller the Ballerina caller object
+     */
+    private static void markCompleted(BObject caller) {
+        Object completion = caller.getNativeData(NATIVE_COMPLETION);
+        if (completion instanceof AtomicBoolean completed) {
+            completed.set(true);
+        }
+    }
+
+    private static String getDestinationName(CompletionEvent event, Message message) {
+        // The destination is only resolved when the event is recorded.
+        if (!event.isEnabled()) {
+            return null;
+        }
+        try {
+            return Objects.isNull(message.getJMSDestination()) ? null : message.getJMSDestination().toString();
+        } catch (JMSException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.jms.Connection;
+import javax.jms.ExceptionListener;
+import javax.jms.JMSException;
+
+/**
+ * A {@code ConnectionRecoveryHandler} re-establishes the connection of the IBM MQ listener once it is broken. The
+ * reconnection is attempted with a randomized exponential back-off until it succeeds, the attempts are exhausted or
+ * the listener is stopped. Each failure is tagged with the connection it came from, so that the failures of the
+ * sessions of a connection which has already been replaced do not tear down its replacement.
+ *
+ * @since 1.4.3
+ */
+public class ConnectionRecoveryHandler {
+    private static final PrintStream ERR_OUT = System.err;
+
+    private final BObject bListener;
+    private final ReconnectConfig reconnectConfig;
+    private final ErrorReporter errorReporter;
+    private final AtomicBoolean recovering = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    ConnectionRecoveryHandler(BObject bListener, ReconnectConfig reconnectConfig, ErrorReporter errorReporter) {
+        this.bListener = bListener;
+        this.reconnectConfig = reconnectConfig;
+        this.errorReporter = errorReporter;
+    }
+
+    /**
+     * Returns the listener which reports the failures of the given connection, or of its sessions.
+     *
+     * @param connection the connection of the listener
+     * @return the exception listener of the connection
+     */
+    ExceptionListener forConnection(Connection connection) {
+        return exception -> onFailure(connection, exception);
+    }
+
+    private void onFailure(Connection connection, JMSException exception) {
+        // A failure of a connection which has already been replaced, e.g. a poller of one of its sessions failing
+        // after the reconnection, is not a failure of the current connection.
+        if (this.closed || connection != this.bListener.getNativeData(Listener.NATIVE_CONNECTION)) {
+            return;
+        }
+        this.errorReporter.report("IBM MQ listener connection failed", exception);
+        if (this.recovering.compareAndSet(false, true)) {
+            Thread.startVirtualThread(this::recover);
+        }
+    }
+
+    private void recover() {
+        try {
+            for (int attempt = 1; this.reconnectConfig.canRetry(attempt); attempt++) {
+                try {
+                    Thread.sleep(this.reconnectConfig.getDelay(attempt));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                synchronized (this) {
+                    if (this.closed) {
+                        return;
+                    }
+                    try {
+                        Listener.reconnect(this.bListener);
+                        ERR_OUT.printf("IBM MQ listener reconnected after %d attempt(s)%n", attempt);
+                        return;
+                    } catch (BError | JMSException e) {
+                        this.errorReporter.report("Failed to reconnect the IBM MQ listener", e);
+                    }
+                }
+            }
+            ERR_OUT.println("IBM MQ listener reconnection attempts exhausted, message consumption is stopped");
+        } finally {
+            this.recovering.set(false);
+        }
+    }
+
+    /**
+     * Stops the connection recovery. An in-progress reconnection attempt is allowed to complete, so that the
+     * listener can release the resources created by it.
+     */
+    synchronized void close() {
+        this.closed = true;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+/**
+ * A {@code DispatchPlan} contains the immutable, per-service information required to dispatch a message into the
+ * IBM MQ service. It is computed once when the service is attached, so that the per-message dispatch does not
+ * need to inspect the service type.
+ *
+ * @since 1.4.3
+ */
+public final class DispatchPlan {
+    private final ParameterKind[] onMessageParameters;
+    private final StrandMetadata onMessageMetadata;
+    private final StrandMetadata onErrorMetadata;
+
+    DispatchPlan(Service nativeService) {
+        this.onMessageParameters = getParameterKinds(nativeService.getOnMessageMethod());
+        this.onMessageMetadata = new StrandMetadata(nativeService.isOnMessageMethodIsolated(), null);
+        this.onErrorMetadata = new StrandMetadata(nativeService.isOnErrorMethodIsolated(), null);
+    }
+
+    private static ParameterKind[] getParameterKinds(RemoteMethodType onMessageMethod) {
+        Parameter[] parameters = onMessageMethod.getParameters();
+        ParameterKind[] parameterKinds = new ParameterKind[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Type referredType = TypeUtils.getReferredType(parameters[i].type);
+            parameterKinds[i] = referredType.getTag() == TypeTags.OBJECT_TYPE_TAG ?
+                    ParameterKind.CALLER : ParameterKind.MESSAGE;
+        }
+        return parameterKinds;
+    }
+
+    /**
+     * Binds the arguments of the {@code onMessage} method for the given message.
+     *
+     * @param message the received JMS message
+     * @param caller  the caller bound to the session which received the message
+     * @return the arguments of the {@code onMessage} method
+     * @throws JMSException if the message could not be converted to a Ballerina message
+     */
+    Object[] bindOnMessageArgs(Message message, BObject caller) throws JMSException {
+        Object[] args = new Object[this.onMessageParameters.length];
+        for (int i = 0; i < this.onMessageParameters.length; i++) {
+            args[i] = switch (this.onMessageParameters[i]) {
+                case CALLER -> caller;
+                case MESSAGE -> MessageMapper.toBallerinaMessage(message);
+            };
+        }
+        return args;
+    }
+
+    StrandMetadata getOnMessageMetadata() {
+        return this.onMessageMetadata;
+    }
+
+    StrandMetadata getOnErrorMetadata() {
+        return this.onErrorMetadata;
+    }
+
+    private enum ParameterKind {
+        CALLER,
+        MESSAGE
+    }
+}
@@ -20,8 +20,16 @@ package io.ballerina.lib.ibm.ibmmq.listener;
 
 import io.ballerina.lib.ibm.ibmmq.CommonUtils;
 import io.ballerina.lib.ibm.ibmmq.Constants;
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+import io.ballerina.lib.ibm.ibmmq.TraceContextPropagator;
 import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+import io.ballerina.lib.ibm.ibmmq.metrics.ClientMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -31,8 +39,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.Connection;
+import javax.jms.ExceptionListener;
 import javax.jms.JMSException;
 import javax.jms.MessageConsumer;
 import javax.jms.Queue;
@@ -41,6 +52,7 @@ import javax.jms.Topic;
 
 import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
 import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
 
 /**
  * Native class for the Ballerina IBM MQ Listener.
@@ -53,9 +65,21 @@ public final class Listener {
     static final String NATIVE_SERVICE = "native.service";
     static final String NATIVE_RECEIVER = "native.receiver";
     static final String LISTENER_STARTED = "listener.started";
+    static final String GRACEFUL_STOP_TIMEOUT = "graceful.stop.timeout";
+    static final String NATIVE_QM_CONFIG = "native.qm.config";
+    static final String NATIVE_ERROR_REPORTER = "native.error.reporter";
+    static final String NATIVE_RUNTIME = "native.runtime";
+    static final String NATIVE_CLIENT_ID = "native.client.id";
+    static final String NATIVE_RECOVERY_HANDLER = "native.recovery.handler";
+    static final String NATIVE_METRICS = "native.metrics";
+    static final String NATIVE_TRACE_PROPAGATOR = "native.trace.propagator";
+    static final String NATIVE_BACKOUT_QUEUE_RESOLVER = "native.backout.queue.resolver";
+    static final String DETACHED = "detached";
     static final String DURABLE = "DURABLE";
     static final String SHARED = "SHARED";
     static final String SHARED_DURABLE = "SHARED_DURABLE";
+    private static final BString GRACEFUL_STOP_TIMEOUT_CONFIG = StringUtils.fromString("gracefulStopTimeout");
+    private static final BString RECONNECT_CONFIG = StringUtils.fromString("reconnect");
 
     private Listener() {
     }
@@ -67,8 +91,27 @@ public final class Listener {
             if (Objects.isNull(jmsConnection.getClientID())) {
                 jmsConnection.setClientID(UUID.randomUUID().toString());
             }
+            ErrorReporter errorReporter = new ErrorReporter();
+            ReconnectConfig reconnectConfig = ReconnectConfig.fromListenerConfig(configurations, RECONNECT_CONFIG);
+            if (Objects.nonNull(reconnectConfig)) {
+                ConnectionRecoveryHandler recoveryHandler =
+                        new ConnectionRecoveryHandler(bListener, reconnectConfig, errorReporter);
+                jmsConnection.setExceptionListener(recoveryHandler.forConnection(jmsConnection));
+                bListener.addNativeData(NATIVE_RECOVERY_HANDLER, recoveryHandler);
+            }
             bListener.addNativeData(NATIVE_CONNECTION, jmsConnection);
-            bListener.addNativeData(NATIVE_SERVICE_LIST, new ArrayList<BObject>());
+            bListener.addNativeData(NATIVE_CLIENT_ID, jmsConnection.getClientID());
+            bListener.addNativeData(NATIVE_QM_CONFIG, config);
+            bListener.addNativeData(NATIVE_SERVICE_LIST, new CopyOnWriteArrayList<BObject>());
+            bListener.addNativeData(NATIVE_ERROR_REPORTER, errorReporter);
+            bListener.addNativeData(NATIVE_BACKOUT_QUEUE_RESOLVER, new BackoutQueueResolver(config, errorReporter));
+            bListener.addNativeData(NATIVE_METRICS, new ClientMetrics());
+            bListener.addNativeData(NATIVE_TRACE_PROPAGATOR, new TraceContextPropagator(config.traceSamplingRate()));
+            long gracefulStopTimeout = ((BDecimal) configurations.get(GRACEFUL_STOP_TIMEOUT_CONFIG)).decimalValue()
+                    .multiply(MILLISECOND_MULTIPLIER).longValue();
+            bListener.addNativeData(GRACEFUL_STOP_TIMEOUT, gracefulStopTimeout);
+        } catch (BError e) {
+            return e;
         } catch (Exception e) {
             return createError(IBMMQ_ERROR, "Failed to initialize listener", e);
         }
@@ -81,14 +124,8 @@ public final class Listener {
         try {
             Service.validateService(bService);
             Service nativeService = new Service(bService);
-            ServiceConfig svcConfig = nativeService.getServiceConfig();
-            int sessionAckMode = getSessionAckMode(svcConfig.ackMode());
-            boolean transacted = Session.SESSION_TRANSACTED == sessionAckMode;
-            Session session = connection.createSession(transacted, sessionAckMode);
-            MessageConsumer consumer = getConsumer(session, svcConfig);
-            MessageDispatcher messageDispatcher = new MessageDispatcher(env.getRuntime(), nativeService, session);
-            MessageReceiver receiver = new MessageReceiver(
-                    session, consumer, messageDispatcher, svcConfig.pollingInterval(), svcConfig.receiveTimeout());
+            bListener.addNativeData(NATIVE_RUNTIME, env.getRuntime());
+            Receiver receiver = createReceiver(bListener, nativeService, connection);
             bService.addNativeData(NATIVE_SERVICE, nativeService);
             bService.addNativeData(NATIVE_RECEIVER, receiver);
             List<BObject> serviceList = (List<BObject>) bListener.getNativeData(NATIVE_SERVICE_LIST);
@@ -103,6 +140,116 @@ public final class Listener {
         return null;
     }
 
+    private static Receiver createReceiver(BObject bListener, Service nativeService, Connection connection)
+            throws JMSException {
+        ServiceConfig svcConfig = nativeService.getServiceConfig();
+        if (svcConfig instanceof QueueConfig queueConfig && Objects.nonNull(queueConfig.autoscaling())) {
+            AutoscalingConfig autoscaling = queueConfig.autoscaling();
+            if (autoscaling.minConsumers() < 1 || autoscaling.maxConsumers() < autoscaling.minConsumers()) {
+                throw createError(IBMMQ_ERROR, String.format(
+                        "Invalid autoscaling bounds, minConsumers: %d, maxConsumers: %d",
+                        autoscaling.minConsumers(), autoscaling.maxConsumers()));
+            }
+            if (autoscaling.targetLag() <= 0 || autoscaling.scaleInterval() <= 0) {
+                throw createError(IBMMQ_ERROR, String.format(
+                        "Invalid autoscaling intervals, targetLag and scaleInterval must be positive, found: %d ms, " +
+                                "%d ms", autoscaling.targetLag(), autoscaling.scaleInterval()));
+            }
+            QueueManagerConfiguration config = (QueueManagerConfiguration) bListener.getNativeData(NATIVE_QM_CONFIG);
+            ErrorReporter errorReporter = (ErrorReporter) bListener.getNativeData(NATIVE_ERROR_REPORTER);
+            return new AutoscalingReceiver(() -> createMessageReceiver(bListener, nativeService, connection),
+                    autoscaling, config, queueConfig.queueName(), errorReporter);
+        }
+        return createMessageReceiver(bListener, nativeService, connection);
+    }
+
+    private static MessageReceiver createMessageReceiver(BObject bListener, Service nativeService,
+                                                         Connection connection) throws JMSException {
+        ServiceConfig svcConfig = nativeService.getServiceConfig();
+        int sessionAckMode = getSessionAckMode(svcConfig.ackMode());
+        boolean transacted = Session.SESSION_TRANSACTED == sessionAckMode;
+        Session session = connection.createSession(transacted, sessionAckMode);
+        MessageConsumer consumer = getConsumer(session, svcConfig);
+        Runtime runtime = (Runtime) bListener.getNativeData(NATIVE_RUNTIME);
+        ErrorReporter errorReporter = (ErrorReporter) bListener.getNativeData(NATIVE_ERROR_REPORTER);
+        MessageDispatcher messageDispatcher = new MessageDispatcher(runtime, nativeService, session, errorReporter,
+                getDestinationMetrics(bListener, svcConfig),
+                (TraceContextPropagator) bListener.getNativeData(NATIVE_TRACE_PROPAGATOR));
+        RedeliveryHandler redeliveryHandler = getRedeliveryHandler(bListener, session, svcConfig);
+        ConnectionRecoveryHandler recoveryHandler =
+                (ConnectionRecoveryHandler) bListener.getNativeData(NATIVE_RECOVERY_HANDLER);
+        ExceptionListener failureListener = Objects.nonNull(recoveryHandler) ?
+                recoveryHandler.forConnection(connection) : null;
+        return new MessageReceiver(session, consumer, messageDispatcher, svcConfig.pollingInterval(),
+                svcConfig.receiveTimeout(), redeliveryHandler, failureListener);
+    }
+
+    private static DestinationMetrics getDestinationMetrics(BObject bListener, ServiceConfig svcConfig) {
+        ClientMetrics metrics = (ClientMetrics) bListener.getNativeData(NATIVE_METRICS);
+        if (svcConfig instanceof QueueConfig queueConfig) {
+            return metrics.forQueue(queueConfig.queueName());
+        }
+        return metrics.forTopic(((TopicConfig) svcConfig).topicName());
+    }
+
+    /**
+     * Re-establishes the connection of the listener and recreates the sessions and the consumers of all the attached
+     * services. The durable and shared subscriptions are resumed as the same client ID is used for the new connection.
+     *
+     * @param bListener the Ballerina listener object
+     * @throws JMSException if the connection, a session or a consumer could not be created
+     */
+    static void reconnect(BObject bListener) throws JMSException {
+        List<BObject> bServices = (List<BObject>) bListener.getNativeData(NATIVE_SERVICE_LIST);
+        for (BObject bService: bServices) {
+            Receiver receiver = (Receiver) bService.getNativeData(NATIVE_RECEIVER);
+            receiver.stopReceiving();
+            closeQuietly(receiver::close);
+        }
+        Connection oldConnection = (Connection) bListener.getNativeData(NATIVE_CONNECTION);
+        closeQuietly(oldConnection::close);
+
+        QueueManagerConfiguration config = (QueueManagerConfiguration) bListener.getNativeData(NATIVE_QM_CONFIG);
+        Connection connection = CommonUtils.getJmsConnection(config);
+        try {
+            connection.setClientID((String) bListener.getNativeData(NATIVE_CLIENT_ID));
+            connection.setExceptionListener(((ConnectionRecoveryHandler) bListener.getNativeData(
+                    NATIVE_RECOVERY_HANDLER)).forConnection(connection));
+            // The backout requeue queues are resolved again for the new connection.
+            bListener.addNativeData(NATIVE_BACKOUT_QUEUE_RESOLVER, new BackoutQueueResolver(config,
+                    (ErrorReporter) bListener.getNativeData(NATIVE_ERROR_REPORTER)));
+            List<Receiver> receivers = new ArrayList<>(bServices.size());
+            for (BObject bService: bServices) {
+                if (Objects.nonNull(bService.getNativeData(DETACHED))) {
+                    continue;
+                }
+                Service nativeService = (Service) bService.getNativeData(NATIVE_SERVICE);
+                Receiver receiver = createReceiver(bListener, nativeService, connection);
+                bService.addNativeData(NATIVE_RECEIVER, receiver);
+                receivers.add(receiver);
+            }
+            bListener.addNativeData(NATIVE_CONNECTION, connection);
+            Object started = bListener.getNativeData(LISTENER_STARTED);
+            if (Objects.nonNull(started) && ((Boolean) started)) {
+                connection.start();
+                for (Receiver receiver: receivers) {
+                    receiver.consume();
+                }
+            }
+        } catch (BError | JMSException e) {
+            closeQuietly(connection::close);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(JmsCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (JMSException e) {
+            // The resources of a broken connection are released on a best-effort basis.
+        }
+    }
+
     private static int getSessionAckMode(String ackMode) {
         return switch (ackMode) {
             case Constants.SESSION_TRANSACTED_MODE -> Session.SESSION_TRANSACTED;
@@ -112,6 +259,24 @@ public final class Listener {
         };
     }
 
+    private static RedeliveryHandler getRedeliveryHandler(BObject bListener, Session session,
+                                                          ServiceConfig svcConfig) {
+        RetryPolicy retryPolicy = svcConfig.retryPolicy();
+        if (Objects.isNull(retryPolicy)) {
+            return null;
+        }
+        String ackMode = svcConfig.ackMode();
+        if (!Constants.SESSION_TRANSACTED_MODE.equals(ackMode) && !Constants.CLIENT_ACKNOWLEDGE_MODE.equals(ackMode)) {
+            throw createError(IBMMQ_ERROR, String.format(
+                    "Retry policy is only supported with SESSION_TRANSACTED or CLIENT_ACKNOWLEDGE modes, found: %s",
+                    ackMode));
+        }
+        String queueName = svcConfig instanceof QueueConfig queueConfig ? queueConfig.queueName() : null;
+        return new RedeliveryHandler(session, retryPolicy, queueName,
+                (BackoutQueueResolver) bListener.getNativeData(NATIVE_BACKOUT_QUEUE_RESOLVER),
+                (ErrorReporter) bListener.getNativeData(NATIVE_ERROR_REPORTER));
+    }
+
     private static MessageConsumer getConsumer(Session session, ServiceConfig svcConfig)
             throws JMSException {
         if (svcConfig instanceof QueueConfig queueConfig) {
@@ -138,13 +303,18 @@ public final class Listener {
         }
     }
 
+    public static BArray getMetrics(BObject bListener) {
+        return ((ClientMetrics) bListener.getNativeData(NATIVE_METRICS)).toBallerina();
+    }
+
     public static Object detach(BObject bService) {
         Object receiver = bService.getNativeData(NATIVE_RECEIVER);
         try {
             if (Objects.isNull(receiver)) {
                 return createError(IBMMQ_ERROR, "Could not find the native IBM MQ message receiver");
             }
-            ((MessageReceiver) receiver).stop();
+            bService.addNativeData(DETACHED, Boolean.TRUE);
+            ((Receiver) receiver).stop();
         } catch (Exception e) {
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(IBMMQ_ERROR,
@@ -159,7 +329,7 @@ public final class Listener {
         try {
             connection.start();
             for (BObject bService: bServices) {
-                MessageReceiver receiver = (MessageReceiver) bService.getNativeData(NATIVE_RECEIVER);
+                Receiver receiver = (Receiver) bService.getNativeData(NATIVE_RECEIVER);
                 receiver.consume();
             }
             bListener.addNativeData(LISTENER_STARTED, Boolean.valueOf(true));
@@ -172,15 +342,29 @@ public final class Listener {
     }
 
     public static Object gracefulStop(BObject bListener) {
+        stopRecovery(bListener);
         Connection nativeConnection = (Connection) bListener.getNativeData(NATIVE_CONNECTION);
         List<BObject> bServices = (List<BObject>) bListener.getNativeData(NATIVE_SERVICE_LIST);
+        long gracefulStopTimeout = (Long) bListener.getNativeData(GRACEFUL_STOP_TIMEOUT);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(gracefulStopTimeout);
         try {
+            List<Receiver> receivers = new ArrayList<>(bServices.size());
             for (BObject bService: bServices) {
-                MessageReceiver receiver = (MessageReceiver) bService.getNativeData(NATIVE_RECEIVER);
-                receiver.stop();
+                Receiver receiver = (Receiver) bService.getNativeData(NATIVE_RECEIVER);
+                receiver.stopReceiving();
+                receivers.add(receiver);
+            }
+            // All the receivers share the same deadline, hence the total wait is bounded by the configured timeout
+            // irrespective of the number of attached services.
+            for (Receiver receiver: receivers) {
+                receiver.awaitDrain(deadline);
+            }
+            for (Receiver receiver: receivers) {
+                receiver.close();
             }
             nativeConnection.stop();
             nativeConnection.close();
+            ((ErrorReporter) bListener.getNativeData(NATIVE_ERROR_REPORTER)).close();
         } catch (Exception e) {
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(IBMMQ_ERROR,
@@ -191,21 +375,35 @@ public final class Listener {
     }
 
     public static Object immediateStop(BObject bListener) {
+        stopRecovery(bListener);
         Connection nativeConnection = (Connection) bListener.getNativeData(NATIVE_CONNECTION);
         List<BObject> bServices = (List<BObject>) bListener.getNativeData(NATIVE_SERVICE_LIST);
         try {
             for (BObject bService: bServices) {
-                MessageReceiver receiver = (MessageReceiver) bService.getNativeData(NATIVE_RECEIVER);
+                Receiver receiver = (Receiver) bService.getNativeData(NATIVE_RECEIVER);
                 receiver.stop();
             }
             nativeConnection.stop();
             nativeConnection.close();
+            ((ErrorReporter) bListener.getNativeData(NATIVE_ERROR_REPORTER)).close();
         } catch (Exception e) {
             String errorMsg = Objects.isNull(e.getMessage()) ? "Unknown error" : e.getMessage();
             return createError(IBMMQ_ERROR,
-                    String.format("Error occurred while gracefully stopping the Ballerina IBM MQ listener: %s",
+                    String.format("Error occurred while immediately stopping the Ballerina IBM MQ listener: %s",
                             errorMsg), e);
         }
         return null;
     }
+
+    private static void stopRecovery(BObject bListener) {
+        Object recoveryHandler = bListener.getNativeData(NATIVE_RECOVERY_HANDLER);
+        if (Objects.nonNull(recoveryHandler)) {
+            ((ConnectionRecoveryHandler) recoveryHandler).close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface JmsCloseable {
+        void close() throws JMSException;
+    }
 }
@@ -18,19 +18,23 @@
 
 package io.ballerina.lib.ibm.ibmmq.listener;
 
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+import io.ballerina.lib.ibm.ibmmq.TraceContextPropagator;
+import io.ballerina.lib.ibm.ibmmq.jfr.DispatchEvent;
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics;
+import io.ballerina.lib.ibm.ibmmq.metrics.ReasonCodes;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.RemoteMethodType;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 
-import java.io.PrintStream;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -40,6 +44,8 @@ import static io.ballerina.lib.ibm.ibmmq.CommonUtils.createError;
 import static io.ballerina.lib.ibm.ibmmq.Constants.BCALLER_NAME;
 import static io.ballerina.lib.ibm.ibmmq.Constants.IBMMQ_ERROR;
 import static io.ballerina.lib.ibm.ibmmq.ModuleUtils.getModule;
+import static io.ballerina.lib.ibm.ibmmq.listener.Caller.NATIVE_COMPLETION;
+import static io.ballerina.lib.ibm.ibmmq.listener.Caller.NATIVE_DESTINATION;
 import static io.ballerina.lib.ibm.ibmmq.listener.Caller.NATIVE_SESSION;
 
 /**
@@ -48,81 +54,131 @@ import static io.ballerina.lib.ibm.ibmmq.listener.Caller.NATIVE_SESSION;
  * @since 1.3.0.
  */
 public class MessageDispatcher {
-    private static final PrintStream ERR_OUT = System.err;
+    private static final int MAX_PENDING_ERRORS = 100;
     private static final String ON_ERROR_METHOD = "onError";
     private static final String ON_MESSAGE_METHOD = "onMessage";
 
     private final Runtime ballerinaRuntime;
     private final Service nativeService;
-    private final Session session;
-    private final OnErrorCallback onErrorCallback = new OnErrorCallback();
+    private final DispatchPlan dispatchPlan;
+    private final BObject caller;
+    private final ErrorReporter errorReporter;
+    private final DestinationMetrics metrics;
+    private final TraceContextPropagator traceContextPropagator;
+    private final OnErrorCallback onErrorCallback;
+    private final BlockingQueue<Throwable> pendingErrors = new ArrayBlockingQueue<>(MAX_PENDING_ERRORS);
+    private final AtomicBoolean onErrorDispatching = new AtomicBoolean(false);
+    private final AtomicBoolean completedByService = new AtomicBoolean(false);
 
-    MessageDispatcher(Runtime ballerinaRuntime, Service nativeService, Session session) {
+    MessageDispatcher(Runtime ballerinaRuntime, Service nativeService, Session session,
+                      ErrorReporter errorReporter, DestinationMetrics metrics,
+                      TraceContextPropagator traceContextPropagator) {
         this.ballerinaRuntime = ballerinaRuntime;
+        this.errorReporter = errorReporter;
+        this.metrics = metrics;
+        this.traceContextPropagator = traceContextPropagator;
+        this.onErrorCallback = new OnErrorCallback(errorReporter);
         this.nativeService = nativeService;
-        this.session = session;
+        this.dispatchPlan = nativeService.getDispatchPlan();
+        this.caller = getCaller(session, metrics.getName());
+        this.caller.addNativeData(NATIVE_COMPLETION, this.completedByService);
+    }
+
+    public ErrorReporter getErrorReporter() {
+        return errorReporter;
+    }
+
+    String getDestinationName() {
+        return metrics.getName();
+    }
+
+    /**
+     * Indicates whether the service has committed, rolled back or acknowledged the last dispatched message through
+     * the caller.
+     *
+     * @return {@code true} if the service has completed the message, {@code false} otherwise
+     */
+    boolean isCompletedByService() {
+        return completedByService.get();
     }
 
     public void onMessage(Message message, OnMsgCallback onMsgCallback) {
+        completedByService.set(false);
         Thread.startVirtualThread(() -> {
+            long startTime = System.nanoTime();
+            DispatchEvent event = new DispatchEvent();
+            event.begin();
             try {
-                boolean isConcurrentSafe = nativeService.isOnMessageMethodIsolated();
-                StrandMetadata metadata = new StrandMetadata(isConcurrentSafe, null);
-                Object[] params = getOnMessageParams(message);
-                Object result = ballerinaRuntime.callMethod(
-                        nativeService.getConsumerService(), ON_MESSAGE_METHOD, metadata, params);
+                metrics.residence().record(message.getJMSTimestamp());
+                Object[] params = dispatchPlan.bindOnMessageArgs(message, caller);
+                StrandMetadata metadata = traceContextPropagator.getDispatchMetadata(message,
+                        dispatchPlan.getOnMessageMetadata());
+                Object result = ballerinaRuntime.callMethod(nativeService.getConsumerService(), ON_MESSAGE_METHOD,
+                        metadata, params);
+                if (result instanceof BError error) {
+                    metrics.handle().recordError(error);
+                    event.record(metrics.getName(), 0, ReasonCodes.getReasonCode(error));
+                } else {
+                    metrics.handle().recordSuccess(System.nanoTime() - startTime, 0);
+                    event.record(metrics.getName(), 0, CMQC.MQRC_NONE);
+                }
                 onMsgCallback.notifySuccess(result);
             } catch (BError e) {
+                metrics.handle().recordError(e);
+                event.record(metrics.getName(), 0, ReasonCodes.getReasonCode(e));
                 onMsgCallback.notifyFailure(e);
                 onError(e);
             } catch (JMSException e) {
+                metrics.handle().recordError(e);
+                event.record(metrics.getName(), 0, ReasonCodes.getReasonCode(e));
+                onMsgCallback.notifyFailure(createError(IBMMQ_ERROR,
+                        String.format("Error occurred while mapping the message: %s", e.getMessage()), e));
                 onError(e);
             }
         });
     }
 
-    private Object[] getOnMessageParams(Message message) throws JMSException {
-        Parameter[] parameters = this.nativeService.getOnMessageMethod().getParameters();
-        Object[] args = new Object[parameters.length];
-        int idx = 0;
-        for (Parameter param: parameters) {
-            Type referredType = TypeUtils.getReferredType(param.type);
-            switch (referredType.getTag()) {
-                case TypeTags.OBJECT_TYPE_TAG:
-                    args[idx++] = getCaller();
-                    break;
-                case TypeTags.RECORD_TYPE_TAG:
-                    args[idx++] = MessageMapper.toBallerinaMessage(message);
-                    break;
-            }
-        }
-        return args;
-    }
-
-    private BObject getCaller() {
+    private static BObject getCaller(Session session, String destinationName) {
         BObject caller = ValueCreator.createObjectValue(getModule(), BCALLER_NAME);
         caller.addNativeData(NATIVE_SESSION, session);
+        caller.addNativeData(NATIVE_DESTINATION, destinationName);
         return caller;
     }
 
     public void onError(Throwable t) {
-        Thread.startVirtualThread(() -> {
-            try {
-                ERR_OUT.println("Unexpected error occurred while message processing: " + t.getMessage());
-                Optional<RemoteMethodType> onError = nativeService.getOnError();
-                if (onError.isEmpty()) {
-                    t.printStackTrace();
-                    return;
-                }
-                BError error = createError(IBMMQ_ERROR, "Failed to fetch the message", t);
-                boolean isConcurrentSafe = nativeService.isOnErrorMethodIsolated();
-                StrandMetadata metadata = new StrandMetadata(isConcurrentSafe, null);
-                Object result = ballerinaRuntime.callMethod(
-                        nativeService.getConsumerService(), ON_ERROR_METHOD, metadata, error);
-                onErrorCallback.notifySuccess(result);
-            } catch (BError err) {
-                onErrorCallback.notifyFailure(err);
+        if (!this.pendingErrors.offer(t)) {
+            this.errorReporter.reportDropped(t);
+            return;
+        }
+        if (this.onErrorDispatching.compareAndSet(false, true)) {
+            Thread.startVirtualThread(this::dispatchPendingErrors);
+        }
+    }
+
+    private void dispatchPendingErrors() {
+        do {
+            Throwable t;
+            while ((t = this.pendingErrors.poll()) != null) {
+                dispatchError(t);
             }
-        });
+            this.onErrorDispatching.set(false);
+            // An error could be queued after the queue is drained but before the flag is cleared.
+        } while (!this.pendingErrors.isEmpty() && this.onErrorDispatching.compareAndSet(false, true));
+    }
+
+    private void dispatchError(Throwable t) {
+        try {
+            Optional<RemoteMethodType> onError = nativeService.getOnError();
+            if (onError.isEmpty()) {
+                errorReporter.report("Unexpected error occurred while message processing", t);
+                return;
+            }
+            BError error = createError(IBMMQ_ERROR, "Failed to fetch the message", t);
+            Object result = ballerinaRuntime.callMethod(nativeService.getConsumerService(), ON_ERROR_METHOD,
+                    dispatchPlan.getOnErrorMetadata(), error);
+            onErrorCallback.notifySuccess(result);
+        } catch (BError err) {
+            onErrorCallback.notifyFailure(err);
+        }
     }
 }
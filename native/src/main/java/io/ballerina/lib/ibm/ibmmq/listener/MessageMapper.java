@@ -25,7 +25,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
+import java.util.Objects;
 
 import javax.jms.BytesMessage;
 import javax.jms.JMSException;
@@ -112,6 +114,23 @@ public class MessageMapper {
         return result;
     }
 
+    /**
+     * Returns the size of the body of a JMS message.
+     *
+     * @param message the JMS message
+     * @return the size of the message body in bytes, or zero if the size can not be determined
+     * @throws JMSException if the message body could not be read
+     */
+    public static long getBodyLength(Message message) throws JMSException {
+        if (message instanceof BytesMessage bytesMessage) {
+            return bytesMessage.getBodyLength();
+        }
+        if (message instanceof TextMessage textMessage && Objects.nonNull(textMessage.getText())) {
+            return textMessage.getText().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+
     private static byte[] safeBytes(String value) {
         return value != null ? value.getBytes(java.nio.charset.StandardCharsets.UTF_8) : new byte[0];
     }
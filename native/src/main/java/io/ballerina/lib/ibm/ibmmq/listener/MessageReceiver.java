@@ -18,6 +18,10 @@
 
 package io.ballerina.lib.ibm.ibmmq.listener;
 
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+import io.ballerina.lib.ibm.ibmmq.jfr.ReceiveEvent;
+
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -25,7 +29,9 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.jms.ExceptionListener;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageConsumer;
@@ -37,7 +43,7 @@ import javax.jms.Session;
  *
  * @since 1.3.0.
  */
-public class MessageReceiver {
+public class MessageReceiver implements Receiver {
     private static final long stopTimeout = 30000;
 
     private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
@@ -48,52 +54,93 @@ public class MessageReceiver {
     private final MessageDispatcher messageDispatcher;
     private final long receiveInterval;
     private final long receiveTimeout;
+    private final RedeliveryHandler redeliveryHandler;
+    private final ExceptionListener failureListener;
+    private final Semaphore semaphore = new Semaphore(0);
+    private final OnMsgCallback callback;
+
+    private final AtomicLong processedCount = new AtomicLong();
 
     private ScheduledFuture<?> pollingTaskFuture;
+    private long resumeAt;
 
     public MessageReceiver(Session session, MessageConsumer consumer, MessageDispatcher messageDispatcher,
-                           long pollingInterval, long receiveTimeout) {
+                           long pollingInterval, long receiveTimeout, RedeliveryHandler redeliveryHandler,
+                           ExceptionListener failureListener) {
         this.session = session;
         this.consumer = consumer;
         this.messageDispatcher = messageDispatcher;
+        this.callback = new OnMsgCallback(this.semaphore, messageDispatcher.getErrorReporter());
         this.receiveInterval = pollingInterval;
         this.receiveTimeout = receiveTimeout;
+        this.redeliveryHandler = redeliveryHandler;
+        this.failureListener = failureListener;
+        this.resumeAt = System.nanoTime();
     }
 
     private void poll() {
         try {
+            // A redelivery back-off only skips poll cycles, hence the polling thread is never blocked by it.
+            if (System.nanoTime() - this.resumeAt < 0) {
+                return;
+            }
             Message message = null;
+            ReceiveEvent event = new ReceiveEvent();
             if (!closed.get()) {
+                event.begin();
                 message = this.consumer.receive(this.receiveTimeout);
             }
             if (Objects.isNull(message)) {
                 return;
             }
-            Semaphore semaphore = new Semaphore(0);
-            OnMsgCallback callback = new OnMsgCallback(semaphore);
-            this.messageDispatcher.onMessage(message, callback);
+            event.record(this.messageDispatcher.getDestinationName(),
+                    event.isEnabled() ? MessageMapper.getBodyLength(message) : 0, CMQC.MQRC_NONE);
+            this.callback.reset();
+            this.messageDispatcher.onMessage(message, this.callback);
             // We suspend execution of poll cycle here before moving to the next cycle.
             // Once we receive signal from BVM via OnMsgCallback this suspension is removed
             // We will move to the next polling cycle.
             try {
-                semaphore.acquire();
+                this.semaphore.acquire();
             } catch (InterruptedException e) {
                 this.messageDispatcher.onError(e);
                 this.pollingTaskFuture.cancel(false);
+                return;
+            }
+            this.processedCount.incrementAndGet();
+            // A message which the service has already committed, rolled back or acknowledged is not redelivered, as
+            // the service has taken over its redelivery.
+            if (this.callback.isFailed() && Objects.nonNull(this.redeliveryHandler)
+                    && !this.messageDispatcher.isCompletedByService()) {
+                long backoffDelay = this.redeliveryHandler.onFailure(message);
+                this.resumeAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffDelay);
             }
         } catch (JMSException e) {
             if (!closed.get()) {
                 this.messageDispatcher.onError(e);
                 this.pollingTaskFuture.cancel(false);
+                // The receiver can not continue with the failed session, hence the listener is notified to
+                // re-establish the connection and recreate the receivers.
+                if (Objects.nonNull(this.failureListener)) {
+                    this.failureListener.onException(e);
+                }
             }
         }
     }
 
+    @Override
     public void consume() {
         this.pollingTaskFuture = this.executorService.scheduleAtFixedRate(
                 this::poll, 0, this.receiveInterval, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Stops the message receiver immediately. An in-flight poll cycle is interrupted and the underlying consumer and
+     * session are closed.
+     *
+     * @throws Exception if the consumer or the session could not be closed
+     */
+    @Override
     public void stop() throws Exception {
         closed.set(true);
         if (Objects.nonNull(this.pollingTaskFuture) && !this.pollingTaskFuture.isCancelled()) {
@@ -114,4 +161,58 @@ public class MessageReceiver {
         this.consumer.close();
         this.session.close();
     }
+
+    /**
+     * Stops scheduling new poll cycles without interrupting the poll cycle which is currently in progress. A message
+     * which is being dispatched to the service is allowed to complete together with its commit or acknowledgement.
+     */
+    @Override
+    public void stopReceiving() {
+        closed.set(true);
+        if (Objects.nonNull(this.pollingTaskFuture) && !this.pollingTaskFuture.isCancelled()) {
+            this.pollingTaskFuture.cancel(false);
+        }
+        this.executorService.shutdown();
+    }
+
+    /**
+     * Waits until the in-flight poll cycle completes or the deadline is reached.
+     *
+     * @param deadline the deadline as a {@link System#nanoTime()} value
+     * @return {@code true} if the receiver has drained before the deadline, {@code false} otherwise
+     */
+    @Override
+    public boolean awaitDrain(long deadline) {
+        try {
+            long remaining = deadline - System.nanoTime();
+            return this.executorService.awaitTermination(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Closes the underlying consumer and session. If the receiver has not drained yet, the in-flight poll cycle is
+     * interrupted before the session is closed, which rolls back any uncommitted work.
+     *
+     * @throws JMSException if the consumer or the session could not be closed
+     */
+    @Override
+    public void close() throws JMSException {
+        if (!this.executorService.isTerminated()) {
+            this.executorService.shutdownNow();
+        }
+        this.consumer.close();
+        this.session.close();
+    }
+
+    /**
+     * Returns the number of messages dispatched to the service by this receiver.
+     *
+     * @return the number of processed messages
+     */
+    long getProcessedCount() {
+        return this.processedCount.get();
+    }
 }
@@ -18,6 +18,7 @@
 
 package io.ballerina.lib.ibm.ibmmq.listener;
 
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
 import io.ballerina.runtime.api.values.BError;
 
 /**
@@ -27,10 +28,15 @@ import io.ballerina.runtime.api.values.BError;
  * @since 1.3.0.
  */
 public class OnErrorCallback {
+    private final ErrorReporter errorReporter;
+
+    OnErrorCallback(ErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
+    }
 
     public void notifySuccess(Object result) {
         if (result instanceof BError bError) {
-            bError.printStackTrace();
+            errorReporter.report("onError method returned an error", bError);
         }
     }
 
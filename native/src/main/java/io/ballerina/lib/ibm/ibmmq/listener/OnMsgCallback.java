@@ -1,5 +1,6 @@
 package io.ballerina.lib.ibm.ibmmq.listener;
 
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
 import io.ballerina.runtime.api.values.BError;
 
 import java.util.concurrent.Semaphore;
@@ -12,20 +13,43 @@ import java.util.concurrent.Semaphore;
  */
 public class OnMsgCallback {
     private final Semaphore semaphore;
+    private final ErrorReporter errorReporter;
+    private volatile boolean failed = false;
 
-    OnMsgCallback(Semaphore semaphore) {
+    OnMsgCallback(Semaphore semaphore, ErrorReporter errorReporter) {
         this.semaphore = semaphore;
+        this.errorReporter = errorReporter;
     }
 
     public void notifySuccess(Object obj) {
-        semaphore.release();
         if (obj instanceof BError bError) {
-            bError.printStackTrace();
+            failed = true;
+            semaphore.release();
+            errorReporter.report("onMessage method returned an error", bError);
+            return;
         }
+        semaphore.release();
     }
 
     public void notifyFailure(BError bError) {
+        // The failure is dispatched to the onError method by the message dispatcher, hence it is not reported here.
+        failed = true;
         semaphore.release();
-        bError.printStackTrace();
+    }
+
+    /**
+     * Resets the callback state, so that the callback can be reused for the next message of the poll cycle.
+     */
+    void reset() {
+        failed = false;
+    }
+
+    /**
+     * Indicates whether the service has returned an error or panicked while processing the message.
+     *
+     * @return {@code true} if the message processing has failed, {@code false} otherwise
+     */
+    public boolean isFailed() {
+        return failed;
     }
 }
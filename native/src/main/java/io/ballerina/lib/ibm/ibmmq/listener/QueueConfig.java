@@ -37,16 +37,23 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
  *                        If this value is {@code null}, no selector is applied.
  * @param pollingInterval   The polling interval in milliseconds
  * @param receiveTimeout    The timeout to wait till a `receive` action finishes when there are no messages
+ * @param retryPolicy       The redelivery configurations applied when the message processing fails. If {@code null},
+ *                          no redelivery handling is applied
+ * @param autoscaling       The queue-depth based autoscaling configurations of the consumers. If {@code null}, a
+ *                          single consumer is used
  *
  * @since 1.3.0
  */
 public record QueueConfig(String ackMode, String queueName, String messageSelector, long pollingInterval,
-                          long receiveTimeout) implements ServiceConfig {
+                          long receiveTimeout, RetryPolicy retryPolicy, AutoscalingConfig autoscaling)
+        implements ServiceConfig {
     private static final BString SESSION_ACK_MODE = StringUtils.fromString("sessionAckMode");
     private static final BString QUEUE_NAME = StringUtils.fromString("queueName");
     private static final BString MSG_SELECTOR = StringUtils.fromString("messageSelector");
     private static final BString POLLING_INTERVAL = StringUtils.fromString("pollingInterval");
     private static final BString RECEIVE_TIMEOUT = StringUtils.fromString("receiveTimeout");
+    private static final BString RETRY_POLICY = StringUtils.fromString("retryPolicy");
+    private static final BString AUTOSCALING = StringUtils.fromString("autoscaling");
 
     QueueConfig(BMap<BString, Object> configurations) {
         this(
@@ -57,8 +64,9 @@ public record QueueConfig(String ackMode, String queueName, String messageSelect
                 ((BDecimal) configurations.get(POLLING_INTERVAL)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
                         .longValue(),
                 ((BDecimal) configurations.get(RECEIVE_TIMEOUT)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
-                        .longValue()
-
+                        .longValue(),
+                RetryPolicy.fromServiceConfig(configurations, RETRY_POLICY),
+                AutoscalingConfig.fromServiceConfig(configurations, AUTOSCALING)
         );
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import javax.jms.JMSException;
+
+/**
+ * Represents the message consumption of a service attached to the IBM MQ listener.
+ *
+ * @since 1.4.3
+ */
+public interface Receiver {
+
+    /**
+     * Starts receiving messages and dispatching them to the service.
+     */
+    void consume();
+
+    /**
+     * Stops the receiver immediately, interrupting the in-flight message processing.
+     *
+     * @throws Exception if the underlying resources could not be closed
+     */
+    void stop() throws Exception;
+
+    /**
+     * Stops receiving new messages without interrupting the in-flight message processing.
+     */
+    void stopReceiving();
+
+    /**
+     * Waits until the in-flight message processing completes or the deadline is reached.
+     *
+     * @param deadline the deadline as a {@link System#nanoTime()} value
+     * @return {@code true} if the receiver has drained before the deadline, {@code false} otherwise
+     */
+    boolean awaitDrain(long deadline);
+
+    /**
+     * Closes the underlying resources of the receiver.
+     *
+     * @throws JMSException if the underlying resources could not be closed
+     */
+    void close() throws JMSException;
+}
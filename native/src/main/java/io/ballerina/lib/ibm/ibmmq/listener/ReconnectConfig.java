@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+
+/**
+ * Represents the automatic reconnection configurations of the IBM MQ listener.
+ *
+ * @param maxAttempts   The maximum number of reconnection attempts, a negative value indicates unlimited attempts
+ * @param initialDelay  The delay in milliseconds before the first reconnection attempt
+ * @param backoffFactor The multiplier applied to the delay after each failed attempt
+ * @param maxDelay      The maximum delay in milliseconds between two reconnection attempts
+ *
+ * @since 1.4.3
+ */
+public record ReconnectConfig(int maxAttempts, long initialDelay, double backoffFactor, long maxDelay) {
+    private static final BString MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
+    private static final BString INITIAL_DELAY = StringUtils.fromString("initialDelay");
+    private static final BString BACKOFF_FACTOR = StringUtils.fromString("backoffFactor");
+    private static final BString MAX_DELAY = StringUtils.fromString("maxDelay");
+
+    ReconnectConfig(BMap<BString, Object> configurations) {
+        this(
+                configurations.getIntValue(MAX_ATTEMPTS).intValue(),
+                ((BDecimal) configurations.get(INITIAL_DELAY)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                        .longValue(),
+                configurations.getFloatValue(BACKOFF_FACTOR),
+                ((BDecimal) configurations.get(MAX_DELAY)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                        .longValue()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    static ReconnectConfig fromListenerConfig(BMap<BString, Object> listenerConfig, BString key) {
+        Object reconnect = listenerConfig.get(key);
+        if (reconnect instanceof BMap) {
+            return new ReconnectConfig((BMap<BString, Object>) reconnect);
+        }
+        return null;
+    }
+
+    boolean canRetry(int attempt) {
+        return this.maxAttempts < 0 || attempt <= this.maxAttempts;
+    }
+
+    /**
+     * Calculates a randomized delay before the given reconnection attempt. The delay is picked between half of the
+     * exponential back-off delay and the exponential back-off delay.
+     *
+     * @param attempt the reconnection attempt, starting from 1
+     * @return the delay in milliseconds
+     */
+    long getDelay(int attempt) {
+        double delay = this.initialDelay * Math.pow(this.backoffFactor, Math.max(attempt - 1, 0));
+        long cappedDelay = (long) Math.min(delay, this.maxDelay);
+        long halfDelay = cappedDelay / 2;
+        return halfDelay + ThreadLocalRandom.current().nextLong(cappedDelay - halfDelay + 1);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import io.ballerina.lib.ibm.ibmmq.ErrorReporter;
+
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.jms.BytesMessage;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.ObjectMessage;
+import javax.jms.Session;
+import javax.jms.StreamMessage;
+import javax.jms.TextMessage;
+
+/**
+ * A {@code RedeliveryHandler} applies the configured {@link RetryPolicy} to a message for which the
+ * {@code onMessage} method of the service has returned an error.
+ * <p>
+ * For queue subscriptions the failed message is re-sent to the same queue with a delivery delay and the original
+ * message is committed or acknowledged, so that the receive loop can continue with the other messages in the queue
+ * while the failed message is waiting for its next attempt. Once the attempts are exhausted the message is moved to
+ * the configured dead-letter queue or to the backout requeue queue (BOQNAME) of the consumed queue.
+ * <p>
+ * A message which can not be re-sent, i.e. a stream message or a message which could not be sent with a delivery
+ * delay, is returned to the destination instead, and the receiver backs off before the next poll cycle. Topic
+ * subscriptions can not re-publish a message without reaching the other subscribers, hence the message is always
+ * returned to the subscription.
+ *
+ * @since 1.4.3
+ */
+public class RedeliveryHandler {
+    static final String RETRY_ATTEMPT_PROPERTY = "IBMMQ_RETRY_ATTEMPT";
+    private static final String DELIVERY_COUNT_PROPERTY = "JMSXDeliveryCount";
+    private static final String JMSX_PROPERTY_PREFIX = "JMSX";
+    private static final String JMS_IBM_PROPERTY_PREFIX = "JMS_IBM";
+
+    private final Session session;
+    private final RetryPolicy retryPolicy;
+    private final String queueName;
+    private final BackoutQueueResolver backoutQueueResolver;
+    private final ErrorReporter errorReporter;
+    private Destination source;
+    private Destination backoutQueue;
+    private boolean backoutQueueResolved = false;
+    private MessageProducer producer;
+
+    RedeliveryHandler(Session session, RetryPolicy retryPolicy, String queueName,
+                      BackoutQueueResolver backoutQueueResolver, ErrorReporter errorReporter) {
+        this.session = session;
+        this.retryPolicy = retryPolicy;
+        this.queueName = queueName;
+        this.backoutQueueResolver = backoutQueueResolver;
+        this.errorReporter = errorReporter;
+    }
+
+    /**
+     * Handles a message which could not be processed by the service.
+     *
+     * @param message the message which could not be processed
+     * @return the delay in milliseconds the receiver should wait before the next poll cycle
+     * @throws JMSException if the message could neither be redelivered nor returned to the destination
+     */
+    long onFailure(Message message) throws JMSException {
+        int attempt = getDeliveryAttempt(message);
+        long delay = this.retryPolicy.getBackoffDelay(attempt);
+        Destination target;
+        long deliveryDelay;
+        if (attempt >= this.retryPolicy.maxAttempts() && Objects.nonNull(getBackoutQueue())) {
+            target = this.backoutQueue;
+            deliveryDelay = 0;
+        } else {
+            target = getSource();
+            deliveryDelay = delay;
+        }
+        if (Objects.nonNull(target) && resend(message, attempt, target, deliveryDelay)) {
+            complete(message);
+            return 0;
+        }
+        if (this.session.getTransacted()) {
+            this.session.rollback();
+        } else {
+            this.session.recover();
+        }
+        return delay;
+    }
+
+    private boolean resend(Message message, int attempt, Destination target, long deliveryDelay) {
+        try {
+            Message copy = copyOf(message, attempt);
+            if (Objects.isNull(copy)) {
+                return false;
+            }
+            send(copy, target, deliveryDelay);
+            return true;
+        } catch (JMSException e) {
+            // e.g. the queue manager does not support delivery delays. The message is returned to the destination
+            // instead, hence the receiver can continue.
+            this.errorReporter.report("Failed to redeliver the message, hence it is returned to the destination", e);
+            return false;
+        }
+    }
+
+    private Destination getSource() throws JMSException {
+        if (Objects.isNull(this.source) && Objects.nonNull(this.queueName)) {
+            this.source = this.session.createQueue(this.queueName);
+        }
+        return this.source;
+    }
+
+    private Destination getBackoutQueue() throws JMSException {
+        if (this.backoutQueueResolved) {
+            return this.backoutQueue;
+        }
+        // The backout requeue queue is only resolved once the first message has exhausted its attempts.
+        Optional<String> backoutQueueName = Optional.ofNullable(this.retryPolicy.deadLetterQueue());
+        if (backoutQueueName.isEmpty() && Objects.nonNull(this.queueName)) {
+            backoutQueueName = this.backoutQueueResolver.resolve(this.queueName);
+        }
+        if (backoutQueueName.isPresent()) {
+            this.backoutQueue = this.session.createQueue(backoutQueueName.get());
+        }
+        this.backoutQueueResolved = true;
+        return this.backoutQueue;
+    }
+
+    private static int getDeliveryAttempt(Message message) throws JMSException {
+        int deliveryCount = message.propertyExists(DELIVERY_COUNT_PROPERTY) ?
+                message.getIntProperty(DELIVERY_COUNT_PROPERTY) : 1;
+        int previousAttempts = message.propertyExists(RETRY_ATTEMPT_PROPERTY) ?
+                message.getIntProperty(RETRY_ATTEMPT_PROPERTY) : 0;
+        return previousAttempts + deliveryCount;
+    }
+
+    private void send(Message message, Destination destination, long delay) throws JMSException {
+        if (Objects.isNull(this.producer)) {
+            this.producer = this.session.createProducer(null);
+        }
+        this.producer.setDeliveryDelay(delay);
+        this.producer.send(destination, message, message.getJMSDeliveryMode(), message.getJMSPriority(),
+                Message.DEFAULT_TIME_TO_LIVE);
+    }
+
+    private void complete(Message message) throws JMSException {
+        if (this.session.getTransacted()) {
+            this.session.commit();
+        } else {
+            message.acknowledge();
+        }
+    }
+
+    /**
+     * Creates a copy of the given message, which carries the number of delivery attempts made so far.
+     *
+     * @param message the message to be copied
+     * @param attempt the number of delivery attempts made so far
+     * @return the copy, or {@code null} if the body of the message can not be copied
+     * @throws JMSException if the message could not be copied
+     */
+    private Message copyOf(Message message, int attempt) throws JMSException {
+        Message copy;
+        if (message instanceof TextMessage textMessage) {
+            copy = this.session.createTextMessage(textMessage.getText());
+        } else if (message instanceof BytesMessage bytesMessage) {
+            bytesMessage.reset();
+            byte[] payload = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(payload);
+            BytesMessage bytesCopy = this.session.createBytesMessage();
+            bytesCopy.writeBytes(payload);
+            copy = bytesCopy;
+        } else if (message instanceof MapMessage mapMessage) {
+            MapMessage mapCopy = this.session.createMapMessage();
+            Enumeration<?> names = mapMessage.getMapNames();
+            while (names.hasMoreElements()) {
+                String name = (String) names.nextElement();
+                mapCopy.setObject(name, mapMessage.getObject(name));
+            }
+            copy = mapCopy;
+        } else if (message instanceof ObjectMessage objectMessage) {
+            copy = this.session.createObjectMessage(objectMessage.getObject());
+        } else if (message instanceof StreamMessage) {
+            // The elements of a stream message can only be read once, hence it is returned to the destination.
+            return null;
+        } else {
+            copy = this.session.createMessage();
+        }
+        Enumeration<?> propertyNames = message.getPropertyNames();
+        while (propertyNames.hasMoreElements()) {
+            String name = (String) propertyNames.nextElement();
+            if (name.startsWith(JMSX_PROPERTY_PREFIX) || name.startsWith(JMS_IBM_PROPERTY_PREFIX)) {
+                continue;
+            }
+            copy.setObjectProperty(name, message.getObjectProperty(name));
+        }
+        copy.setJMSCorrelationID(message.getJMSCorrelationID());
+        copy.setJMSReplyTo(message.getJMSReplyTo());
+        copy.setJMSType(message.getJMSType());
+        copy.setJMSDeliveryMode(message.getJMSDeliveryMode());
+        copy.setJMSPriority(message.getJMSPriority());
+        copy.setIntProperty(RETRY_ATTEMPT_PROPERTY, attempt);
+        return copy;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.listener;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.lib.ibm.ibmmq.CommonUtils.getOptionalStringProperty;
+import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
+
+/**
+ * Represents the redelivery configurations applied when the {@code onMessage} method of a service returns an error.
+ *
+ * @param maxAttempts     The maximum number of delivery attempts of a message, including the first delivery
+ * @param backoffDelay    The delay in milliseconds before the first redelivery
+ * @param backoffFactor   The multiplier applied to the delay on each subsequent redelivery
+ * @param maxBackoffDelay The maximum delay in milliseconds between two redeliveries
+ * @param deadLetterQueue The queue to which the messages are moved once the attempts are exhausted. If {@code null},
+ *                        the backout requeue queue of the consumed queue is used
+ *
+ * @since 1.4.3
+ */
+public record RetryPolicy(int maxAttempts, long backoffDelay, double backoffFactor, long maxBackoffDelay,
+                          String deadLetterQueue) {
+    private static final BString MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
+    private static final BString BACKOFF_DELAY = StringUtils.fromString("backoffDelay");
+    private static final BString BACKOFF_FACTOR = StringUtils.fromString("backoffFactor");
+    private static final BString MAX_BACKOFF_DELAY = StringUtils.fromString("maxBackoffDelay");
+    private static final BString DEAD_LETTER_QUEUE = StringUtils.fromString("deadLetterQueue");
+
+    RetryPolicy(BMap<BString, Object> configurations) {
+        this(
+                configurations.getIntValue(MAX_ATTEMPTS).intValue(),
+                ((BDecimal) configurations.get(BACKOFF_DELAY)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                        .longValue(),
+                configurations.getFloatValue(BACKOFF_FACTOR),
+                ((BDecimal) configurations.get(MAX_BACKOFF_DELAY)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
+                        .longValue(),
+                getOptionalStringProperty(configurations, DEAD_LETTER_QUEUE).orElse(null)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    static RetryPolicy fromServiceConfig(BMap<BString, Object> svcConfig, BString key) {
+        if (!svcConfig.containsKey(key)) {
+            return null;
+        }
+        return new RetryPolicy((BMap<BString, Object>) svcConfig.getMapValue(key));
+    }
+
+    /**
+     * Calculates the delay before the next delivery of a message.
+     *
+     * @param attempt the number of delivery attempts already made
+     * @return the delay in milliseconds
+     */
+    long getBackoffDelay(int attempt) {
+        double delay = this.backoffDelay * Math.pow(this.backoffFactor, Math.max(attempt - 1, 0));
+        return (long) Math.min(delay, this.maxBackoffDelay);
+    }
+}
@@ -67,6 +67,7 @@ public class Service {
     private final ServiceConfig serviceConfig;
     private final RemoteMethodType onMessage;
     private final Optional<RemoteMethodType> onError;
+    private final DispatchPlan dispatchPlan;
 
     Service(BObject consumerService) {
         this.consumerService = consumerService;
@@ -81,6 +82,7 @@ public class Service {
         this.onError = Stream.of(svcType.getRemoteMethods())
                 .filter(m -> ON_ERR_METHOD.equals(m.getName()))
                 .findFirst();
+        this.dispatchPlan = new DispatchPlan(this);
     }
 
     public static void validateService(BObject consumerService) throws BError {
@@ -176,4 +178,8 @@ public class Service {
     public Optional<RemoteMethodType> getOnError() {
         return onError;
     }
+
+    public DispatchPlan getDispatchPlan() {
+        return dispatchPlan;
+    }
 }
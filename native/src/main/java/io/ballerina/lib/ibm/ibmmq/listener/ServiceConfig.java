@@ -29,4 +29,6 @@ public interface ServiceConfig {
     long pollingInterval();
 
     long receiveTimeout();
+
+    RetryPolicy retryPolicy();
 }
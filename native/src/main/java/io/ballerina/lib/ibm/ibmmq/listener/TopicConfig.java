@@ -47,12 +47,14 @@ import static io.ballerina.lib.ibm.ibmmq.Constants.MILLISECOND_MULTIPLIER;
  *                        or shared subscriptions. If {@code null}, no queueManagerName is associated.
  * @param pollingInterval   The polling interval in milliseconds
  * @param receiveTimeout    The timeout to wait till a `receive` action finishes when there are no messages
+ * @param retryPolicy       The redelivery configurations applied when the message processing fails. If {@code null},
+ *                          no redelivery handling is applied
  *
  * @since 1.3.0
  */
 public record TopicConfig(String ackMode, String topicName, String messageSelector, boolean noLocal,
                           String consumerType, String subscriberName, long pollingInterval,
-                          long receiveTimeout) implements ServiceConfig {
+                          long receiveTimeout, RetryPolicy retryPolicy) implements ServiceConfig {
     private static final BString SESSION_ACK_MODE = StringUtils.fromString("sessionAckMode");
     private static final BString TOPIC_NAME = StringUtils.fromString("topicName");
     private static final BString MSG_SELECTOR = StringUtils.fromString("messageSelector");
@@ -61,6 +63,7 @@ public record TopicConfig(String ackMode, String topicName, String messageSelect
     private static final BString SUBSCRIBER_NAME = StringUtils.fromString("subscriberName");
     private static final BString POLLING_INTERVAL = StringUtils.fromString("pollingInterval");
     private static final BString RECEIVE_TIMEOUT = StringUtils.fromString("receiveTimeout");
+    private static final BString RETRY_POLICY = StringUtils.fromString("retryPolicy");
 
     TopicConfig(BMap<BString, Object> configurations) {
         this(
@@ -75,7 +78,8 @@ public record TopicConfig(String ackMode, String topicName, String messageSelect
                 ((BDecimal) configurations.get(POLLING_INTERVAL)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
                         .longValue(),
                 ((BDecimal) configurations.get(RECEIVE_TIMEOUT)).decimalValue().multiply(MILLISECOND_MULTIPLIER)
-                        .longValue()
+                        .longValue(),
+                RetryPolicy.fromServiceConfig(configurations, RETRY_POLICY)
         );
     }
 }
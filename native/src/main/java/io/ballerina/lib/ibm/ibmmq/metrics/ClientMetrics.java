@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.metrics;
+
+import io.ballerina.lib.ibm.ibmmq.metrics.DestinationMetrics.DestinationType;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.ibm.ibmmq.ModuleUtils.getModule;
+
+/**
+ * A registry of the metrics of the destinations accessed through a queue manager or consumed by a listener.
+ *
+ * @since 1.4.3
+ */
+public final class ClientMetrics {
+    private static final String DESTINATION_METRICS_RECORD = "DestinationMetrics";
+    private static final String OPERATION_METRICS_RECORD = "OperationMetrics";
+    private static final String LATENCY_METRICS_RECORD = "LatencyMetrics";
+    private static final String UNKNOWN_REASON = "unknown";
+    private static final int NANOS_SCALE = 9;
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString TYPE = StringUtils.fromString("type");
+    private static final BString PUT = StringUtils.fromString("put");
+    private static final BString GET = StringUtils.fromString("get");
+    private static final BString HANDLE = StringUtils.fromString("handle");
+    private static final BString RESIDENCE_TIME = StringUtils.fromString("residenceTime");
+    private static final BString OLDEST_MESSAGE_AGE = StringUtils.fromString("oldestMessageAge");
+    private static final BString MESSAGES = StringUtils.fromString("messages");
+    private static final BString BYTES = StringUtils.fromString("bytes");
+    private static final BString ERRORS = StringUtils.fromString("errors");
+    private static final BString LATENCY = StringUtils.fromString("latency");
+    private static final BString MEAN = StringUtils.fromString("mean");
+    private static final BString P50 = StringUtils.fromString("p50");
+    private static final BString P90 = StringUtils.fromString("p90");
+    private static final BString P99 = StringUtils.fromString("p99");
+    private static final BString MAX = StringUtils.fromString("max");
+    private static final MapType ERRORS_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+
+    private final Map<String, DestinationMetrics> destinations = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metrics of a queue, creating them if the queue has not been accessed before.
+     *
+     * @param queueName the name of the queue
+     * @return the metrics of the queue
+     */
+    public DestinationMetrics forQueue(String queueName) {
+        return forDestination(queueName, DestinationType.QUEUE);
+    }
+
+    /**
+     * Returns the metrics of a topic, creating them if the topic has not been accessed before.
+     *
+     * @param topicName the name of the topic
+     * @return the metrics of the topic
+     */
+    public DestinationMetrics forTopic(String topicName) {
+        return forDestination(topicName, DestinationType.TOPIC);
+    }
+
+    private DestinationMetrics forDestination(String name, DestinationType type) {
+        return this.destinations.computeIfAbsent(type.name() + ":" + name, key -> new DestinationMetrics(name, type));
+    }
+
+    /**
+     * Converts the metrics of all the destinations to an array of Ballerina {@code ibmmq:DestinationMetrics}.
+     *
+     * @return the Ballerina array of destination metrics
+     */
+    public BArray toBallerina() {
+        BMap<BString, Object> template = ValueCreator.createRecordValue(getModule(), DESTINATION_METRICS_RECORD);
+        ArrayType arrayType = TypeCreator.createArrayType(template.getType());
+        BArray result = ValueCreator.createArrayValue(arrayType);
+        for (DestinationMetrics destination : this.destinations.values()) {
+            BMap<BString, Object> bDestination =
+                    ValueCreator.createRecordValue(getModule(), DESTINATION_METRICS_RECORD);
+            bDestination.put(NAME, StringUtils.fromString(destination.getName()));
+            bDestination.put(TYPE, StringUtils.fromString(destination.getType().name()));
+            bDestination.put(PUT, toBallerina(destination.put()));
+            bDestination.put(GET, toBallerina(destination.get()));
+            bDestination.put(HANDLE, toBallerina(destination.handle()));
+            bDestination.put(RESIDENCE_TIME, toBallerina(destination.residence().getResidenceTime()));
+            bDestination.put(OLDEST_MESSAGE_AGE, toSeconds(
+                    TimeUnit.MILLISECONDS.toNanos(destination.residence().getOldestAgeMillis())));
+            result.append(bDestination);
+        }
+        return result;
+    }
+
+    private static BMap<BString, Object> toBallerina(OperationMetrics operation) {
+        BMap<BString, Object> bOperation = ValueCreator.createRecordValue(getModule(), OPERATION_METRICS_RECORD);
+        bOperation.put(MESSAGES, operation.getMessages());
+        bOperation.put(BYTES, operation.getBytes());
+        BMap<BString, Object> errors = ValueCreator.createMapValue(ERRORS_TYPE);
+        operation.getErrors().forEach((reasonCode, count) -> errors.put(StringUtils.fromString(
+                reasonCode == ReasonCodes.UNKNOWN_REASON_CODE ? UNKNOWN_REASON : String.valueOf(reasonCode)), count));
+        bOperation.put(ERRORS, errors);
+        bOperation.put(LATENCY, toBallerina(operation.getLatency()));
+        return bOperation;
+    }
+
+    private static BMap<BString, Object> toBallerina(LatencyHistogram.Snapshot snapshot) {
+        BMap<BString, Object> latency = ValueCreator.createRecordValue(getModule(), LATENCY_METRICS_RECORD);
+        latency.put(MEAN, toSeconds(snapshot.mean()));
+        latency.put(P50, toSeconds(snapshot.p50()));
+        latency.put(P90, toSeconds(snapshot.p90()));
+        latency.put(P99, toSeconds(snapshot.p99()));
+        latency.put(MAX, toSeconds(snapshot.max()));
+        return latency;
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, NANOS_SCALE));
+    }
+}
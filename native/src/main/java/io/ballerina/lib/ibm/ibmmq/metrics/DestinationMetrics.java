@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.metrics;
+
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.Set;
+
+/**
+ * The client-side metrics of an IBM MQ queue or topic.
+ *
+ * @since 1.4.3
+ */
+public final class DestinationMetrics {
+    private final String name;
+    private final DestinationType type;
+    private final OperationMetrics put;
+    private final OperationMetrics get;
+    private final OperationMetrics handle;
+    private final ResidenceMetrics residence;
+
+    DestinationMetrics(String name, DestinationType type) {
+        this.name = name;
+        this.type = type;
+        this.put = new OperationMetrics(name, type.name(), "put");
+        this.get = new OperationMetrics(name, type.name(), "get");
+        this.handle = new OperationMetrics(name, type.name(), "handle");
+        this.residence = new ResidenceMetrics(Set.of(new Tag(OperationMetrics.DESTINATION_TAG, name),
+                new Tag(OperationMetrics.DESTINATION_TYPE_TAG, type.name())));
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public DestinationType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the metrics of the messages put to the destination.
+     *
+     * @return the put metrics
+     */
+    public OperationMetrics put() {
+        return this.put;
+    }
+
+    /**
+     * Returns the metrics of the messages retrieved from the destination.
+     *
+     * @return the get metrics
+     */
+    public OperationMetrics get() {
+        return this.get;
+    }
+
+    /**
+     * Returns the metrics of the messages dispatched to the services of a listener.
+     *
+     * @return the message handling metrics
+     */
+    public OperationMetrics handle() {
+        return this.handle;
+    }
+
+    /**
+     * Returns the residence time metrics of the messages consumed from the destination.
+     *
+     * @return the residence time metrics
+     */
+    public ResidenceMetrics residence() {
+        return this.residence;
+    }
+
+    /**
+     * The types of IBM MQ destinations.
+     */
+    public enum DestinationType {
+        QUEUE,
+        TOPIC
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with logarithmic buckets. Each power of two is split into eight linear sub-buckets,
+ * hence a recorded value is reported with a relative error of at most 12.5%. Recording a value is a single atomic
+ * increment on the bucket of the value, plus striped updates of the count and the sum.
+ *
+ * @since 1.4.3
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values up to 2^40 nanoseconds (~18 minutes) are bucketed, larger values are recorded in the last bucket.
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        this.buckets.incrementAndGet(getBucketIndex(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Takes a snapshot of the histogram. The snapshot is not atomic with respect to concurrent recordings, which can
+     * only skew it by the values recorded while it is taken.
+     *
+     * @return the snapshot of the recorded latencies
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = copyCounts(counts);
+        long maxValue = this.max.get();
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0);
+        }
+        return new Snapshot(total, this.sum.sum() / Math.max(this.count.sum(), 1),
+                getPercentile(counts, total, 0.50, maxValue), getPercentile(counts, total, 0.90, maxValue),
+                getPercentile(counts, total, 0.99, maxValue), maxValue);
+    }
+
+    /**
+     * Returns the latency at the given percentile of the recorded latencies, within the relative error of the
+     * buckets. Like {@link #snapshot()}, it is not atomic with respect to concurrent recordings.
+     *
+     * @param percentile the percentile, from 0 (the minimum) to 100 (the maximum)
+     * @return the latency in nanoseconds, or 0 if no latency is recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = copyCounts(counts);
+        if (total == 0) {
+            return 0;
+        }
+        return getPercentile(counts, total, percentile / 100, this.max.get());
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    private long copyCounts(long[] counts) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        return total;
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (SUB_BUCKETS + (index % SUB_BUCKETS)) * subBucketWidth;
+        return lowerBound + subBucketWidth - 1;
+    }
+
+    private static long getPercentile(long[] counts, long total, double percentile, long maxValue) {
+        // The lowest percentile is the bucket of the first recorded value.
+        long rank = Math.max((long) Math.ceil(percentile * total), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * A point-in-time view of a {@link LatencyHistogram}. All the values are in nanoseconds.
+     *
+     * @param count the number of recorded latencies
+     * @param mean  the mean latency
+     * @param p50   the median latency
+     * @param p90   the 90th percentile latency
+     * @param p99   the 99th percentile latency
+     * @param max   the maximum latency
+     */
+    public record Snapshot(long count, long mean, long p50, long p90, long p99, long max) {
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.metrics;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single operation (put, get or message handling) on an IBM MQ destination. When the Ballerina
+ * metrics are enabled, the counters are also published to the Ballerina metric registry, and the latency is published
+ * as a gauge whose statistics include its percentiles.
+ * <p>
+ * The size of a message is the length of its message data, which includes the headers carried in the data, such as an
+ * MQRFH2 header, but not the message properties.
+ *
+ * @since 1.4.3
+ */
+public final class OperationMetrics {
+    private static final String MESSAGES_METRIC = "ibmmq_messages_total";
+    private static final String BYTES_METRIC = "ibmmq_message_bytes_total";
+    private static final String LATENCY_METRIC = "ibmmq_latency_seconds";
+    private static final String ERRORS_METRIC = "ibmmq_errors_total";
+    static final String DESTINATION_TAG = "destination";
+    static final String DESTINATION_TYPE_TAG = "destination_type";
+    private static final String OPERATION_TAG = "operation";
+    private static final String REASON_CODE_TAG = "reason_code";
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    // The percentiles of the latencies recorded within the last minute, which match those of the client-side metrics.
+    private static final StatisticConfig LATENCY_STATISTICS = StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(1))
+            .buckets(5)
+            .percentiles(0.5, 0.9, 0.99)
+            .build();
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final Map<Integer, ErrorCount> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Set<Tag> tags;
+    private final Counter observedMessages;
+    private final Counter observedBytes;
+    private final Gauge observedLatency;
+
+    OperationMetrics(String destination, String destinationType, String operation) {
+        this.tags = Set.of(new Tag(DESTINATION_TAG, destination), new Tag(DESTINATION_TYPE_TAG, destinationType),
+                new Tag(OPERATION_TAG, operation));
+        if (ObserveUtils.isMetricsEnabled()) {
+            this.observedMessages = counter(MESSAGES_METRIC, "Number of IBM MQ messages processed", this.tags);
+            this.observedBytes = counter(BYTES_METRIC, "Number of IBM MQ message bytes processed, including the " +
+                    "headers in the message data", this.tags);
+            this.observedLatency = DefaultMetricRegistry.getInstance().gauge(
+                    new MetricId(LATENCY_METRIC, "Latency of the IBM MQ operations", this.tags), LATENCY_STATISTICS);
+        } else {
+            this.observedMessages = null;
+            this.observedBytes = null;
+            this.observedLatency = null;
+        }
+    }
+
+    /**
+     * Records a successfully completed operation.
+     *
+     * @param nanos        the latency of the operation in nanoseconds
+     * @param messageBytes the length of the message data, including its headers, or zero if it is not known
+     */
+    public void recordSuccess(long nanos, long messageBytes) {
+        this.messages.increment();
+        this.bytes.add(messageBytes);
+        this.latency.record(nanos);
+        if (Objects.nonNull(this.observedMessages)) {
+            this.observedMessages.increment();
+            this.observedBytes.increment(messageBytes);
+            this.observedLatency.setValue(nanos / NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Records a failed operation.
+     *
+     * @param t the error of the operation
+     */
+    public void recordError(Throwable t) {
+        int reasonCode = ReasonCodes.getReasonCode(t);
+        this.errors.computeIfAbsent(reasonCode, this::createErrorCount).increment();
+    }
+
+    long getMessages() {
+        return this.messages.sum();
+    }
+
+    long getBytes() {
+        return this.bytes.sum();
+    }
+
+    Map<Integer, Long> getErrors() {
+        Map<Integer, Long> errorCounts = new HashMap<>();
+        this.errors.forEach((reasonCode, count) -> errorCounts.put(reasonCode, count.count.sum()));
+        return errorCounts;
+    }
+
+    LatencyHistogram.Snapshot getLatency() {
+        return this.latency.snapshot();
+    }
+
+    private ErrorCount createErrorCount(int reasonCode) {
+        if (Objects.isNull(this.observedMessages)) {
+            return new ErrorCount(null);
+        }
+        Set<Tag> errorTags = new HashSet<>(this.tags);
+        errorTags.add(new Tag(REASON_CODE_TAG, String.valueOf(reasonCode)));
+        return new ErrorCount(counter(ERRORS_METRIC, "Number of failed IBM MQ operations", errorTags));
+    }
+
+    private static Counter counter(String name, String description, Set<Tag> tags) {
+        return DefaultMetricRegistry.getInstance().counter(new MetricId(name, description, tags));
+    }
+
+    private static final class ErrorCount {
+        private final LongAdder count = new LongAdder();
+        private final Counter observed;
+
+        private ErrorCount(Counter observed) {
+            this.observed = observed;
+        }
+
+        private void increment() {
+            this.count.increment();
+            if (Objects.nonNull(this.observed)) {
+                this.observed.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.metrics;
+
+import com.ibm.mq.MQException;
+
+import java.util.Objects;
+
+import javax.jms.JMSException;
+
+/**
+ * Resolves the MQ reason code of the errors raised by the IBM MQ client libraries.
+ *
+ * @since 1.4.3
+ */
+public final class ReasonCodes {
+    public static final int UNKNOWN_REASON_CODE = -1;
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    private ReasonCodes() {
+    }
+
+    /**
+     * Returns the MQ reason code of an error. The cause chain and the linked exceptions of JMS errors are followed
+     * until an {@link MQException} is found.
+     *
+     * @param t the error
+     * @return the MQ reason code, or {@link #UNKNOWN_REASON_CODE} if the error is not caused by an MQ error
+     */
+    public static int getReasonCode(Throwable t) {
+        Throwable current = t;
+        for (int i = 0; i < MAX_CAUSE_DEPTH && Objects.nonNull(current); i++) {
+            if (current instanceof MQException mqException) {
+                return mqException.reasonCode;
+            }
+            if (current instanceof JMSException jmsException && Objects.nonNull(jmsException.getLinkedException())) {
+                current = jmsException.getLinkedException();
+            } else {
+                current = current.getCause();
+            }
+        }
+        return UNKNOWN_REASON_CODE;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.metrics;
+
+import com.ibm.mq.MQMessage;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.GregorianCalendar;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * The residence time metrics of the messages consumed from an IBM MQ destination. The residence time of a message is
+ * the time between the message being put, as recorded by the queue manager, and the message being received. Since the
+ * put time is recorded by the clock of the queue manager, the residence time is skewed by the clock difference between
+ * the queue manager and the client.
+ *
+ * @since 1.4.3
+ */
+public final class ResidenceMetrics {
+    private static final long WINDOW = TimeUnit.MINUTES.toMillis(1);
+    private static final String OLDEST_AGE_METRIC = "ibmmq_oldest_message_age_seconds";
+
+    private final LatencyHistogram residenceTime = new LatencyHistogram();
+    private final Gauge observedOldestAge;
+    private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+    private volatile LongAccumulator currentWindowMax = new LongAccumulator(Long::max, 0);
+    private volatile long previousWindowMax = 0;
+
+    ResidenceMetrics(Set<Tag> tags) {
+        this.observedOldestAge = ObserveUtils.isMetricsEnabled() ? DefaultMetricRegistry.getInstance().gauge(
+                new MetricId(OLDEST_AGE_METRIC, "Age of the oldest IBM MQ message received within the last minute",
+                        tags)) : null;
+    }
+
+    /**
+     * Records the residence time of a message received with the MQI, using the put date and time of its message
+     * descriptor.
+     *
+     * @param message the received message
+     */
+    public void record(MQMessage message) {
+        GregorianCalendar putDateTime = message.putDateTime;
+        record(Objects.isNull(putDateTime) ? 0 : putDateTime.getTimeInMillis());
+    }
+
+    /**
+     * Records the residence time of a received message.
+     *
+     * @param putTimeMillis the put time of the message in milliseconds since the epoch, or zero if it is not known
+     */
+    public void record(long putTimeMillis) {
+        if (putTimeMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long residenceMillis = Math.max(now - putTimeMillis, 0);
+        this.residenceTime.record(TimeUnit.MILLISECONDS.toNanos(residenceMillis));
+        rotateWindow(now);
+        this.currentWindowMax.accumulate(residenceMillis);
+        if (Objects.nonNull(this.observedOldestAge)) {
+            this.observedOldestAge.setValue(getOldestAgeMillis() / 1000.0);
+        }
+    }
+
+    LatencyHistogram.Snapshot getResidenceTime() {
+        return this.residenceTime.snapshot();
+    }
+
+    /**
+     * Returns the age of the oldest message received within the last one to two minutes, so that the gauge reflects
+     * the current lag of the consumers rather than the all-time maximum.
+     *
+     * @return the age of the oldest recently received message in milliseconds
+     */
+    long getOldestAgeMillis() {
+        rotateWindow(System.currentTimeMillis());
+        return Math.max(this.currentWindowMax.get(), this.previousWindowMax);
+    }
+
+    private void rotateWindow(long now) {
+        long start = this.windowStart.get();
+        if (now - start < WINDOW || !this.windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        LongAccumulator completedWindow = this.currentWindowMax;
+        this.currentWindowMax = new LongAccumulator(Long::max, 0);
+        // A window which completed more than a window ago does not represent the current lag.
+        this.previousWindowMax = now - start < 2 * WINDOW ? completedWindow.get() : 0;
+    }
+}
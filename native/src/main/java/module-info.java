@@ -23,4 +23,5 @@ module io.ballerina.lib.ibm.ibmmq {
     requires com.ibm.mq.javax;
     requires javax.jms.api;
     requires java.xml;
+    requires jdk.jfr;
 }
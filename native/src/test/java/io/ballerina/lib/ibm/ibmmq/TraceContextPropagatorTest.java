@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+import com.ibm.mq.MQMessage;
+import io.ballerina.lib.ibm.ibmmq.testing.InMemoryJms;
+import io.ballerina.lib.ibm.ibmmq.testing.InMemoryQueueManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.jms.Message;
+import javax.jms.Session;
+
+import static io.ballerina.lib.ibm.ibmmq.TraceContextPropagator.TRACE_PARENT;
+import static io.ballerina.lib.ibm.ibmmq.TraceContextPropagator.TRACE_STATE;
+
+/**
+ * Tests the injection and the extraction of the W3C trace context by {@link TraceContextPropagator}.
+ */
+public class TraceContextPropagatorTest {
+    private static final String SAMPLED_TRACE_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+    private static final String UNSAMPLED_TRACE_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00";
+    private static final String TRACE_STATE_VALUE = "vendor=value";
+
+    private InMemoryQueueManager queueManager;
+    private Session session;
+
+    @BeforeClass
+    public void setUp() {
+        this.queueManager = InMemoryQueueManager.start("QM_TRACE");
+        this.session = InMemoryJms.session(this.queueManager);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        this.queueManager.stop();
+    }
+
+    @Test
+    public void testInjectIntoMqMessage() throws Exception {
+        MQMessage message = new MQMessage();
+        TraceContextPropagator.inject(Map.of(TRACE_PARENT, SAMPLED_TRACE_PARENT, TRACE_STATE, TRACE_STATE_VALUE),
+                message);
+        Assert.assertEquals(message.getStringProperty(TRACE_PARENT), SAMPLED_TRACE_PARENT);
+        Assert.assertEquals(message.getStringProperty(TRACE_STATE), TRACE_STATE_VALUE);
+    }
+
+    @Test
+    public void testInjectOnlyTheTraceContext() throws Exception {
+        // The other propagation keys of the tracer are not copied, including those which are not valid property names.
+        MQMessage message = new MQMessage();
+        TraceContextPropagator.inject(Map.of(TRACE_PARENT, SAMPLED_TRACE_PARENT, "uber-trace-id", "a:b:c:1"), message);
+        Assert.assertEquals(message.getStringProperty(TRACE_PARENT), SAMPLED_TRACE_PARENT);
+        Assert.assertEquals(Collections.list(message.getPropertyNames("%")), List.of(TRACE_PARENT));
+    }
+
+    @Test
+    public void testInjectAndExtractJmsMessage() throws Exception {
+        Message message = this.session.createTextMessage("traced");
+        TraceContextPropagator.inject(Map.of(TRACE_PARENT, SAMPLED_TRACE_PARENT, TRACE_STATE, TRACE_STATE_VALUE),
+                message);
+        Assert.assertEquals(TraceContextPropagator.extract(message),
+                Map.of(TRACE_PARENT, SAMPLED_TRACE_PARENT, TRACE_STATE, TRACE_STATE_VALUE));
+    }
+
+    @Test
+    public void testExtractFollowsUnsampledTraceContext() throws Exception {
+        // The consumer does not sample again, the unsampled flag is passed on to the tracer as is.
+        Message message = this.session.createTextMessage("not sampled");
+        message.setStringProperty(TRACE_PARENT, UNSAMPLED_TRACE_PARENT);
+        Assert.assertEquals(TraceContextPropagator.extract(message), Map.of(TRACE_PARENT, UNSAMPLED_TRACE_PARENT));
+    }
+
+    @Test
+    public void testExtractWithoutTraceContext() throws Exception {
+        Assert.assertNull(TraceContextPropagator.extract(this.session.createTextMessage("untraced")));
+    }
+
+    @Test
+    public void testExtractIgnoresMalformedTraceParent() throws Exception {
+        Message message = this.session.createTextMessage("malformed");
+        message.setStringProperty(TRACE_PARENT, "00-4bf92f3577b34da6-01");
+        Assert.assertNull(TraceContextPropagator.extract(message));
+    }
+}
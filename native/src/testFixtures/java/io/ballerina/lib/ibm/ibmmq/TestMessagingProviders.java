@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq;
+
+/**
+ * Installs the {@link MessagingProvider} of a stand-in of the queue manager. It lives in the test fixtures, so that
+ * the connections can only be taken over when the test fixtures are used.
+ *
+ * @since 1.4.3
+ */
+public final class TestMessagingProviders {
+
+    private TestMessagingProviders() {
+    }
+
+    /**
+     * Installs a provider, which serves the queue managers whose configuration it accepts.
+     *
+     * @param provider the provider
+     */
+    public static void install(MessagingProvider provider) {
+        MessagingProviders.install(provider);
+    }
+}
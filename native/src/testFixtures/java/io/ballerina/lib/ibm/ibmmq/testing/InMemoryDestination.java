@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A queue, or a subscription to a topic, of the in-memory queue manager. The messages are delivered in the order in
+ * which they were put, unless a message is selected by its message or correlation identifier.
+ *
+ * @since 1.4.3
+ */
+public final class InMemoryDestination {
+    private final String name;
+    private final ArrayDeque<StoredMessage> messages = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageAvailable = this.lock.newCondition();
+
+    InMemoryDestination(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of messages on the destination.
+     *
+     * @return the depth of the destination
+     */
+    public int getDepth() {
+        this.lock.lock();
+        try {
+            return this.messages.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void put(StoredMessage message) {
+        this.lock.lock();
+        try {
+            this.messages.addLast(message);
+            this.messageAvailable.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a message to the head of the destination, as a backed out message is got before the others.
+     *
+     * @param message the message
+     */
+    public void putFirst(StoredMessage message) {
+        this.lock.lock();
+        try {
+            this.messages.addFirst(message);
+            this.messageAvailable.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first message which matches the given identifiers, waiting for one to arrive if needed.
+     *
+     * @param messageId     the message identifier to match, or {@code null} to match any message
+     * @param correlationId the correlation identifier to match, or {@code null} to match any message
+     * @param timeoutMillis the maximum time to wait, or a negative value to wait until a message arrives
+     * @return the message, or {@code null} if no message matched within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public StoredMessage take(byte[] messageId, byte[] correlationId, long timeoutMillis)
+            throws InterruptedException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.lock.lock();
+        try {
+            while (true) {
+                StoredMessage message = removeFirstMatch(messageId, correlationId);
+                if (Objects.nonNull(message)) {
+                    return message;
+                }
+                if (timeoutMillis < 0) {
+                    this.messageAvailable.await();
+                } else if (remaining <= 0) {
+                    return null;
+                } else {
+                    remaining = this.messageAvailable.awaitNanos(remaining);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the messages from the destination.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.messages.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private StoredMessage removeFirstMatch(byte[] messageId, byte[] correlationId) {
+        Iterator<StoredMessage> iterator = this.messages.iterator();
+        while (iterator.hasNext()) {
+            StoredMessage message = iterator.next();
+            if ((Objects.isNull(messageId) || Arrays.equals(messageId, message.messageId())) &&
+                    (Objects.isNull(correlationId) || Arrays.equals(correlationId, message.correlationId()))) {
+                iterator.remove();
+                return message;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQGetMessageOptions;
+import com.ibm.mq.MQMessage;
+import com.ibm.mq.MQPutMessageOptions;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.DestinationHandle;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The {@link DestinationHandle} of a queue or a topic of the in-memory queue manager. The messages put or got under a
+ * syncpoint are a part of the unit of work of the connection which opened the destination.
+ *
+ * @since 1.4.3
+ */
+final class InMemoryDestinationHandle implements DestinationHandle {
+    private final InMemoryQueueManager queueManager;
+    private final UnitOfWork unitOfWork;
+    private final String name;
+    private final InMemoryDestination source;
+    private final Consumer<StoredMessage> sink;
+    private final Runnable onClose;
+
+    private InMemoryDestinationHandle(InMemoryQueueManager queueManager, UnitOfWork unitOfWork, String name,
+                                      InMemoryDestination source, Consumer<StoredMessage> sink, Runnable onClose) {
+        this.queueManager = queueManager;
+        this.unitOfWork = unitOfWork;
+        this.name = name;
+        this.source = source;
+        this.sink = sink;
+        this.onClose = onClose;
+    }
+
+    static InMemoryDestinationHandle forQueue(InMemoryQueueManager queueManager, UnitOfWork unitOfWork,
+                                              InMemoryDestination queue) {
+        return new InMemoryDestinationHandle(queueManager, unitOfWork, queue.getName(), queue, queue::put, () -> { });
+    }
+
+    static InMemoryDestinationHandle forPublisher(InMemoryQueueManager queueManager, UnitOfWork unitOfWork,
+                                                  String topicString) {
+        return new InMemoryDestinationHandle(queueManager, unitOfWork, topicString, null,
+                message -> queueManager.publish(topicString, message), () -> { });
+    }
+
+    static InMemoryDestinationHandle forSubscriber(InMemoryQueueManager queueManager, UnitOfWork unitOfWork,
+                                                   String topicString) {
+        InMemoryDestination subscription = queueManager.subscribe(topicString);
+        return new InMemoryDestinationHandle(queueManager, unitOfWork, topicString, subscription, null,
+                () -> queueManager.unsubscribe(topicString, subscription));
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void put(MQMessage message, MQPutMessageOptions options) throws MQException {
+        if (Objects.isNull(this.sink)) {
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_NOT_OPEN_FOR_OUTPUT, this);
+        }
+        if (Arrays.equals(message.messageId, CMQC.MQMI_NONE)) {
+            // As the queue manager does, the generated message identifier is returned in the message descriptor.
+            message.messageId = this.queueManager.newMessageId();
+        }
+        message.putDateTime = new GregorianCalendar();
+        StoredMessage storedMessage = toStoredMessage(message);
+        if ((options.options & CMQC.MQPMO_SYNCPOINT) != 0) {
+            this.unitOfWork.put(() -> this.sink.accept(storedMessage));
+        } else {
+            this.sink.accept(storedMessage);
+        }
+    }
+
+    @Override
+    public void get(MQMessage message, MQGetMessageOptions options) throws MQException {
+        if (Objects.isNull(this.source)) {
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_NOT_OPEN_FOR_INPUT, this);
+        }
+        byte[] messageId = (options.matchOptions & CMQC.MQMO_MATCH_MSG_ID) != 0 ? message.messageId : null;
+        byte[] correlationId = (options.matchOptions & CMQC.MQMO_MATCH_CORREL_ID) != 0 ?
+                message.correlationId : null;
+        long timeout = (options.options & CMQC.MQGMO_WAIT) == 0 ? 0 :
+                options.waitInterval == CMQC.MQWI_UNLIMITED ? -1 : options.waitInterval;
+        StoredMessage storedMessage;
+        try {
+            storedMessage = this.source.take(messageId, correlationId, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_CALL_INTERRUPTED, this);
+        }
+        if (Objects.isNull(storedMessage)) {
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_NO_MSG_AVAILABLE, this);
+        }
+        if ((options.options & CMQC.MQGMO_SYNCPOINT) != 0 ||
+                ((options.options & CMQC.MQGMO_SYNCPOINT_IF_PERSISTENT) != 0 && storedMessage.persistent())) {
+            this.unitOfWork.got(this.source, storedMessage);
+        }
+        populateMqMessage(storedMessage, message);
+    }
+
+    @Override
+    public int getCurrentDepth() throws MQException {
+        if (Objects.isNull(this.source)) {
+            throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_SELECTOR_NOT_FOR_TYPE, this);
+        }
+        return this.source.getDepth();
+    }
+
+    @Override
+    public void close() {
+        this.onClose.run();
+    }
+
+    private StoredMessage toStoredMessage(MQMessage message) throws MQException {
+        try {
+            message.seek(0);
+            byte[] body = new byte[message.getMessageLength()];
+            message.readFully(body);
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (String propertyName : Collections.list(message.getPropertyNames("%"))) {
+                properties.put(propertyName, message.getObjectProperty(propertyName));
+            }
+            return new StoredMessage(body, properties, message.format, message.messageId.clone(),
+                    message.correlationId.clone(), message.priority, message.persistence == CMQC.MQPER_PERSISTENT,
+                    message.replyToQueueName.strip(), message.putDateTime.getTimeInMillis(), 0);
+        } catch (IOException e) {
+            throw dataError(this, e);
+        }
+    }
+
+    private static void populateMqMessage(StoredMessage storedMessage, MQMessage message) throws MQException {
+        try {
+            message.clearMessage();
+            message.write(storedMessage.body());
+            message.seek(0);
+        } catch (IOException e) {
+            throw dataError(message, e);
+        }
+        for (Map.Entry<String, Object> property : storedMessage.properties().entrySet()) {
+            message.setObjectProperty(property.getKey(), property.getValue());
+        }
+        message.format = storedMessage.format();
+        message.messageId = storedMessage.messageId().clone();
+        message.correlationId = storedMessage.correlationId().clone();
+        message.priority = storedMessage.priority();
+        message.backoutCount = storedMessage.backoutCount();
+        message.persistence = storedMessage.persistent() ? CMQC.MQPER_PERSISTENT : CMQC.MQPER_NOT_PERSISTENT;
+        message.replyToQueueName = storedMessage.replyToQueueName();
+        message.replyToQueueManagerName = "";
+        GregorianCalendar putDateTime = new GregorianCalendar();
+        putDateTime.setTimeInMillis(storedMessage.putTimeMillis());
+        message.putDateTime = putDateTime;
+    }
+
+    private static MQException dataError(Object source, IOException cause) {
+        MQException exception = new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_DATA_LENGTH_ERROR, source);
+        exception.initCause(cause);
+        return exception;
+    }
+}
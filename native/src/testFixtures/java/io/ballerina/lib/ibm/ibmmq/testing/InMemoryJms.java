@@ -0,0 +1,586 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import com.ibm.mq.constants.CMQC;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.jms.BytesMessage;
+import javax.jms.CompletionListener;
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.ExceptionListener;
+import javax.jms.IllegalStateException;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import javax.jms.Topic;
+
+/**
+ * A JMS client of the in-memory queue manager. The connections, sessions, producers, consumers and messages are
+ * dynamic proxies which support the operations used by the connector, with bytes and text messages only.
+ * <p>
+ * The messages received by a transacted or a client acknowledged session are redelivered when the session is rolled
+ * back or recovered. Once a connection is broken by {@link InMemoryQueueManager#breakConnections()}, its exception
+ * listener is notified and the receives of its consumers fail. Message selectors are rejected.
+ *
+ * @since 1.4.3
+ */
+public final class InMemoryJms {
+    private static final long RECEIVE_SLICE_MILLIS = 100;
+    private static final String QUEUE_PREFIX = "queue:///";
+    private static final String TOPIC_PREFIX = "topic://";
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(
+            int.class, 0, long.class, 0L, boolean.class, false, byte.class, (byte) 0,
+            short.class, (short) 0, float.class, 0f, double.class, 0d);
+
+    private InMemoryJms() {
+    }
+
+    /**
+     * Creates a JMS connection to the given in-memory queue manager.
+     *
+     * @param queueManager the in-memory queue manager
+     * @return the connection
+     */
+    public static Connection connection(InMemoryQueueManager queueManager) {
+        ConnectionHandler handler = new ConnectionHandler(queueManager);
+        return proxy(Connection.class, handler::invoke);
+    }
+
+    /**
+     * Creates a JMS session on a new connection to the given in-memory queue manager.
+     *
+     * @param queueManager the in-memory queue manager
+     * @return the session
+     */
+    public static Session session(InMemoryQueueManager queueManager) {
+        return new SessionHandler(queueManager, false, Session.AUTO_ACKNOWLEDGE, () -> false).session;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(InMemoryJms.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.invoke(method, Objects.isNull(args) ? new Object[0] : args);
+                }));
+    }
+
+    private static Queue queue(String name) {
+        return proxy(Queue.class, (method, args) -> switch (method.getName()) {
+            case "getQueueName" -> name;
+            case "toString" -> QUEUE_PREFIX + name;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static Topic topic(String name) {
+        return proxy(Topic.class, (method, args) -> switch (method.getName()) {
+            case "getTopicName" -> name;
+            case "toString" -> TOPIC_PREFIX + name;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static void rejectSelector(Object[] args, int index) throws JMSException {
+        if (args.length > index && args[index] instanceof String selector && !selector.isBlank()) {
+            throw new JMSException("Message selectors are not supported by the in-memory queue manager");
+        }
+    }
+
+    /**
+     * Invoked for the methods of a proxy, other than {@code hashCode} and {@code equals}.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
+
+    private static JMSException connectionBroken() {
+        return new JMSException("The connection to the in-memory queue manager is broken",
+                String.valueOf(CMQC.MQRC_CONNECTION_BROKEN));
+    }
+
+    private static final class ConnectionHandler {
+        private final InMemoryQueueManager queueManager;
+        private final Runnable breaker = this::breakConnection;
+        private String clientId;
+        private volatile Object exceptionListener;
+        private volatile boolean broken;
+
+        private ConnectionHandler(InMemoryQueueManager queueManager) {
+            this.queueManager = queueManager;
+            queueManager.addConnection(this.breaker);
+        }
+
+        private Object invoke(Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "createSession" -> {
+                    boolean transacted = args.length > 0 && args[0] instanceof Boolean value && value;
+                    int ackMode = args.length > 1 ? (int) args[1] :
+                            args.length == 1 && args[0] instanceof Integer value ? value : Session.AUTO_ACKNOWLEDGE;
+                    yield new SessionHandler(this.queueManager, transacted, ackMode, () -> this.broken).session;
+                }
+                case "getClientID" -> this.clientId;
+                case "setClientID" -> {
+                    this.clientId = (String) args[0];
+                    yield null;
+                }
+                case "getExceptionListener" -> this.exceptionListener;
+                case "setExceptionListener" -> {
+                    this.exceptionListener = args[0];
+                    yield null;
+                }
+                case "start", "stop" -> null;
+                case "close" -> {
+                    this.queueManager.removeConnection(this.breaker);
+                    yield null;
+                }
+                case "toString" -> "InMemoryConnection:" + this.queueManager.getName();
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+
+        /**
+         * Breaks the connection, as a failure of the network does. The exception listener is notified and the
+         * receives of the consumers of its sessions fail from now on.
+         */
+        private void breakConnection() {
+            this.broken = true;
+            if (this.exceptionListener instanceof ExceptionListener listener) {
+                listener.onException(connectionBroken());
+            }
+        }
+    }
+
+    /**
+     * A session, whose unit of work holds the sent and the received messages of a transacted session until it is
+     * committed, and the received messages of a client acknowledged session until they are acknowledged.
+     */
+    private static final class SessionHandler {
+        private final InMemoryQueueManager queueManager;
+        private final boolean transacted;
+        private final int ackMode;
+        private final UnitOfWork unitOfWork;
+        private final BooleanSupplier broken;
+        private final Session session;
+
+        private SessionHandler(InMemoryQueueManager queueManager, boolean transacted, int ackMode,
+                               BooleanSupplier broken) {
+            this.queueManager = queueManager;
+            this.transacted = transacted;
+            this.broken = broken;
+            this.ackMode = transacted ? Session.SESSION_TRANSACTED : ackMode;
+            this.unitOfWork = transacted || ackMode == Session.CLIENT_ACKNOWLEDGE ? new UnitOfWork() : null;
+            this.session = proxy(Session.class, this::invoke);
+        }
+
+        private Object invoke(Method method, Object[] args) throws JMSException {
+            return switch (method.getName()) {
+                case "createBytesMessage" -> new MessageHandler(false).message;
+                case "createTextMessage" -> {
+                    MessageHandler handler = new MessageHandler(true);
+                    handler.text = args.length > 0 ? (String) args[0] : null;
+                    yield handler.message;
+                }
+                case "createQueue" -> queue((String) args[0]);
+                case "createTopic" -> topic((String) args[0]);
+                case "createProducer" -> new ProducerHandler(this.queueManager, (Destination) args[0],
+                        this.transacted ? this.unitOfWork : null).producer;
+                case "createConsumer" -> {
+                    rejectSelector(args, 1);
+                    if (args[0] instanceof Queue queue) {
+                        yield new ConsumerHandler(this.queueManager.queue(queue.getQueueName()), this.unitOfWork,
+                                null, this.broken).consumer;
+                    }
+                    String topicString = ((Topic) args[0]).getTopicName();
+                    InMemoryDestination subscription = this.queueManager.subscribe(topicString);
+                    yield new ConsumerHandler(subscription, this.unitOfWork,
+                            () -> this.queueManager.unsubscribe(topicString, subscription), this.broken).consumer;
+                }
+                case "createDurableConsumer", "createDurableSubscriber", "createSharedConsumer",
+                     "createSharedDurableConsumer" -> {
+                    // The non-durable shared subscriptions are kept as well, which does not affect the consumers.
+                    rejectSelector(args, 2);
+                    yield new ConsumerHandler(this.queueManager.subscribe(((Topic) args[0]).getTopicName(),
+                            (String) args[1]), this.unitOfWork, null, this.broken).consumer;
+                }
+                case "getTransacted" -> this.transacted;
+                case "getAcknowledgeMode" -> this.ackMode;
+                case "commit" -> {
+                    if (!this.transacted) {
+                        throw new IllegalStateException("The session is not transacted");
+                    }
+                    this.unitOfWork.commit();
+                    yield null;
+                }
+                case "rollback" -> {
+                    if (!this.transacted) {
+                        throw new IllegalStateException("The session is not transacted");
+                    }
+                    this.unitOfWork.backout();
+                    yield null;
+                }
+                case "recover", "close" -> {
+                    // The messages which are not acknowledged, or not committed, are redelivered.
+                    if (Objects.nonNull(this.unitOfWork)) {
+                        this.unitOfWork.backout();
+                    }
+                    yield null;
+                }
+                case "toString" -> "InMemorySession:" + this.queueManager.getName();
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+    }
+
+    private static final class ProducerHandler {
+        private final InMemoryQueueManager queueManager;
+        private final Destination destination;
+        private final UnitOfWork unitOfWork;
+        private final MessageProducer producer;
+        private int deliveryMode = DeliveryMode.PERSISTENT;
+        private int priority = Message.DEFAULT_PRIORITY;
+        private long timeToLive = Message.DEFAULT_TIME_TO_LIVE;
+
+        private ProducerHandler(InMemoryQueueManager queueManager, Destination destination, UnitOfWork unitOfWork) {
+            this.queueManager = queueManager;
+            this.destination = destination;
+            this.unitOfWork = unitOfWork;
+            this.producer = proxy(MessageProducer.class, this::invoke);
+        }
+
+        private Object invoke(Method method, Object[] args) throws JMSException {
+            switch (method.getName()) {
+                case "send" -> {
+                    if (args[args.length - 1] instanceof CompletionListener) {
+                        throw new UnsupportedOperationException("Asynchronous send is not supported");
+                    }
+                    boolean withDestination = args[0] instanceof Destination;
+                    Destination target = withDestination ? (Destination) args[0] : this.destination;
+                    int offset = withDestination ? 1 : 0;
+                    Message message = (Message) args[offset];
+                    if (args.length > offset + 1) {
+                        send(target, message, (int) args[offset + 1], (int) args[offset + 2],
+                                (long) args[offset + 3]);
+                    } else {
+                        send(target, message, this.deliveryMode, this.priority, this.timeToLive);
+                    }
+                    return null;
+                }
+                case "setDeliveryMode" -> this.deliveryMode = (int) args[0];
+                case "getDeliveryMode" -> {
+                    return this.deliveryMode;
+                }
+                case "setPriority" -> this.priority = (int) args[0];
+                case "getPriority" -> {
+                    return this.priority;
+                }
+                case "setTimeToLive" -> this.timeToLive = (long) args[0];
+                case "getTimeToLive" -> {
+                    return this.timeToLive;
+                }
+                case "getDestination" -> {
+                    return this.destination;
+                }
+                case "close" -> {
+                    return null;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+            return null;
+        }
+
+        private void send(Destination target, Message message, int deliveryMode, int priority, long timeToLive)
+                throws JMSException {
+            if (Objects.isNull(target)) {
+                throw new JMSException("A destination is required to send a message");
+            }
+            byte[] messageId = this.queueManager.newMessageId();
+            long timestamp = System.currentTimeMillis();
+            message.setJMSMessageID("ID:" + HexFormat.of().formatHex(messageId));
+            message.setJMSTimestamp(timestamp);
+            message.setJMSDestination(target);
+            message.setJMSDeliveryMode(deliveryMode);
+            message.setJMSPriority(priority);
+            message.setJMSExpiration(timeToLive == 0 ? 0 : timestamp + timeToLive);
+            StoredMessage storedMessage = toStoredMessage(message, messageId, timestamp);
+            Runnable delivery = target instanceof Queue queue ?
+                    () -> this.queueManager.queue(queue.getQueueName()).put(storedMessage) :
+                    () -> this.queueManager.publish(((Topic) target).getTopicName(), storedMessage);
+            if (Objects.nonNull(this.unitOfWork)) {
+                this.unitOfWork.put(delivery);
+            } else {
+                delivery.run();
+            }
+        }
+
+        private static StoredMessage toStoredMessage(Message message, byte[] messageId, long timestamp)
+                throws JMSException {
+            byte[] body;
+            String format;
+            if (message instanceof TextMessage textMessage) {
+                String text = textMessage.getText();
+                body = Objects.isNull(text) ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+                format = CMQC.MQFMT_STRING;
+            } else if (message instanceof BytesMessage bytesMessage) {
+                bytesMessage.reset();
+                body = new byte[(int) bytesMessage.getBodyLength()];
+                bytesMessage.readBytes(body);
+                format = CMQC.MQFMT_NONE;
+            } else {
+                throw new JMSException("Only the bytes and text messages are supported by the in-memory queue manager");
+            }
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (Object name : Collections.list(message.getPropertyNames())) {
+                properties.put((String) name, message.getObjectProperty((String) name));
+            }
+            byte[] correlationId = message.getJMSCorrelationIDAsBytes();
+            Destination replyTo = message.getJMSReplyTo();
+            return new StoredMessage(body, properties, format, messageId,
+                    Objects.isNull(correlationId) ? CMQC.MQCI_NONE : correlationId, message.getJMSPriority(),
+                    message.getJMSDeliveryMode() == DeliveryMode.PERSISTENT,
+                    replyTo instanceof Queue queue ? queue.getQueueName() : "", timestamp, 0);
+        }
+    }
+
+    private static final class ConsumerHandler {
+        private final InMemoryDestination source;
+        private final UnitOfWork unitOfWork;
+        private final Runnable onClose;
+        private final BooleanSupplier broken;
+        private final MessageConsumer consumer;
+        private volatile boolean closed;
+
+        private ConsumerHandler(InMemoryDestination source, UnitOfWork unitOfWork, Runnable onClose,
+                                BooleanSupplier broken) {
+            this.source = source;
+            this.unitOfWork = unitOfWork;
+            this.onClose = onClose;
+            this.broken = broken;
+            this.consumer = proxy(MessageConsumer.class, this::invoke);
+        }
+
+        private Object invoke(Method method, Object[] args) throws JMSException {
+            return switch (method.getName()) {
+                case "receive" -> receive(args.length == 0 || (long) args[0] == 0 ? -1 : (long) args[0]);
+                case "receiveNoWait" -> receive(0);
+                case "getMessageSelector" -> null;
+                case "close" -> {
+                    if (!this.closed && Objects.nonNull(this.onClose)) {
+                        this.onClose.run();
+                    }
+                    this.closed = true;
+                    yield null;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+
+        /**
+         * Receives the next message. The wait is split into short slices, so that a receive in progress returns
+         * shortly after the consumer is closed, as it does with IBM MQ, and fails shortly after the connection is
+         * broken.
+         */
+        private Message receive(long timeoutMillis) throws JMSException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, 0));
+            try {
+                while (!this.closed) {
+                    if (this.broken.getAsBoolean()) {
+                        throw connectionBroken();
+                    }
+                    long remaining = timeoutMillis < 0 ? RECEIVE_SLICE_MILLIS :
+                            TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    StoredMessage storedMessage = this.source.take(null, null,
+                            Math.max(Math.min(remaining, RECEIVE_SLICE_MILLIS), 0));
+                    if (Objects.nonNull(storedMessage)) {
+                        if (Objects.isNull(this.unitOfWork)) {
+                            return toJmsMessage(storedMessage, null);
+                        }
+                        this.unitOfWork.got(this.source, storedMessage);
+                        return toJmsMessage(storedMessage, this.unitOfWork::commit);
+                    }
+                    if (timeoutMillis >= 0 && remaining <= 0) {
+                        return null;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+
+        private static Message toJmsMessage(StoredMessage storedMessage, Runnable onAcknowledge) {
+            boolean text = CMQC.MQFMT_STRING.equals(storedMessage.format());
+            MessageHandler handler = new MessageHandler(text);
+            handler.onAcknowledge = onAcknowledge;
+            if (text) {
+                handler.text = new String(storedMessage.body(), StandardCharsets.UTF_8);
+            } else {
+                handler.body.writeBytes(storedMessage.body());
+                handler.reset();
+            }
+            handler.properties.putAll(storedMessage.properties());
+            handler.properties.put("JMSXDeliveryCount", storedMessage.backoutCount() + 1);
+            handler.headers.put("JMSRedelivered", storedMessage.backoutCount() > 0);
+            handler.headers.put("JMSMessageID", "ID:" + HexFormat.of().formatHex(storedMessage.messageId()));
+            handler.headers.put("JMSCorrelationIDAsBytes", storedMessage.correlationId());
+            handler.headers.put("JMSPriority", storedMessage.priority());
+            handler.headers.put("JMSDeliveryMode",
+                    storedMessage.persistent() ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT);
+            handler.headers.put("JMSTimestamp", storedMessage.putTimeMillis());
+            if (!storedMessage.replyToQueueName().isEmpty()) {
+                handler.headers.put("JMSReplyTo", queue(storedMessage.replyToQueueName()));
+            }
+            return handler.message;
+        }
+    }
+
+    private static final class MessageHandler {
+        private final Map<String, Object> headers = new HashMap<>();
+        private final Map<String, Object> properties = new LinkedHashMap<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final Message message;
+        private Runnable onAcknowledge;
+        private String text;
+        private byte[] readBuffer = new byte[0];
+        private int readPosition;
+
+        private MessageHandler(boolean text) {
+            this.message = text ? proxy(TextMessage.class, this::invoke) : proxy(BytesMessage.class, this::invoke);
+        }
+
+        private Object invoke(Method method, Object[] args) {
+            String name = method.getName();
+            switch (name) {
+                case "writeBytes" -> {
+                    byte[] bytes = (byte[]) args[0];
+                    int offset = args.length > 1 ? (int) args[1] : 0;
+                    int length = args.length > 2 ? (int) args[2] : bytes.length;
+                    this.body.write(bytes, offset, length);
+                    return null;
+                }
+                case "reset" -> {
+                    reset();
+                    return null;
+                }
+                case "getBodyLength" -> {
+                    return (long) this.readBuffer.length;
+                }
+                case "readBytes" -> {
+                    byte[] bytes = (byte[]) args[0];
+                    int requested = args.length > 1 ? (int) args[1] : bytes.length;
+                    int length = Math.min(requested, this.readBuffer.length - this.readPosition);
+                    System.arraycopy(this.readBuffer, this.readPosition, bytes, 0, length);
+                    this.readPosition += length;
+                    return length == 0 ? -1 : length;
+                }
+                case "setText" -> {
+                    this.text = (String) args[0];
+                    return null;
+                }
+                case "getText" -> {
+                    return this.text;
+                }
+                case "getPropertyNames" -> {
+                    return Collections.enumeration(this.properties.keySet());
+                }
+                case "propertyExists" -> {
+                    return this.properties.containsKey((String) args[0]);
+                }
+                case "clearProperties" -> {
+                    this.properties.clear();
+                    return null;
+                }
+                case "acknowledge" -> {
+                    // As with IBM MQ, all the messages received by the session so far are acknowledged.
+                    if (Objects.nonNull(this.onAcknowledge)) {
+                        this.onAcknowledge.run();
+                    }
+                    return null;
+                }
+                case "getJMSCorrelationID" -> {
+                    byte[] correlationId = (byte[]) this.headers.get("JMSCorrelationIDAsBytes");
+                    return Objects.isNull(correlationId) ? null : new String(correlationId, StandardCharsets.UTF_8);
+                }
+                case "setJMSCorrelationID" -> {
+                    String correlationId = (String) args[0];
+                    this.headers.put("JMSCorrelationIDAsBytes",
+                            Objects.isNull(correlationId) ? null : correlationId.getBytes(StandardCharsets.UTF_8));
+                    return null;
+                }
+                case "toString" -> {
+                    return "InMemoryMessage" + this.headers;
+                }
+                default -> {
+                    return invokeAccessor(method, name, args);
+                }
+            }
+        }
+
+        private void reset() {
+            this.readBuffer = this.body.toByteArray();
+            this.readPosition = 0;
+        }
+
+        private Object invokeAccessor(Method method, String name, Object[] args) {
+            if (name.startsWith("setJMS")) {
+                this.headers.put(name.substring(3), args[0]);
+                return null;
+            }
+            if (name.startsWith("getJMS")) {
+                return valueOrDefault(method, this.headers.get(name.substring(3)));
+            }
+            if (name.startsWith("set") && name.endsWith("Property")) {
+                this.properties.put((String) args[0], args[1]);
+                return null;
+            }
+            if (name.startsWith("get") && name.endsWith("Property")) {
+                Object value = this.properties.get((String) args[0]);
+                if (method.getReturnType() == String.class) {
+                    return Objects.isNull(value) ? null : value.toString();
+                }
+                return valueOrDefault(method, value);
+            }
+            throw new UnsupportedOperationException(name);
+        }
+
+        private static Object valueOrDefault(Method method, Object value) {
+            return Objects.nonNull(value) ? value : PRIMITIVE_DEFAULTS.get(method.getReturnType());
+        }
+    }
+}
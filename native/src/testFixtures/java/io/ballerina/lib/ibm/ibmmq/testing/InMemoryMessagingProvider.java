@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import io.ballerina.lib.ibm.ibmmq.DestinationHandle;
+import io.ballerina.lib.ibm.ibmmq.MessagingProvider;
+import io.ballerina.lib.ibm.ibmmq.QueueManagerConnection;
+import io.ballerina.lib.ibm.ibmmq.config.QueueManagerConfiguration;
+
+import java.util.Objects;
+
+import javax.jms.Connection;
+
+/**
+ * Serves the connections to the running {@link InMemoryQueueManager}s. It is installed when the first in-memory
+ * queue manager is started, hence the connections are only taken over by a test or a benchmark which starts one.
+ *
+ * @since 1.4.3
+ */
+final class InMemoryMessagingProvider implements MessagingProvider {
+    static final InMemoryMessagingProvider INSTANCE = new InMemoryMessagingProvider();
+
+    private InMemoryMessagingProvider() {
+    }
+
+    @Override
+    public boolean accepts(QueueManagerConfiguration config) {
+        return InMemoryQueueManager.find(config.queueManagerName()).isPresent();
+    }
+
+    @Override
+    public QueueManagerConnection connect(QueueManagerConfiguration config) {
+        return new InMemoryConnection(getQueueManager(config), new UnitOfWork());
+    }
+
+    @Override
+    public Connection createJmsConnection(QueueManagerConfiguration config) {
+        return InMemoryJms.connection(getQueueManager(config));
+    }
+
+    private static InMemoryQueueManager getQueueManager(QueueManagerConfiguration config) {
+        return InMemoryQueueManager.find(config.queueManagerName()).orElseThrow(() -> new IllegalStateException(
+                String.format("The in-memory queue manager %s is not running", config.queueManagerName())));
+    }
+
+    private record InMemoryConnection(InMemoryQueueManager queueManager, UnitOfWork unitOfWork)
+            implements QueueManagerConnection {
+
+        @Override
+        public DestinationHandle accessQueue(String queueName, int options, String dynamicQueueName) {
+            InMemoryDestination queue = Objects.isNull(dynamicQueueName) ? this.queueManager.queue(queueName) :
+                    this.queueManager.createDynamicQueue(dynamicQueueName);
+            return InMemoryDestinationHandle.forQueue(this.queueManager, this.unitOfWork, queue);
+        }
+
+        @Override
+        public DestinationHandle accessTopic(String topicName, String topicString, int openTopicOption,
+                                             int options) {
+            // Administrative topic objects are not defined, hence the topic string is used when it is given.
+            String topic = Objects.isNull(topicString) || topicString.isEmpty() ? topicName : topicString;
+            if (openTopicOption == CMQC.MQTOPIC_OPEN_AS_SUBSCRIPTION) {
+                return InMemoryDestinationHandle.forSubscriber(this.queueManager, this.unitOfWork, topic);
+            }
+            return InMemoryDestinationHandle.forPublisher(this.queueManager, this.unitOfWork, topic);
+        }
+
+        @Override
+        public void commit() {
+            this.unitOfWork.commit();
+        }
+
+        @Override
+        public void backout() {
+            this.unitOfWork.backout();
+        }
+
+        @Override
+        public void disconnect() {
+            // As with IBM MQ, the uncommitted unit of work is backed out when the connection ends.
+            this.unitOfWork.backout();
+        }
+
+        @Override
+        public MQQueueManager getQueueManager() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import io.ballerina.lib.ibm.ibmmq.TestMessagingProviders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process stand-in of an IBM MQ queue manager, which lets the queue and topic clients and the listener be driven
+ * without a running queue manager. While an in-memory queue manager is running, the connections to a queue manager of
+ * the same name are served by it instead of by IBM MQ.
+ * <p>
+ * Queues are defined on their first use and topics deliver each published message to all of their subscriptions.
+ * The messages put or got under a syncpoint, or by a transacted or client acknowledged JMS session, are a part of a
+ * unit of work, which delivers the put messages when it is committed and returns the got messages to their
+ * destinations when it is backed out. The open JMS connections can be broken, so that the recovery of the listener can
+ * be exercised. The message selectors and the features built directly on the IBM MQ classes, such as the forwarder,
+ * the requestor and the backout requeue of the listener, are not supported, and the PCF inquiries fail with
+ * {@code MQRC_FUNCTION_NOT_SUPPORTED}.
+ *
+ * @since 1.4.3
+ */
+public final class InMemoryQueueManager {
+    private static final Map<String, InMemoryQueueManager> RUNNING = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Map<String, InMemoryDestination> queues = new ConcurrentHashMap<>();
+    private final Map<String, Set<InMemoryDestination>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, InMemoryDestination> namedSubscriptions = new ConcurrentHashMap<>();
+    private final Set<Runnable> connectionBreakers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private InMemoryQueueManager(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Starts an in-memory queue manager, or returns the one which is already running with the given name.
+     *
+     * @param name the name of the queue manager, as given in the queue manager configuration
+     * @return the running queue manager
+     */
+    public static InMemoryQueueManager start(String name) {
+        TestMessagingProviders.install(InMemoryMessagingProvider.INSTANCE);
+        return RUNNING.computeIfAbsent(name, InMemoryQueueManager::new);
+    }
+
+    static Optional<InMemoryQueueManager> find(String name) {
+        return Optional.ofNullable(RUNNING.get(name));
+    }
+
+    /**
+     * Stops the queue manager. The connections established afterwards are served by IBM MQ again.
+     */
+    public void stop() {
+        RUNNING.remove(this.name, this);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Breaks the JMS connections which are open, as a failure of the network or of the queue manager does. The
+     * exception listeners of the connections are notified and the receives of their consumers fail, while the
+     * connections established afterwards are not affected.
+     */
+    public void breakConnections() {
+        for (Runnable breaker : List.copyOf(this.connectionBreakers)) {
+            this.connectionBreakers.remove(breaker);
+            breaker.run();
+        }
+    }
+
+    void addConnection(Runnable breaker) {
+        this.connectionBreakers.add(breaker);
+    }
+
+    void removeConnection(Runnable breaker) {
+        this.connectionBreakers.remove(breaker);
+    }
+
+    /**
+     * Returns the queue with the given name, which is defined if it does not exist yet.
+     *
+     * @param queueName the name of the queue
+     * @return the queue
+     */
+    public InMemoryDestination queue(String queueName) {
+        return this.queues.computeIfAbsent(queueName, InMemoryDestination::new);
+    }
+
+    /**
+     * Creates a dynamic queue. A trailing asterisk in the name is replaced with a unique suffix.
+     */
+    InMemoryDestination createDynamicQueue(String dynamicQueueName) {
+        String queueName = dynamicQueueName.endsWith("*") ?
+                dynamicQueueName.substring(0, dynamicQueueName.length() - 1) +
+                        Long.toHexString(this.sequence.incrementAndGet()).toUpperCase() :
+                dynamicQueueName;
+        return queue(queueName);
+    }
+
+    void publish(String topicString, StoredMessage message) {
+        for (InMemoryDestination subscription : this.subscriptions.getOrDefault(topicString, Set.of())) {
+            subscription.put(message);
+        }
+    }
+
+    InMemoryDestination subscribe(String topicString) {
+        InMemoryDestination subscription = new InMemoryDestination(topicString);
+        this.subscriptions.computeIfAbsent(topicString, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Returns the named subscription to a topic, which is created if it does not exist yet. A named subscription is
+     * kept when its consumers are closed, so that it is resumed by the next consumer of the same name.
+     */
+    InMemoryDestination subscribe(String topicString, String subscriptionName) {
+        return this.namedSubscriptions.computeIfAbsent(topicString + "/" + subscriptionName,
+                key -> subscribe(topicString));
+    }
+
+    void unsubscribe(String topicString, InMemoryDestination subscription) {
+        Set<InMemoryDestination> topicSubscriptions = this.subscriptions.get(topicString);
+        if (topicSubscriptions != null) {
+            topicSubscriptions.remove(subscription);
+        }
+    }
+
+    /**
+     * Creates a unique message identifier, as the queue manager does when a message is put without one.
+     */
+    byte[] newMessageId() {
+        return ByteBuffer.allocate(24).put("AMQ ".getBytes(StandardCharsets.US_ASCII)).putLong(System.nanoTime())
+                .putLong(this.sequence.incrementAndGet()).array();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import java.util.Map;
+
+/**
+ * A message held by the in-memory queue manager. The message is shared between the MQI and the JMS clients, hence it
+ * only holds the fields which are common to both.
+ *
+ * @param body             the message body, including any MQ headers
+ * @param properties       the message properties
+ * @param format           the format of the message body
+ * @param messageId        the message identifier
+ * @param correlationId    the correlation identifier
+ * @param priority         the message priority
+ * @param persistent       whether the message is persistent
+ * @param replyToQueueName the name of the reply queue, or an empty string
+ * @param putTimeMillis    the time at which the message was put
+ * @param backoutCount     the number of times the message was got and backed out
+ *
+ * @since 1.4.3
+ */
+public record StoredMessage(byte[] body, Map<String, Object> properties, String format, byte[] messageId,
+                            byte[] correlationId, int priority, boolean persistent, String replyToQueueName,
+                            long putTimeMillis, int backoutCount) {
+
+    public StoredMessage {
+        properties = Map.copyOf(properties);
+    }
+
+    /**
+     * Returns the message as it is returned to its destination when the unit of work which got it is backed out.
+     *
+     * @return the message with its backout count incremented
+     */
+    public StoredMessage backedOut() {
+        return new StoredMessage(this.body, this.properties, this.format, this.messageId, this.correlationId,
+                this.priority, this.persistent, this.replyToQueueName, this.putTimeMillis, this.backoutCount + 1);
+    }
+}
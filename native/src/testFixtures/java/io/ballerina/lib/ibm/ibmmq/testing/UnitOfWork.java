@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.ibm.ibmmq.testing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The unit of work of a connection or a transacted session of the in-memory queue manager. The messages put under the
+ * unit of work are delivered when it is committed, and the messages got under it are returned to the head of their
+ * destination, with their backout count incremented, when it is backed out.
+ *
+ * @since 1.4.3
+ */
+final class UnitOfWork {
+    private final List<Runnable> puts = new ArrayList<>();
+    private final List<Got> gets = new ArrayList<>();
+
+    synchronized void put(Runnable delivery) {
+        this.puts.add(delivery);
+    }
+
+    synchronized void got(InMemoryDestination source, StoredMessage message) {
+        this.gets.add(new Got(source, message));
+    }
+
+    synchronized void commit() {
+        for (Runnable delivery : this.puts) {
+            delivery.run();
+        }
+        this.puts.clear();
+        this.gets.clear();
+    }
+
+    synchronized void backout() {
+        this.puts.clear();
+        // The messages are returned in the reverse order, so that they are got again in the order they were got.
+        for (int i = this.gets.size() - 1; i >= 0; i--) {
+            Got got = this.gets.get(i);
+            got.source().putFirst(got.message().backedOut());
+        }
+        this.gets.clear();
+    }
+
+    private record Got(InMemoryDestination source, StoredMessage message) {
+    }
+}